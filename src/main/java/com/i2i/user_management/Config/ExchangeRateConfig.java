@@ -1,9 +1,36 @@
 package com.i2i.user_management.Config;
 
+import com.i2i.user_management.Constants.UMSConstants;
+import com.i2i.user_management.Integration.Client.ExchangeRateClient;
+import com.i2i.user_management.Integration.Client.Impl.CachingExchangeRateClientImpl;
+import com.i2i.user_management.Integration.Client.Impl.ResilientExchangeRateClientImpl;
+import com.i2i.user_management.Integration.Client.Impl.SingleFlightExchangeRateClientImpl;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Configuration for connecting to the External API.
@@ -14,10 +41,131 @@ public class ExchangeRateConfig {
     @Value("${fast.forex.base-url}")
     private String BASE_URL;
 
+    @Value("${fast.forex.cache.ttl-minutes}")
+    private long cacheTtlMinutes;
+
+    @Value("${fast.forex.cache.stale-ttl-seconds}")
+    private long cacheStaleTtlSeconds;
+
+    @Value("${fast.forex.cache.refresh-ahead-minutes}")
+    private long cacheRefreshAheadMinutes;
+
+    @Value("${fast.forex.cache.maximum-size}")
+    private long cacheMaximumSize;
+
+    @Value("${fast.forex.http.connect-timeout-ms}")
+    private int connectTimeoutMs;
+
+    @Value("${fast.forex.http.read-timeout-ms}")
+    private long readTimeoutMs;
+
+    @Value("${fast.forex.http.max-connections}")
+    private int maxConnections;
+
+    @Value("${fast.forex.http.pending-acquire-timeout-ms}")
+    private long pendingAcquireTimeoutMs;
+
+    @Value("${fast.forex.circuit-breaker.failure-rate-threshold}")
+    private float failureRateThreshold;
+
+    @Value("${fast.forex.circuit-breaker.sliding-window-size}")
+    private int slidingWindowSize;
+
+    @Value("${fast.forex.circuit-breaker.wait-in-open-state-seconds}")
+    private long waitInOpenStateSeconds;
+
+    @Value("${fast.forex.bulkhead.max-concurrent-calls}")
+    private int bulkheadMaxConcurrentCalls;
+
+    @Value("${fast.forex.bulkhead.max-wait-ms}")
+    private long bulkheadMaxWaitMs;
+
+    /**
+     * WebClient for the exchange rate provider. Connections come from a bounded pool
+     * and every request is limited by connect, response and read timeouts, so a slow
+     * provider cannot hold request threads indefinitely.
+     */
     @Bean
     public WebClient exchangeWebClient() {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("fast-forex")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(readTimeoutMs))
+                .doOnConnected(connection -> connection
+                        .addHandlerLast(new ReadTimeoutHandler(readTimeoutMs, TimeUnit.MILLISECONDS)));
         return WebClient.builder()
                 .baseUrl(BASE_URL)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Circuit breaker guarding the exchange rate provider. Rejections by the bulkhead
+     * are not counted as provider failures.
+     */
+    @Bean
+    public CircuitBreaker exchangeRateCircuitBreaker(MeterRegistry meterRegistry) {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(slidingWindowSize)
+                .waitDurationInOpenState(Duration.ofSeconds(waitInOpenStateSeconds))
+                .ignoreExceptions(BulkheadFullException.class)
+                .build());
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry.circuitBreaker(UMSConstants.EXCHANGE_RATE_PROVIDER);
+    }
+
+    /**
+     * Bulkhead limiting the number of concurrent calls to the exchange rate provider.
+     */
+    @Bean
+    public Bulkhead exchangeRateBulkhead(MeterRegistry meterRegistry) {
+        BulkheadRegistry registry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(bulkheadMaxConcurrentCalls)
+                .maxWaitDuration(Duration.ofMillis(bulkheadMaxWaitMs))
+                .build());
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+        return registry.bulkhead(UMSConstants.EXCHANGE_RATE_PROVIDER);
+    }
+
+    /**
+     * Exchange rate client used by the services. Wraps the provider client with an
+     * in-process rate cache so that page mapping and reports do not pay a provider
+     * round-trip for every row, with single-flight coalescing so that concurrent misses
+     * for the same currency share one provider call, and with a circuit breaker and
+     * bulkhead that fall back to the last known rate when the provider fails.
+     *
+     * @param provider client that talks to the exchange rate provider
+     * @param exchangeRateCircuitBreaker circuit breaker guarding the provider
+     * @param exchangeRateBulkhead bulkhead limiting concurrent provider calls
+     * @param meterRegistry registry the cache and coalescing metrics are published to
+     * @return caching exchange rate client
+     */
+    @Bean
+    @Primary
+    public CachingExchangeRateClientImpl exchangeRateClient(
+            @Qualifier(UMSConstants.EXCHANGE_RATE_PROVIDER) ExchangeRateClient provider,
+            CircuitBreaker exchangeRateCircuitBreaker,
+            Bulkhead exchangeRateBulkhead,
+            MeterRegistry meterRegistry) {
+        ExchangeRateClient resilientProvider = new ResilientExchangeRateClientImpl(provider,
+                exchangeRateCircuitBreaker, exchangeRateBulkhead);
+        SingleFlightExchangeRateClientImpl singleFlightProvider =
+                new SingleFlightExchangeRateClientImpl(resilientProvider);
+        FunctionCounter.builder("exchange.rates.coalesced.calls", singleFlightProvider,
+                        SingleFlightExchangeRateClientImpl::getCoalescedCalls)
+                .description("Provider calls saved by joining an in-flight lookup")
+                .register(meterRegistry);
+        CachingExchangeRateClientImpl client = new CachingExchangeRateClientImpl(singleFlightProvider,
+                Duration.ofMinutes(cacheTtlMinutes),
+                Duration.ofSeconds(cacheStaleTtlSeconds),
+                Duration.ofMinutes(cacheRefreshAheadMinutes),
+                cacheMaximumSize);
+        CaffeineCacheMetrics.monitor(meterRegistry, client.getRateCache(), "exchangeRates");
+        return client;
+    }
+}
@@ -0,0 +1,134 @@
+package com.i2i.user_management.Config;
+
+import com.i2i.user_management.Integration.Client.Impl.CachingExchangeRateClientImpl;
+import com.i2i.user_management.Integration.Registry.CurrencyRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ExchangeRateWarmer loads the exchange rates of the supported currencies into the
+ * rate cache at startup, before the application reports ready, and refreshes them
+ * on a schedule shorter than the cache TTL, so that request threads do not wait on
+ * the exchange rate provider.
+ *
+ * <p>By default the whole rate table the provider quotes is loaded with one
+ * {@code fetch-all} call, so a warm-up or refresh costs one provider call and only
+ * covers currencies the provider actually lists. When hot currencies are
+ * configured, only those are warmed, in bulk batches; codes that are not in the
+ * {@link CurrencyRegistry} are skipped, and a failed batch is logged and skipped.
+ * The refresh runs more often than the cache's refresh-ahead, so warmed entries are
+ * replaced by the next refresh instead of being reloaded one by one.</p>
+ */
+@Slf4j
+@Component
+public class ExchangeRateWarmer implements CommandLineRunner {
+
+    private final CachingExchangeRateClientImpl exchangeRateClient;
+
+    private final CurrencyRegistry currencyRegistry;
+
+    private final boolean enabled;
+
+    private final Set<String> hotCurrencies;
+
+    private final int batchSize;
+
+    public ExchangeRateWarmer(CachingExchangeRateClientImpl exchangeRateClient,
+                              CurrencyRegistry currencyRegistry,
+                              @Value("${fast.forex.warmup.enabled}") boolean enabled,
+                              @Value("${fast.forex.warmup.currencies}") Set<String> hotCurrencies,
+                              @Value("${fast.forex.warmup.batch-size}") int batchSize,
+                              @Value("${fast.forex.warmup.refresh-interval-minutes}") long refreshIntervalMinutes,
+                              @Value("${fast.forex.cache.refresh-ahead-minutes}") long cacheRefreshAheadMinutes) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Warm-up batch size must be positive");
+        }
+        if (enabled && refreshIntervalMinutes >= cacheRefreshAheadMinutes) {
+            throw new IllegalArgumentException(
+                    "Warm-up refresh interval must be shorter than the cache refresh-ahead interval");
+        }
+        this.exchangeRateClient = exchangeRateClient;
+        this.currencyRegistry = currencyRegistry;
+        this.enabled = enabled;
+        this.hotCurrencies = normalise(hotCurrencies);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(String... args) {
+        if (!enabled) {
+            log.info("exchange rate warm-up is disabled.");
+            return;
+        }
+        log.info("starting exchange rate warm-up...");
+        int loaded = warm();
+        log.info("exchange rate warm-up completed with {} rates loaded.", loaded);
+    }
+
+    /**
+     * Reloads the warmed currencies before their cache entries expire.
+     */
+    @Scheduled(initialDelayString = "${fast.forex.warmup.refresh-interval-minutes}",
+            fixedDelayString = "${fast.forex.warmup.refresh-interval-minutes}",
+            timeUnit = TimeUnit.MINUTES)
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        int loaded = warm();
+        log.debug("Scheduled exchange rate refresh loaded {} rates", loaded);
+    }
+
+    /**
+     * Loads the whole rate table, or the hot currencies in batches when configured.
+     *
+     * @return number of rates loaded
+     */
+    private int warm() {
+        if (hotCurrencies.isEmpty()) {
+            try {
+                return exchangeRateClient.refreshTable();
+            } catch (Exception e) {
+                log.warn("Failed to warm the exchange rate table: {}", e.getMessage());
+                return 0;
+            }
+        }
+        List<String> currencies = new ArrayList<>();
+        for (String currency : hotCurrencies) {
+            if (currencyRegistry.isSupported(currency)) {
+                currencies.add(currency);
+            } else {
+                log.warn("Skipping warm-up of unsupported currency {}", currency);
+            }
+        }
+        int loaded = 0;
+        for (int from = 0; from < currencies.size(); from += batchSize) {
+            Set<String> batch = Set.copyOf(currencies.subList(from, Math.min(from + batchSize, currencies.size())));
+            try {
+                loaded += exchangeRateClient.refreshAll(batch);
+            } catch (Exception e) {
+                log.warn("Failed to warm exchange rates for {}: {}", batch, e.getMessage());
+            }
+        }
+        return loaded;
+    }
+
+    private static Set<String> normalise(Set<String> currencies) {
+        Set<String> normalised = new LinkedHashSet<>();
+        for (String currency : currencies) {
+            if (!currency.isBlank()) {
+                normalised.add(currency.trim().toUpperCase());
+            }
+        }
+        return normalised;
+    }
+}
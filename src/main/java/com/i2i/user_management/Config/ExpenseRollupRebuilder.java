@@ -0,0 +1,51 @@
+package com.i2i.user_management.Config;
+
+import com.i2i.user_management.Repository.ExpenseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * ExpenseRollupRebuilder recomputes the monthly approved-expense rollups from the
+ * expenses when the application is started with {@value #REBUILD_OPTION}, for
+ * example after approved expenses were corrected directly in the database. It is a
+ * one-off maintenance command: once the rebuild has committed, the application
+ * shuts down instead of serving requests.
+ */
+@Slf4j
+@Component
+public class ExpenseRollupRebuilder implements ApplicationRunner {
+
+    static final String REBUILD_OPTION = "rebuild-rollups";
+
+    private final ExpenseRepository expenseRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ConfigurableApplicationContext applicationContext;
+
+    public ExpenseRollupRebuilder(ExpenseRepository expenseRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  ConfigurableApplicationContext applicationContext) {
+        this.expenseRepository = expenseRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption(REBUILD_OPTION)) {
+            return;
+        }
+        log.info("Rebuilding approved expense rollups...");
+        Integer rows = transactionTemplate.execute(status -> expenseRepository.rebuildRollups());
+        log.info("Rebuilt approved expense rollups with {} employee month rows, shutting down", rows);
+        // The context is closed only after the rebuild has committed.
+        System.exit(SpringApplication.exit(applicationContext, () -> 0));
+    }
+}
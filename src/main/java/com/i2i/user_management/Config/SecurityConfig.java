@@ -78,8 +78,10 @@ public class SecurityConfig {
                             .requestMatchers("/users", "/users/*/reset-password", "/users/email/*",
                                     "/roles/create", "/roles/all", "/roles/*", "/roles/name/*", "/roles/assign/*")
                                     .hasAuthority(UMSConstants.SUPER_ADMIN_ROLE)
-                            .requestMatchers("/expenses/*/action", "/expenses/all",
-                                    "/expenses/report/approved-per-employee", "/expenses/report/by-currency")
+                            .requestMatchers("/expenses/*/action", "/expenses/actions", "/expenses/all",
+                                    "/expenses/all/cursor", "/expenses/export", "/expenses/search",
+                                    "/expenses/report/approved-per-employee", "/expenses/report/by-currency",
+                                    "/expenses/report/jobs", "/expenses/report/jobs/**")
                                     .hasAuthority(UMSConstants.FINANCE_ADMIN_ROLE)
                             .requestMatchers("/users/change-password", "/expenses",
                                     "/expenses/*", "/expenses/update", "/expenses/currencies")
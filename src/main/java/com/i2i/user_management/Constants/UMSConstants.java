@@ -16,4 +16,6 @@ public class UMSConstants {
 
     public static final String INR = "INR";
 
+    public static final String EXCHANGE_RATE_PROVIDER = "exchangeRateProvider";
+
 }
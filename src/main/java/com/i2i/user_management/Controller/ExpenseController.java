@@ -1,19 +1,33 @@
 package com.i2i.user_management.Controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.i2i.user_management.Dto.BatchExpenseRequestDto;
+import com.i2i.user_management.Dto.BulkExpenseActionDto;
 import com.i2i.user_management.Dto.CurrencySummaryDto;
+import com.i2i.user_management.Dto.CursorPageDto;
 import com.i2i.user_management.Dto.EmployeeExpenseSummaryDto;
+import com.i2i.user_management.Dto.ExpenseActionResultDto;
 import com.i2i.user_management.Dto.ExpenseApprovalDto;
+import com.i2i.user_management.Dto.ExpenseExportSnapshot;
 import com.i2i.user_management.Dto.ExpenseRequestDto;
 import com.i2i.user_management.Dto.ExpenseResponseDto;
+import com.i2i.user_management.Dto.ExpenseSubmissionResultDto;
+import com.i2i.user_management.Dto.ReportJobDto;
+import com.i2i.user_management.Dto.ReportJobRequestDto;
+import com.i2i.user_management.Enum.ExportFormat;
 import com.i2i.user_management.Helper.SecurityContextHelper;
 import com.i2i.user_management.Service.ExpenseService;
+import com.i2i.user_management.Service.ReportJobService;
+import com.i2i.user_management.util.ExpenseExportWriter;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -21,14 +35,23 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * REST controller that handles expense-related operations.
@@ -39,9 +62,14 @@ public class ExpenseController {
 
     private static final Logger log = LoggerFactory.getLogger(ExpenseController.class);
     private final ExpenseService expenseService;
+    private final ReportJobService reportJobService;
+    private final ObjectMapper objectMapper;
 
-    public ExpenseController(ExpenseService expenseService) {
+    public ExpenseController(ExpenseService expenseService, ReportJobService reportJobService,
+                             ObjectMapper objectMapper) {
         this.expenseService = expenseService;
+        this.reportJobService = reportJobService;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -58,18 +86,65 @@ public class ExpenseController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * Endpoint for employees to submit several expense claims at once, such as all
+     * receipts of a trip. Valid items are created together; invalid items are
+     * reported with the reason and not created.
+     *
+     * @param request DTO containing up to {@value BatchExpenseRequestDto#MAX_EXPENSES} expenses
+     * @return Result of every item, with the created expense or the error
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<ExpenseSubmissionResultDto>> submitExpenses(
+            @Valid @RequestBody BatchExpenseRequestDto request) {
+        String email = SecurityContextHelper.extractEmailFromContext();
+        log.info("User {} is submitting {} expenses", email, request.getExpenses().size());
+        return ResponseEntity.ok(expenseService.submitExpenses(request.getExpenses(), email));
+    }
+
     /**
      * Endpoint for employees to view all their submitted expenses.
+     * Responses carry an ETag; a request whose {@code If-None-Match} still matches
+     * is answered with 304 Not Modified without reading the page.
      *
+     * @param targetCurrency optional reporting currency the amounts are also given in
      * @param pageable pagination parameters (page, size, sort)
-     * @return Page of the user's expenses with current status
+     * @param webRequest current request, used for the conditional request headers
+     * @return Page of the user's expenses with current status, or 304 when unchanged
      */
     @GetMapping
-    public ResponseEntity<Page<ExpenseResponseDto>> getMyExpenses(Pageable pageable) {
+    public ResponseEntity<Page<ExpenseResponseDto>> getMyExpenses(
+            @RequestParam(required = false) String targetCurrency,
+            Pageable pageable,
+            WebRequest webRequest) {
         String email = SecurityContextHelper.extractEmailFromContext();
+        String eTag = expenseService.getExpensesETagForCurrentUser(email, targetCurrency, pageable);
+        if (webRequest.checkNotModified(eTag)) {
+            log.debug("Expenses of user {} not modified", email);
+            return null;
+        }
         log.debug("Fetching expenses for user {}", email);
-        Page<ExpenseResponseDto> page = expenseService.getExpensesForCurrentUser(email, pageable);
-        return ResponseEntity.ok(page);
+        Page<ExpenseResponseDto> page = expenseService.getExpensesForCurrentUser(email, targetCurrency, pageable);
+        return ResponseEntity.ok().eTag(eTag).body(page);
+    }
+
+    /**
+     * Endpoint for employees to page through their expenses with a cursor, newest first.
+     * Suited to long listings: every page costs the same and no total count is computed.
+     *
+     * @param cursor continuation token from the previous page; omit for the first page
+     * @param size number of expenses per page
+     * @param targetCurrency optional reporting currency the amounts are also given in
+     * @return Page of the user's expenses with the token of the next page
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDto<ExpenseResponseDto>> getMyExpensesByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String targetCurrency) {
+        String email = SecurityContextHelper.extractEmailFromContext();
+        log.debug("Fetching expenses for user {} after cursor {}", email, cursor);
+        return ResponseEntity.ok(expenseService.getExpensesForCurrentUserByCursor(email, targetCurrency, cursor, size));
     }
 
     /**
@@ -127,19 +202,126 @@ public class ExpenseController {
      * @param status optional filter for expense status
      * @param from optional start date
      * @param to optional end date
+     * @param targetCurrency optional reporting currency the amounts are also given in
      * @param pageable pagination settings
-     * @return Filtered and paginated list of expenses
+     * @param webRequest current request, used for the conditional request headers
+     * @return Filtered and paginated list of expenses, or 304 when unchanged
      */
     @GetMapping("/all")
     public ResponseEntity<Page<ExpenseResponseDto>> getAllExpensesForAdmin(
             @RequestParam(required = false) String status,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
-            Pageable pageable) {
+            @RequestParam(required = false) String targetCurrency,
+            Pageable pageable,
+            WebRequest webRequest) {
 
+        String eTag = expenseService.getExpensesETagForAdmin(status, from, to, targetCurrency, pageable);
+        if (webRequest.checkNotModified(eTag)) {
+            log.debug("Admin expenses with filters status={}, from={}, to={} not modified", status, from, to);
+            return null;
+        }
         log.debug("Admin fetching expenses with filters: status={}, from={}, to={}", status, from, to);
-        Page<ExpenseResponseDto> page = expenseService.getExpensesForAdmin(status, from, to, pageable);
-        return ResponseEntity.ok(page);
+        Page<ExpenseResponseDto> page = expenseService.getExpensesForAdmin(status, from, to, targetCurrency, pageable);
+        return ResponseEntity.ok().eTag(eTag).body(page);
+    }
+
+    /**
+     * Admin endpoint to page through all expenses with a cursor, newest first,
+     * with the same optional filters as {@code /expenses/all}.
+     *
+     * @param status optional filter for expense status
+     * @param from optional start date
+     * @param to optional end date
+     * @param targetCurrency optional reporting currency the amounts are also given in
+     * @param cursor continuation token from the previous page; omit for the first page
+     * @param size number of expenses per page
+     * @return Filtered expenses with the token of the next page
+     */
+    @GetMapping("/all/cursor")
+    public ResponseEntity<CursorPageDto<ExpenseResponseDto>> getAllExpensesForAdminByCursor(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String targetCurrency,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        log.debug("Admin fetching expenses with filters: status={}, from={}, to={}, cursor={}",
+                status, from, to, cursor);
+        return ResponseEntity.ok(expenseService.getExpensesForAdminByCursor(status, from, to, targetCurrency,
+                cursor, size));
+    }
+
+    /**
+     * Admin endpoint to search expenses by keywords in their title and description,
+     * best matches first, with the same optional filters as {@code /expenses/all}.
+     *
+     * @param q search text; quoted phrases, {@code or} and {@code -word} are supported
+     * @param status optional filter for expense status
+     * @param from optional start date
+     * @param to optional end date
+     * @param targetCurrency optional reporting currency the amounts are also given in
+     * @param cursor continuation token from the previous page; omit for the first page
+     * @param size number of expenses per page
+     * @return Matching expenses with the token of the next page
+     */
+    @GetMapping("/search")
+    public ResponseEntity<CursorPageDto<ExpenseResponseDto>> searchExpenses(
+            @RequestParam String q,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String targetCurrency,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        log.debug("Admin searching expenses for '{}' with filters: status={}, from={}, to={}, cursor={}",
+                q, status, from, to, cursor);
+        return ResponseEntity.ok(expenseService.searchExpenses(q, status, from, to, targetCurrency, cursor, size));
+    }
+
+    /**
+     * Admin endpoint to export all expenses matching the optional filters as NDJSON or CSV.
+     * Rows are streamed from the database as they are written, and the response is
+     * gzip-compressed when the client accepts it. Amounts without a stored INR value
+     * are converted with rates looked up once before the export starts.
+     *
+     * @param format export format, {@code ndjson} or {@code csv}
+     * @param status optional filter for expense status
+     * @param from optional start date
+     * @param to optional end date
+     * @param targetCurrency optional reporting currency the amounts are also given in
+     * @param acceptEncoding Accept-Encoding header of the request
+     * @return streamed export file
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportExpenses(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String targetCurrency,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        ExpenseExportSnapshot snapshot = expenseService.prepareExport(status, from, to, targetCurrency);
+        boolean gzip = acceptsGzip(acceptEncoding);
+        log.info("Admin exporting expenses as {} with filters: status={}, from={}, to={}, gzip={}",
+                exportFormat, status, from, to, gzip);
+
+        StreamingResponseBody body = out -> {
+            OutputStream target = gzip ? new GZIPOutputStream(out, 8192) : out;
+            try (ExpenseExportWriter writer = ExpenseExportWriter.open(target, exportFormat, objectMapper)) {
+                expenseService.exportExpenses(snapshot, writer::write);
+            }
+        };
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"expenses." + exportFormat.getExtension() + "\"")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
     }
 
     /**
@@ -158,20 +340,38 @@ public class ExpenseController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Admin endpoint to approve or reject many pending expenses in one transaction.
+     * Every action gets its own outcome: applied, conflict (not pending or own
+     * expense) or not found.
+     *
+     * @param dto up to {@value BulkExpenseActionDto#MAX_ACTIONS} actions of expense ID, status and reason
+     * @return outcome of every action, in request order
+     */
+    @PostMapping("/actions")
+    public ResponseEntity<List<ExpenseActionResultDto>> applyExpenseActions(
+            @Valid @RequestBody BulkExpenseActionDto dto) {
+        String email = SecurityContextHelper.extractEmailFromContext();
+        log.info("Admin {} applying {} expense actions", email, dto.getActions().size());
+        return ResponseEntity.ok(expenseService.applyExpenseActions(dto.getActions(), email));
+    }
+
     /**
      * Admin endpoint to generate report:
      * total approved expense amount per employee within an optional date range.
      *
      * @param from optional start date filter
      * @param to optional end date filter
+     * @param targetCurrency optional reporting currency the totals are also given in
      * @return List of employee-wise total approved expenses in INR
      */
     @GetMapping("/report/approved-per-employee")
     public ResponseEntity<List<EmployeeExpenseSummaryDto>> reportPerEmployee(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String targetCurrency) {
         log.debug("Admin generating employee-wise report from {} to {}", from, to);
-        List<EmployeeExpenseSummaryDto> result = expenseService.reportTotalApprovedPerEmployee(from, to);
+        List<EmployeeExpenseSummaryDto> result = expenseService.reportTotalApprovedPerEmployee(from, to, targetCurrency);
         return ResponseEntity.ok(result);
     }
 
@@ -181,17 +381,111 @@ public class ExpenseController {
      *
      * @param from optional start date
      * @param to optional end date
+     * @param targetCurrency optional reporting currency the totals are also given in
      * @return List of currency-based totals
      */
     @GetMapping("/report/by-currency")
     public ResponseEntity<List<CurrencySummaryDto>> reportByCurrency(
             @RequestParam(required = false) String currency,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String targetCurrency) {
         log.debug("Admin generating currency-based report from {} to {}", from, to);
-        List<CurrencySummaryDto> result = expenseService.reportTotalByCurrency( currency, from, to);
+        List<CurrencySummaryDto> result = expenseService.reportTotalByCurrency( currency, from, to, targetCurrency);
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * Admin endpoint to generate a report in the background, for date ranges too
+     * large to answer within a request. A request with the same specification as a
+     * job still in progress returns that job.
+     *
+     * @param request report type and the filters of the matching report endpoint
+     * @return 202 Accepted with the job status and its location
+     */
+    @PostMapping("/report/jobs")
+    public ResponseEntity<ReportJobDto> submitReportJob(@Valid @RequestBody ReportJobRequestDto request) {
+        String email = SecurityContextHelper.extractEmailFromContext();
+        log.info("Admin {} submitting {} report job from {} to {}", email, request.getType(),
+                request.getFrom(), request.getTo());
+        ReportJobDto job = reportJobService.submitReportJob(request, email);
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}")
+                        .buildAndExpand(job.id()).toUri())
+                .body(job);
+    }
+
+    /**
+     * Admin endpoint to poll the status of a report job.
+     *
+     * @param id report job ID
+     * @return job status, with the row count once completed or the error once failed
+     */
+    @GetMapping("/report/jobs/{id}")
+    public ResponseEntity<ReportJobDto> getReportJob(@PathVariable("id") UUID id) {
+        return ResponseEntity.ok(reportJobService.getReportJob(id));
+    }
+
+    /**
+     * Admin endpoint to download the rows of a completed report job as a JSON array.
+     * The result is stored compressed and sent as is when the client accepts gzip.
+     *
+     * @param id report job ID
+     * @param acceptEncoding Accept-Encoding header, to send the stored gzip body as is
+     * @return JSON array of the report rows
+     */
+    @GetMapping("/report/jobs/{id}/result")
+    public ResponseEntity<StreamingResponseBody> getReportJobResult(
+            @PathVariable("id") UUID id,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        byte[] result = reportJobService.getReportJobResult(id);
+        boolean gzip = acceptsGzip(acceptEncoding);
+        log.debug("Admin downloading report job {}, gzip={}", id, gzip);
 
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                out.write(result);
+                return;
+            }
+            try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(result))) {
+                in.transferTo(out);
+            }
+        };
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"report-" + id + ".json\"")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    /**
+     * Tells whether an Accept-Encoding header accepts gzip, honouring q-values, so
+     * that {@code gzip;q=0} counts as a refusal.
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            if (!"gzip".equalsIgnoreCase(parts[0].trim())) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        return Double.parseDouble(parameter.substring(2).trim()) > 0;
+                    } catch (NumberFormatException e) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        return false;
+    }
 }
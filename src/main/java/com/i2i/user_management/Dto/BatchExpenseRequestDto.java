@@ -0,0 +1,22 @@
+package com.i2i.user_management.Dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO used for submitting several expenses, such as all receipts of a trip, at once.
+ * The items are not validated as a whole; each one is checked by the service and
+ * reported in its own result.
+ */
+@Data
+public class BatchExpenseRequestDto {
+
+    public static final int MAX_EXPENSES = 100;
+
+    @NotEmpty
+    @Size(max = MAX_EXPENSES)
+    private List<ExpenseRequestDto> expenses;
+}
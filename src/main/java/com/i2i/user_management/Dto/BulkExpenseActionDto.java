@@ -0,0 +1,22 @@
+package com.i2i.user_management.Dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO used by Finance Admin to approve or reject many expenses in one request.
+ */
+@Data
+public class BulkExpenseActionDto {
+
+    public static final int MAX_ACTIONS = 500;
+
+    @NotEmpty
+    @Size(max = MAX_ACTIONS)
+    @Valid
+    private List<ExpenseActionDto> actions;
+}
@@ -1,11 +1,10 @@
 package com.i2i.user_management.Dto;
 
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Data;
 import java.math.BigDecimal;
 
 @Data
-@AllArgsConstructor
 public class CurrencySummaryDto {
 
     private String currency;
@@ -14,6 +13,31 @@ public class CurrencySummaryDto {
 
     private BigDecimal totalAmountInInr;
 
+    /**
+     * Part of the original amount whose expenses have no stored INR value
+     * and still need to be converted with a current rate.
+     */
+    @JsonIgnore
+    private BigDecimal unconvertedAmount;
+
+    /**
+     * Whether part of the total could not be converted because no rate was available
+     * for the currency. The INR and target totals then only cover the stored INR amounts.
+     */
+    private boolean partial;
+
+    private String targetCurrency;
+
+    private BigDecimal totalAmountInTarget;
+
+    public CurrencySummaryDto(String currency, BigDecimal totalOriginalAmount,
+                              BigDecimal totalAmountInInr, BigDecimal unconvertedAmount) {
+        this.currency = currency;
+        this.totalOriginalAmount = totalOriginalAmount;
+        this.totalAmountInInr = totalAmountInInr;
+        this.unconvertedAmount = unconvertedAmount;
+    }
+
     public CurrencySummaryDto(String currency, BigDecimal totalOriginalAmount) {
         this.currency = currency;
         this.totalOriginalAmount = totalOriginalAmount;
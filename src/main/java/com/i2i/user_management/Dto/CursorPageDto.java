@@ -0,0 +1,25 @@
+package com.i2i.user_management.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing. Unlike a {@code Page}, it carries no
+ * total count; {@code nextCursor} is passed back to fetch the following page and
+ * is null on the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDto<T> {
+
+    private List<T> content;
+
+    private int size;
+
+    private String nextCursor;
+
+}
@@ -1,6 +1,6 @@
 package com.i2i.user_management.Dto;
 
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
@@ -9,11 +9,11 @@ import java.util.UUID;
 
 /**
  * DTO representing total approved expense per employee,
- * including their total amount and converted INR equivalent.
+ * including their total amount and converted INR equivalent, and optionally
+ * the equivalent in a requested reporting currency.
  */
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 public class EmployeeExpenseSummaryDto {
 
     private String employeeId;
@@ -22,6 +22,32 @@ public class EmployeeExpenseSummaryDto {
     private BigDecimal totalAmount;
     private BigDecimal totalApprovedInInr;
 
+    /**
+     * Part of the total amount whose expenses have no stored INR value
+     * and still need to be converted with a current rate.
+     */
+    @JsonIgnore
+    private BigDecimal unconvertedAmount;
+
+    /**
+     * Whether part of the total could not be converted because no rate was available
+     * for the currency. The INR and target totals then only cover the stored INR amounts.
+     */
+    private boolean partial;
+
+    private String targetCurrency;
+    private BigDecimal totalApprovedInTarget;
+
+    public EmployeeExpenseSummaryDto(String employeeId, String employeeName, String currency, BigDecimal totalAmount,
+                                     BigDecimal totalApprovedInInr, BigDecimal unconvertedAmount) {
+        this.employeeId = employeeId;
+        this.employeeName = employeeName;
+        this.currency = currency;
+        this.totalAmount = totalAmount;
+        this.totalApprovedInInr = totalApprovedInInr;
+        this.unconvertedAmount = unconvertedAmount;
+    }
+
     public EmployeeExpenseSummaryDto(String employeeId, String employeeName, String currency, BigDecimal totalAmount) {
         this.employeeId = employeeId;
         this.employeeName = employeeName;
@@ -0,0 +1,21 @@
+package com.i2i.user_management.Dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.UUID;
+
+/**
+ * One approve or reject action of a bulk request.
+ */
+@Data
+public class ExpenseActionDto {
+
+    @NotNull
+    private UUID id;
+
+    @NotNull
+    private String status;
+
+    private String reason;
+}
@@ -0,0 +1,15 @@
+package com.i2i.user_management.Dto;
+
+import com.i2i.user_management.Enum.ExpenseActionOutcome;
+
+import java.util.UUID;
+
+/**
+ * Result of one action of a bulk approve or reject request.
+ *
+ * @param id expense id of the action
+ * @param outcome whether the action was applied, and if not, why
+ * @param message reason the action was not applied, or null
+ */
+public record ExpenseActionResultDto(UUID id, ExpenseActionOutcome outcome, String message) {
+}
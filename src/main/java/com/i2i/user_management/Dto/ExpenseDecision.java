@@ -0,0 +1,15 @@
+package com.i2i.user_management.Dto;
+
+import com.i2i.user_management.Enum.ExpenseStatus;
+
+import java.util.UUID;
+
+/**
+ * Validated approve or reject decision on one expense.
+ *
+ * @param id expense id
+ * @param status APPROVED or REJECTED
+ * @param reason rejection reason, null for approvals
+ */
+public record ExpenseDecision(UUID id, ExpenseStatus status, String reason) {
+}
@@ -0,0 +1,26 @@
+package com.i2i.user_management.Dto;
+
+import com.i2i.user_management.Enum.ExpenseStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Validated filters of an expense export together with the rates it is converted
+ * with. The rates are looked up once before the first row is written, so every
+ * row of the export is converted with the same rates.
+ *
+ * @param status optional status filter
+ * @param from optional first expense date
+ * @param to optional last expense date
+ * @param targetCurrency upper-case reporting currency, or null
+ * @param ratesToInr INR rates of the currencies of expenses without a stored INR amount
+ * @param staleCurrencies currencies whose rate is a last known value
+ * @param inrToTarget value of one INR in the reporting currency, or null
+ */
+public record ExpenseExportSnapshot(ExpenseStatus status, LocalDate from, LocalDate to, String targetCurrency,
+                                    Map<String, BigDecimal> ratesToInr, Set<String> staleCurrencies,
+                                    BigDecimal inrToTarget) {
+}
@@ -0,0 +1,21 @@
+package com.i2i.user_management.Dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Summary of an expense listing that changes whenever a listed row is added,
+ * changed or removed, read without loading the rows themselves.
+ *
+ * @param lastUpdatedAt latest update time of the listed expenses, or null if there are none
+ * @param count number of listed expenses
+ * @param unconvertedCount number of listed expenses without a stored INR amount
+ */
+public record ExpenseListVersion(LocalDateTime lastUpdatedAt, Long count, Long unconvertedCount) {
+
+    /**
+     * Tells whether some listed amounts are converted with current rates when served.
+     */
+    public boolean hasUnconverted() {
+        return unconvertedCount != null && unconvertedCount > 0;
+    }
+}
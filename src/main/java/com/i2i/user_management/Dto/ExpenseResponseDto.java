@@ -1,15 +1,20 @@
 package com.i2i.user_management.Dto;
 
+import com.i2i.user_management.Enum.ExpenseStatus;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
  * DTO representing an expense record with all key details,
- * including INR conversion and status.
+ * including INR conversion and status. When a reporting currency is requested,
+ * the INR amount is also given in that currency at the current rate.
  */
 @Data
+@NoArgsConstructor
 public class ExpenseResponseDto {
 
     private UUID id;
@@ -26,6 +31,16 @@ public class ExpenseResponseDto {
 
     private BigDecimal amountInInr;
 
+    private BigDecimal fxRate;
+
+    private LocalDateTime fxRateAt;
+
+    private boolean rateStale;
+
+    private String targetCurrency;
+
+    private BigDecimal amountInTarget;
+
     private String receiptUrl;
 
     private String status;
@@ -35,4 +50,25 @@ public class ExpenseResponseDto {
     private String approvedByName;
 
     private String rejectionReason;
+
+    public ExpenseResponseDto(UUID id, String title, String description, LocalDate expenseDate,
+                              BigDecimal amount, String currency, BigDecimal amountInInr,
+                              BigDecimal fxRate, LocalDateTime fxRateAt, String receiptUrl,
+                              ExpenseStatus status, String requestedBy, String approvedByName,
+                              String rejectionReason) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.expenseDate = expenseDate;
+        this.amount = amount;
+        this.currency = currency;
+        this.amountInInr = amountInInr;
+        this.fxRate = fxRate;
+        this.fxRateAt = fxRateAt;
+        this.receiptUrl = receiptUrl;
+        this.status = status != null ? status.name() : null;
+        this.requestedBy = requestedBy;
+        this.approvedByName = approvedByName;
+        this.rejectionReason = rejectionReason;
+    }
 }
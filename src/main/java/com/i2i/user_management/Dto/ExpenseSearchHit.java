@@ -0,0 +1,10 @@
+package com.i2i.user_management.Dto;
+
+/**
+ * An expense matching a full-text search, with its rank.
+ *
+ * @param expense matching expense
+ * @param rank full-text rank; higher ranks match better
+ */
+public record ExpenseSearchHit(ExpenseResponseDto expense, float rank) {
+}
@@ -0,0 +1,11 @@
+package com.i2i.user_management.Dto;
+
+/**
+ * Result of one item of a batch expense submission.
+ *
+ * @param index position of the item in the request
+ * @param expense created expense, or null if the item was not created
+ * @param error reason the item was not created, or null
+ */
+public record ExpenseSubmissionResultDto(int index, ExpenseResponseDto expense, String error) {
+}
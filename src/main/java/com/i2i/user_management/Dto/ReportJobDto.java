@@ -0,0 +1,14 @@
+package com.i2i.user_management.Dto;
+
+import com.i2i.user_management.Enum.ReportJobStatus;
+import com.i2i.user_management.Enum.ReportType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Status of a report job, without its result.
+ */
+public record ReportJobDto(UUID id, ReportType type, ReportJobStatus status, Integer rowCount, String error,
+                           LocalDateTime createdAt, LocalDateTime completedAt, LocalDateTime expiresAt) {
+}
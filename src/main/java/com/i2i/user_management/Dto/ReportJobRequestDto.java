@@ -0,0 +1,29 @@
+package com.i2i.user_management.Dto;
+
+import com.i2i.user_management.Enum.ReportType;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * DTO describing a report to generate in the background. The filters are those of
+ * the matching {@code /expenses/report/*} endpoint.
+ */
+@Data
+public class ReportJobRequestDto {
+
+    @NotNull(message = "Report type is required")
+    private ReportType type;
+
+    private LocalDate from;
+
+    private LocalDate to;
+
+    /**
+     * Optional currency filter, only used by {@link ReportType#BY_CURRENCY}.
+     */
+    private String currency;
+
+    private String targetCurrency;
+}
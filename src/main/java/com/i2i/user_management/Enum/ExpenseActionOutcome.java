@@ -0,0 +1,10 @@
+package com.i2i.user_management.Enum;
+
+/**
+ * Outcome of one approve or reject action of a bulk request.
+ */
+public enum ExpenseActionOutcome {
+    APPLIED,
+    CONFLICT,
+    NOT_FOUND
+}
@@ -0,0 +1,42 @@
+package com.i2i.user_management.Enum;
+
+import com.i2i.user_management.Exception.BadRequestException;
+
+/**
+ * Defines the file formats expenses can be exported in.
+ */
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Parses a format name in any case.
+     *
+     * @throws BadRequestException if the format is not supported
+     */
+    public static ExportFormat from(String value) {
+        for (ExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new BadRequestException("Invalid export format: " + value);
+    }
+}
@@ -0,0 +1,11 @@
+package com.i2i.user_management.Enum;
+
+/**
+ * Defines the lifecycle of a report job.
+ */
+public enum ReportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,9 @@
+package com.i2i.user_management.Enum;
+
+/**
+ * Defines the reports that can be generated as background jobs.
+ */
+public enum ReportType {
+    APPROVED_PER_EMPLOYEE,
+    BY_CURRENCY
+}
@@ -2,11 +2,49 @@ package com.i2i.user_management.Integration.Client;
 
 import java.math.BigDecimal;
 import java.util.Map;
+import java.util.Set;
 
 public interface ExchangeRateClient {
 
     BigDecimal getRateToInr(String currency);
 
+    /**
+     * Resolves the INR rate of every given currency with a single provider call.
+     *
+     * @param currencies upper-case currency codes to resolve
+     * @return immutable map of currency code to INR rate; currencies the provider
+     *         does not know are left out
+     */
+    Map<String, BigDecimal> getRatesToInr(Set<String> currencies);
+
+    /**
+     * Resolves the INR rate of every currency the provider quotes with a single call.
+     *
+     * @return immutable map of currency code to INR rate
+     */
+    Map<String, BigDecimal> getAllRatesToInr();
+
     Map<String, String> getAllCurrencies();
 
+    /**
+     * Tells whether the rate currently served for a currency is a last-known-good
+     * fallback because the provider could not be reached.
+     *
+     * @param currency upper-case currency code
+     * @return true if the served rate is stale
+     */
+    default boolean isStale(String currency) {
+        return false;
+    }
+
+    /**
+     * Returns a number that changes whenever a rate served by this client may have
+     * changed, so that responses converted with the served rates can be versioned.
+     *
+     * @return current version of the served rates
+     */
+    default long getRatesVersion() {
+        return 0;
+    }
+
 }
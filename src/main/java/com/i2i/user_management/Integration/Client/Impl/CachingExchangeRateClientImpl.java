@@ -0,0 +1,211 @@
+package com.i2i.user_management.Integration.Client.Impl;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.i2i.user_management.Constants.UMSConstants;
+import com.i2i.user_management.Integration.Client.ExchangeRateClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caching decorator for an {@link ExchangeRateClient}.
+ *
+ * <p>Rates are kept in memory for the configured TTL. Entries that are read after
+ * the refresh-ahead interval are reloaded in the background while the current
+ * value keeps being served, so request threads only wait on the provider for
+ * currencies that have never been fetched or have fully expired.</p>
+ *
+ * <p>A last-known rate that the delegate serves as stale after a provider failure
+ * is only kept for the shorter stale-rate TTL, so the provider is asked again soon
+ * and the fresh rate replaces it once the provider recovers.</p>
+ *
+ * <p>Every load and every refresh that changes a cached rate bumps a version
+ * counter, which lets callers tell whether conversions made earlier may be out
+ * of date.</p>
+ */
+public class CachingExchangeRateClientImpl implements ExchangeRateClient {
+
+    private static final Logger log = LoggerFactory.getLogger(CachingExchangeRateClientImpl.class);
+
+    private final ExchangeRateClient delegate;
+
+    private final LoadingCache<String, BigDecimal> rateCache;
+
+    private final AtomicLong ratesVersion = new AtomicLong();
+
+    public CachingExchangeRateClientImpl(ExchangeRateClient delegate, Duration ttl, Duration staleTtl,
+                                         Duration refreshAhead, long maximumSize) {
+        if (refreshAhead.compareTo(ttl) >= 0) {
+            throw new IllegalArgumentException("Refresh-ahead interval must be shorter than the cache TTL");
+        }
+        if (staleTtl.compareTo(ttl) > 0) {
+            throw new IllegalArgumentException("Stale-rate TTL must not be longer than the cache TTL");
+        }
+        this.delegate = delegate;
+        this.rateCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.writing((String currency, BigDecimal rate) ->
+                        delegate.isStale(currency) ? staleTtl : ttl))
+                .refreshAfterWrite(refreshAhead)
+                .recordStats()
+                .build(new RateLoader());
+        log.info("Exchange rate cache initialised with ttl={}, staleTtl={}, refreshAhead={}, maximumSize={}",
+                ttl, staleTtl, refreshAhead, maximumSize);
+    }
+
+    @Override
+    public BigDecimal getRateToInr(String currency) {
+        if (currency == null || UMSConstants.INR.equalsIgnoreCase(currency)) {
+            return delegate.getRateToInr(currency);
+        }
+        return rateCache.get(currency.toUpperCase());
+    }
+
+    /**
+     * Serves cached rates and fetches every missing currency in one bulk provider call.
+     */
+    @Override
+    public Map<String, BigDecimal> getRatesToInr(Set<String> currencies) {
+        Map<String, BigDecimal> rates = new HashMap<>();
+        Set<String> foreignCurrencies = new HashSet<>();
+        for (String currency : currencies) {
+            String upperCurrency = currency.toUpperCase();
+            if (UMSConstants.INR.equals(upperCurrency)) {
+                rates.put(UMSConstants.INR, BigDecimal.ONE);
+            } else {
+                foreignCurrencies.add(upperCurrency);
+            }
+        }
+        rates.putAll(rateCache.getAll(foreignCurrencies));
+        return Map.copyOf(rates);
+    }
+
+    /**
+     * Fetches the whole rate table from the provider. Use {@link #refreshTable()} to
+     * load it into the cache.
+     */
+    @Override
+    public Map<String, BigDecimal> getAllRatesToInr() {
+        return delegate.getAllRatesToInr();
+    }
+
+    @Override
+    public Map<String, String> getAllCurrencies() {
+        return delegate.getAllCurrencies();
+    }
+
+    @Override
+    public boolean isStale(String currency) {
+        return delegate.isStale(currency);
+    }
+
+    @Override
+    public long getRatesVersion() {
+        return ratesVersion.get();
+    }
+
+    /**
+     * Fetches the given currencies from the provider in one bulk call and stores the
+     * returned rates, replacing any cached values. Used to pre-warm the cache so that
+     * request threads find the rates already loaded.
+     *
+     * @param currencies currency codes to load
+     * @return number of rates stored
+     */
+    public int refreshAll(Set<String> currencies) {
+        Set<String> foreignCurrencies = new HashSet<>();
+        for (String currency : currencies) {
+            String upperCurrency = currency.toUpperCase();
+            if (!UMSConstants.INR.equals(upperCurrency)) {
+                foreignCurrencies.add(upperCurrency);
+            }
+        }
+        if (foreignCurrencies.isEmpty()) {
+            return 0;
+        }
+        Map<String, BigDecimal> rates = delegate.getRatesToInr(foreignCurrencies);
+        store(rates);
+        log.debug("Refreshed {} of {} exchange rates", rates.size(), foreignCurrencies.size());
+        return rates.size();
+    }
+
+    /**
+     * Fetches the whole rate table from the provider in one call and stores every
+     * rate, replacing any cached values. Only currencies the provider quotes are
+     * loaded.
+     *
+     * @return number of rates stored
+     */
+    public int refreshTable() {
+        Map<String, BigDecimal> rates = delegate.getAllRatesToInr();
+        store(rates);
+        log.debug("Refreshed the exchange rate table with {} rates", rates.size());
+        return rates.size();
+    }
+
+    /**
+     * Returns a snapshot of the hit/miss and load statistics of the rate cache.
+     */
+    public CacheStats getStats() {
+        return rateCache.stats();
+    }
+
+    /**
+     * Returns the underlying cache, used to bind cache metrics.
+     */
+    public LoadingCache<String, BigDecimal> getRateCache() {
+        return rateCache;
+    }
+
+    private void store(Map<String, BigDecimal> rates) {
+        rates.forEach((currency, rate) -> {
+            if (!UMSConstants.INR.equals(currency)) {
+                BigDecimal previous = rateCache.asMap().put(currency, rate);
+                if (previous == null || previous.compareTo(rate) != 0) {
+                    ratesVersion.incrementAndGet();
+                }
+            }
+        });
+    }
+
+    private class RateLoader implements CacheLoader<String, BigDecimal> {
+
+        @Override
+        public BigDecimal load(String currency) {
+            log.debug("Exchange rate cache miss for {}, loading from provider", currency);
+            BigDecimal rate = delegate.getRateToInr(currency);
+            ratesVersion.incrementAndGet();
+            return rate;
+        }
+
+        @Override
+        public Map<String, BigDecimal> loadAll(Set<? extends String> currencies) {
+            log.debug("Exchange rate cache miss for {}, loading from provider in bulk", currencies);
+            Map<String, BigDecimal> rates = delegate.getRatesToInr(Set.copyOf(currencies));
+            if (!rates.isEmpty()) {
+                ratesVersion.incrementAndGet();
+            }
+            return rates;
+        }
+
+        @Override
+        public BigDecimal reload(String currency, BigDecimal oldRate) {
+            BigDecimal rate = delegate.getRateToInr(currency);
+            if (rate != null && rate.compareTo(oldRate) != 0) {
+                ratesVersion.incrementAndGet();
+            }
+            return rate;
+        }
+    }
+}
@@ -1,110 +1,57 @@
 package com.i2i.user_management.Integration.Client.Impl;
 
 import com.i2i.user_management.Constants.UMSConstants;
-import com.i2i.user_management.Exception.ApplicationException;
-import com.i2i.user_management.Exception.ExternalServiceException;
 import com.i2i.user_management.Integration.Client.ExchangeRateClient;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
+import com.i2i.user_management.Integration.Client.ReactiveExchangeRateClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 
 /**
- * Client for fetching exchange rates.
+ * Blocking client for fetching exchange rates.
+ *
+ * <p>Thin adapter over the {@link ReactiveExchangeRateClient} for callers that need
+ * the result on the current thread.</p>
  */
 @Component
+@Profile("!offline")
+@Qualifier(UMSConstants.EXCHANGE_RATE_PROVIDER)
 public class ExchangeRateHostClientImpl implements ExchangeRateClient {
 
-    private static final Logger log = LoggerFactory.getLogger(ExchangeRateHostClientImpl.class);
+    private final ReactiveExchangeRateClient reactiveClient;
 
-    private final WebClient webClient;
-
-    @Value("${fast.forex.api.key}")
-    private String API_KEY;
-
-    public ExchangeRateHostClientImpl(WebClient exchangeWebClient) {
-        this.webClient = exchangeWebClient;
+    public ExchangeRateHostClientImpl(ReactiveExchangeRateClient reactiveClient) {
+        this.reactiveClient = reactiveClient;
     }
 
-
     @Override
     public BigDecimal getRateToInr(String currency) {
-        if (UMSConstants.INR.equalsIgnoreCase(currency)) {
-            return BigDecimal.ONE;
-        }
-
-        try {
-            Map<String, Object> response = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/fetch-one")
-                            .queryParam("from", currency.toUpperCase())
-                            .queryParam("to", UMSConstants.INR)
-                            .queryParam("api_key", API_KEY)
-                            .build())
-                    .retrieve()
-                    .bodyToMono((Map.class))
-                    .block();
-
-            if (response == null || !response.containsKey("result")) {
-                log.warn("Unexpected response from exchange API for {}", currency);
-                throw new RuntimeException("Invalid response from exchange rate API");
-            }
-
-            Map<String, Double> result = (Map<String, Double>) response.get("result");
-            Double inrRate = result.get(UMSConstants.INR);
-
-            if (inrRate == null) {
-                throw new RuntimeException("INR rate not found in response");
-            }
+        return reactiveClient.getRateToInr(currency).block();
+    }
 
-            log.info("Fetched rate for {}: {}", currency, inrRate);
-            return BigDecimal.valueOf(inrRate);
+    @Override
+    public Map<String, BigDecimal> getRatesToInr(Set<String> currencies) {
+        return reactiveClient.getRatesToInr(currencies).block();
+    }
 
-        } catch (WebClientResponseException e) {
-            log.warn("API returned error: {}", e.getResponseBodyAsString());
-            throw new RuntimeException("External API error: " + e.getStatusCode());
-        } catch (Exception e) {
-            log.error("Failed to fetch exchange rate for {}", currency, e);
-            throw new RuntimeException("Unable to fetch exchange rate");
-        }
+    @Override
+    public Map<String, BigDecimal> getAllRatesToInr() {
+        return reactiveClient.getAllRatesToInr().block();
     }
 
     /**
      * Fetches all supported currencies with their codes and names.
      */
+    @Override
     public Map<String, String> getAllCurrencies() {
-        try {
-            Map<String, Object> response = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/currencies")
-                            .queryParam("api_key", API_KEY)
-                            .build())
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .block();
-
-            if (response == null || !response.containsKey("currencies")) {
-                log.warn("Unexpected response when fetching all currencies: {}", response);
-                return Collections.emptyMap();
-            }
-
-            Map<String, String> currencies = (Map<String, String>) response.get("currencies");
-            log.info("Fetched {} currencies successfully", currencies.size());
-            return currencies;
-
-        } catch (WebClientResponseException e) {
-            log.warn("Currency list API returned error: {}", e.getResponseBodyAsString());
-            throw new ExternalServiceException("External API error while fetching currency list: " , e);
-        } catch (Exception e) {
-            log.error("Failed to fetch currency list", e);
-            throw new ApplicationException("Unable to fetch currency list");
-        }
+        return reactiveClient.getAllCurrencies()
+                .blockOptional()
+                .orElse(Collections.emptyMap());
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,224 @@
+package com.i2i.user_management.Integration.Client.Impl;
+
+import com.i2i.user_management.Constants.UMSConstants;
+import com.i2i.user_management.Exception.ApplicationException;
+import com.i2i.user_management.Exception.ExternalServiceException;
+import com.i2i.user_management.Integration.Client.ReactiveExchangeRateClient;
+import com.i2i.user_management.Integration.Client.Response.FastForexResponseDecoder;
+import com.i2i.user_management.Integration.Client.Response.RateTable;
+import com.i2i.user_management.Integration.Client.Response.RatesResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Non-blocking FastForex client. Every call returns a cold {@link Mono} that
+ * performs the request when subscribed and never blocks the calling thread.
+ *
+ * <p>All rate lookups quote from INR and invert the result, so a currency gets the
+ * same rate whether it is fetched alone, in a batch or with the whole table.</p>
+ *
+ * <p>Response bodies are decoded with {@link FastForexResponseDecoder} straight from
+ * the received buffers into typed responses with exact decimal rates.</p>
+ */
+@Component
+public class FastForexReactiveClientImpl implements ReactiveExchangeRateClient {
+
+    private static final Logger log = LoggerFactory.getLogger(FastForexReactiveClientImpl.class);
+
+    private final WebClient webClient;
+
+    @Value("${fast.forex.api.key}")
+    private String API_KEY;
+
+    public FastForexReactiveClientImpl(WebClient exchangeWebClient) {
+        this.webClient = exchangeWebClient;
+    }
+
+    @Override
+    public Mono<BigDecimal> getRateToInr(String currency) {
+        if (UMSConstants.INR.equalsIgnoreCase(currency)) {
+            return Mono.just(BigDecimal.ONE);
+        }
+
+        String upperCurrency = currency.toUpperCase();
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/fetch-one")
+                        .queryParam("from", UMSConstants.INR)
+                        .queryParam("to", upperCurrency)
+                        .queryParam("api_key", API_KEY)
+                        .build())
+                .retrieve()
+                .bodyToFlux(DataBuffer.class)
+                .as(DataBufferUtils::join)
+                .map(buffer -> decode(buffer, body -> FastForexResponseDecoder.decodeRates(body, true)))
+                .map(response -> {
+                    BigDecimal inrRate = requireRates(response, currency).get(upperCurrency);
+                    if (inrRate == null) {
+                        throw new ExternalServiceException("INR rate not found in response");
+                    }
+                    log.info("Fetched rate for {}: {}", currency, inrRate);
+                    return inrRate;
+                })
+                .switchIfEmpty(Mono.error(() -> new ExternalServiceException("Invalid response from exchange rate API")))
+                .onErrorMap(e -> toExternalServiceException(e, "Unable to fetch exchange rate for " + currency));
+    }
+
+    /**
+     * Fetches the INR rate of all given currencies with one {@code /fetch-multi} call.
+     * The provider quotes INR against every requested currency, so each rate is
+     * inverted to get the currency-to-INR rate, exactly as for {@link #getRateToInr(String)}.
+     */
+    @Override
+    public Mono<Map<String, BigDecimal>> getRatesToInr(Set<String> currencies) {
+        boolean includeInr = false;
+        Set<String> foreignCurrencies = new TreeSet<>();
+        for (String currency : currencies) {
+            String upperCurrency = currency.toUpperCase();
+            if (UMSConstants.INR.equals(upperCurrency)) {
+                includeInr = true;
+            } else {
+                foreignCurrencies.add(upperCurrency);
+            }
+        }
+        if (foreignCurrencies.isEmpty()) {
+            return Mono.just(includeInr ? Map.of(UMSConstants.INR, BigDecimal.ONE) : Map.of());
+        }
+        boolean withInr = includeInr;
+
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/fetch-multi")
+                        .queryParam("from", UMSConstants.INR)
+                        .queryParam("to", String.join(",", foreignCurrencies))
+                        .queryParam("api_key", API_KEY)
+                        .build())
+                .retrieve()
+                .bodyToFlux(DataBuffer.class)
+                .as(DataBufferUtils::join)
+                .map(buffer -> decode(buffer, body -> FastForexResponseDecoder.decodeRates(body, true)))
+                .<Map<String, BigDecimal>>map(response -> {
+                    RateTable rates = requireRates(response, foreignCurrencies);
+                    for (String currency : foreignCurrencies) {
+                        if (!rates.containsKey(currency)) {
+                            log.warn("No rate returned for {}", currency);
+                        }
+                    }
+                    log.info("Fetched {} rates in a single call", rates.size());
+                    return withInr ? rates.with(UMSConstants.INR, BigDecimal.ONE) : rates;
+                })
+                .switchIfEmpty(Mono.error(() -> new ExternalServiceException("Invalid response from exchange rate API")))
+                .onErrorMap(e -> toExternalServiceException(e, "Unable to fetch exchange rates"));
+    }
+
+    /**
+     * Fetches the INR rate of every currency the provider quotes with one
+     * {@code /fetch-all} call. The rates are inverted while decoding, as for
+     * {@link #getRatesToInr(Set)}.
+     */
+    @Override
+    public Mono<Map<String, BigDecimal>> getAllRatesToInr() {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/fetch-all")
+                        .queryParam("from", UMSConstants.INR)
+                        .queryParam("api_key", API_KEY)
+                        .build())
+                .retrieve()
+                .bodyToFlux(DataBuffer.class)
+                .as(DataBufferUtils::join)
+                .map(buffer -> decode(buffer, body -> FastForexResponseDecoder.decodeRates(body, true)))
+                .<Map<String, BigDecimal>>map(response -> {
+                    RateTable rates = requireRates(response, "all currencies");
+                    log.info("Fetched {} rates in a single call", rates.size());
+                    return rates;
+                })
+                .switchIfEmpty(Mono.error(() -> new ExternalServiceException("Invalid response from exchange rate API")))
+                .onErrorMap(e -> toExternalServiceException(e, "Unable to fetch exchange rates"));
+    }
+
+    /**
+     * Fetches all supported currencies with their codes and names.
+     */
+    @Override
+    public Mono<Map<String, String>> getAllCurrencies() {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/currencies")
+                        .queryParam("api_key", API_KEY)
+                        .build())
+                .retrieve()
+                .bodyToFlux(DataBuffer.class)
+                .as(DataBufferUtils::join)
+                .map(buffer -> decode(buffer, FastForexResponseDecoder::decodeCurrencies))
+                .map(response -> {
+                    Map<String, String> currencies = response.currencies();
+                    if (currencies == null) {
+                        log.warn("Unexpected response when fetching all currencies");
+                        return Collections.<String, String>emptyMap();
+                    }
+                    log.info("Fetched {} currencies successfully", currencies.size());
+                    return currencies;
+                })
+                .defaultIfEmpty(Collections.emptyMap())
+                .onErrorMap(e -> !(e instanceof ExternalServiceException), e -> {
+                    if (e instanceof WebClientResponseException responseException) {
+                        log.warn("Currency list API returned error: {}", responseException.getResponseBodyAsString());
+                        return new ExternalServiceException("External API error while fetching currency list: ", e);
+                    }
+                    log.error("Failed to fetch currency list", e);
+                    return new ApplicationException("Unable to fetch currency list", e);
+                });
+    }
+
+    private static RateTable requireRates(RatesResponse response, Object requested) {
+        if (response.rates() == null) {
+            log.warn("Unexpected response from exchange API for {}", requested);
+            throw new ExternalServiceException("Invalid response from exchange rate API");
+        }
+        return response.rates();
+    }
+
+    /**
+     * Decodes a joined response body and releases its buffer.
+     */
+    private static <T> T decode(DataBuffer buffer, BodyDecoder<T> decoder) {
+        try (InputStream body = buffer.asInputStream(true)) {
+            return decoder.decode(body);
+        } catch (IOException e) {
+            throw new ExternalServiceException("Invalid response from exchange rate API", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface BodyDecoder<T> {
+        T decode(InputStream body) throws IOException;
+    }
+
+    private static Throwable toExternalServiceException(Throwable e, String message) {
+        if (e instanceof ExternalServiceException) {
+            return e;
+        }
+        if (e instanceof WebClientResponseException responseException) {
+            log.warn("API returned error: {}", responseException.getResponseBodyAsString());
+            return new ExternalServiceException("External API error: " + responseException.getStatusCode(), e);
+        }
+        log.error("{}", message, e);
+        return new ExternalServiceException(message, e);
+    }
+}
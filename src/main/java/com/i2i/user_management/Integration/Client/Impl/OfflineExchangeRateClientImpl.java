@@ -0,0 +1,206 @@
+package com.i2i.user_management.Integration.Client.Impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.i2i.user_management.Constants.UMSConstants;
+import com.i2i.user_management.Exception.ApplicationException;
+import com.i2i.user_management.Exception.ExternalServiceException;
+import com.i2i.user_management.Integration.Client.ExchangeRateClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exchange rate client that serves rates from a local snapshot file instead of the
+ * FastForex API. Active with the {@code offline} profile, for load tests and runs
+ * without network access.
+ *
+ * <p>The snapshot is memory-mapped and parsed into an in-memory table, and is
+ * reloaded when its modification time or size changes. Two formats are supported,
+ * chosen by file extension:</p>
+ * <ul>
+ *     <li>{@code .json}: {@code {"rates": {"USD": 83.25}, "currencies": {"USD": "US Dollar"}}}</li>
+ *     <li>{@code .csv}: one {@code code,rateToInr,name} line per currency; a header line
+ *     and lines starting with {@code #} are skipped</li>
+ * </ul>
+ *
+ * <p>Every call can be delayed by a fixed latency plus random jitter, and can fail
+ * with the configured probability, to mimic the behaviour of the real provider.</p>
+ */
+@Component
+@Profile("offline")
+@Qualifier(UMSConstants.EXCHANGE_RATE_PROVIDER)
+public class OfflineExchangeRateClientImpl implements ExchangeRateClient {
+
+    private static final Logger log = LoggerFactory.getLogger(OfflineExchangeRateClientImpl.class);
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final Path snapshotPath;
+
+    private final long latencyMs;
+
+    private final long latencyJitterMs;
+
+    private final double failureRate;
+
+    private volatile Snapshot snapshot;
+
+    public OfflineExchangeRateClientImpl(@Value("${fast.forex.offline.snapshot-path}") Path snapshotPath,
+                                         @Value("${fast.forex.offline.latency-ms}") long latencyMs,
+                                         @Value("${fast.forex.offline.latency-jitter-ms}") long latencyJitterMs,
+                                         @Value("${fast.forex.offline.failure-rate}") double failureRate) {
+        if (failureRate < 0 || failureRate > 1) {
+            throw new IllegalArgumentException("Failure rate must be between 0 and 1");
+        }
+        this.snapshotPath = snapshotPath;
+        this.latencyMs = latencyMs;
+        this.latencyJitterMs = latencyJitterMs;
+        this.failureRate = failureRate;
+        this.snapshot = load();
+        log.info("Offline exchange rate client serving {} rates from {} (latency={}ms, jitter={}ms, failureRate={})",
+                snapshot.rates().size(), snapshotPath, latencyMs, latencyJitterMs, failureRate);
+    }
+
+    @Override
+    public BigDecimal getRateToInr(String currency) {
+        simulateProvider();
+        if (UMSConstants.INR.equalsIgnoreCase(currency)) {
+            return BigDecimal.ONE;
+        }
+        BigDecimal rate = snapshot.rates().get(currency.toUpperCase());
+        if (rate == null) {
+            throw new ExternalServiceException("INR rate not found in snapshot for " + currency);
+        }
+        return rate;
+    }
+
+    @Override
+    public Map<String, BigDecimal> getRatesToInr(Set<String> currencies) {
+        simulateProvider();
+        Map<String, BigDecimal> rates = new HashMap<>();
+        Map<String, BigDecimal> snapshotRates = snapshot.rates();
+        for (String currency : currencies) {
+            String upperCurrency = currency.toUpperCase();
+            BigDecimal rate = UMSConstants.INR.equals(upperCurrency) ? BigDecimal.ONE : snapshotRates.get(upperCurrency);
+            if (rate != null) {
+                rates.put(upperCurrency, rate);
+            }
+        }
+        return Map.copyOf(rates);
+    }
+
+    @Override
+    public Map<String, BigDecimal> getAllRatesToInr() {
+        simulateProvider();
+        return snapshot.rates();
+    }
+
+    @Override
+    public Map<String, String> getAllCurrencies() {
+        simulateProvider();
+        return snapshot.currencies();
+    }
+
+    /**
+     * Reloads the snapshot if the file was modified since it was last read. A file that
+     * cannot be read or parsed leaves the current snapshot in place.
+     */
+    @Scheduled(fixedDelayString = "${fast.forex.offline.reload-interval-ms}")
+    public void reloadIfChanged() {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(snapshotPath, BasicFileAttributes.class);
+            if (attributes.lastModifiedTime().equals(snapshot.modified()) && attributes.size() == snapshot.size()) {
+                return;
+            }
+            snapshot = load();
+            log.info("Reloaded offline exchange rate snapshot with {} rates", snapshot.rates().size());
+        } catch (Exception e) {
+            log.warn("Failed to reload offline exchange rate snapshot {}: {}", snapshotPath, e.getMessage());
+        }
+    }
+
+    private void simulateProvider() {
+        long delay = latencyMs + (latencyJitterMs > 0 ? ThreadLocalRandom.current().nextLong(latencyJitterMs + 1) : 0);
+        if (delay > 0) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ExternalServiceException("Interrupted while waiting for offline exchange rates", e);
+            }
+        }
+        if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+            throw new ExternalServiceException("Simulated exchange rate provider failure");
+        }
+    }
+
+    private Snapshot load() {
+        try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+            BasicFileAttributes attributes = Files.readAttributes(snapshotPath, BasicFileAttributes.class);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            Map<String, BigDecimal> rates = new HashMap<>();
+            Map<String, String> currencies = new TreeMap<>();
+            if (snapshotPath.toString().toLowerCase().endsWith(".csv")) {
+                parseCsv(StandardCharsets.UTF_8.decode(buffer).toString(), rates, currencies);
+            } else {
+                parseJson(OBJECT_MAPPER.readTree(new ByteBufferBackedInputStream(buffer)), rates, currencies);
+            }
+            rates.forEach((code, rate) -> currencies.putIfAbsent(code, code));
+            return new Snapshot(Map.copyOf(rates), Collections.unmodifiableMap(currencies),
+                    attributes.lastModifiedTime(), attributes.size());
+        } catch (IOException | RuntimeException e) {
+            throw new ApplicationException("Unable to load offline exchange rate snapshot " + snapshotPath, e);
+        }
+    }
+
+    private static void parseJson(JsonNode root, Map<String, BigDecimal> rates, Map<String, String> currencies) {
+        for (Map.Entry<String, JsonNode> entry : root.path("rates").properties()) {
+            rates.put(entry.getKey().toUpperCase(), entry.getValue().decimalValue());
+        }
+        for (Map.Entry<String, JsonNode> entry : root.path("currencies").properties()) {
+            currencies.put(entry.getKey().toUpperCase(), entry.getValue().asText());
+        }
+    }
+
+    private static void parseCsv(String content, Map<String, BigDecimal> rates, Map<String, String> currencies) {
+        for (String line : content.split("\\R")) {
+            String trimmed = line.strip();
+            if (trimmed.isEmpty() || trimmed.startsWith("#") || trimmed.toLowerCase().startsWith("code,")) {
+                continue;
+            }
+            String[] columns = trimmed.split(",", 3);
+            String code = columns[0].strip().toUpperCase();
+            rates.put(code, new BigDecimal(columns[1].strip()));
+            if (columns.length > 2 && !columns[2].isBlank()) {
+                currencies.put(code, columns[2].strip());
+            }
+        }
+    }
+
+    private record Snapshot(Map<String, BigDecimal> rates, Map<String, String> currencies,
+                            FileTime modified, long size) {
+    }
+}
@@ -0,0 +1,148 @@
+package com.i2i.user_management.Integration.Client.Impl;
+
+import com.i2i.user_management.Constants.UMSConstants;
+import com.i2i.user_management.Exception.ExternalServiceException;
+import com.i2i.user_management.Integration.Client.ExchangeRateClient;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Resilience decorator for an {@link ExchangeRateClient}.
+ *
+ * <p>Provider calls go through a concurrency bulkhead and a circuit breaker. When a
+ * call is rejected or fails, the last rate successfully fetched for the currency is
+ * returned instead and the currency is reported as stale until the provider answers
+ * again. Currencies that were never fetched still fail.</p>
+ */
+public class ResilientExchangeRateClientImpl implements ExchangeRateClient {
+
+    private static final Logger log = LoggerFactory.getLogger(ResilientExchangeRateClientImpl.class);
+
+    private final ExchangeRateClient delegate;
+
+    private final CircuitBreaker circuitBreaker;
+
+    private final Bulkhead bulkhead;
+
+    private final Map<String, BigDecimal> lastKnownRates = new ConcurrentHashMap<>();
+
+    private final Set<String> staleCurrencies = ConcurrentHashMap.newKeySet();
+
+    public ResilientExchangeRateClientImpl(ExchangeRateClient delegate, CircuitBreaker circuitBreaker,
+                                           Bulkhead bulkhead) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public BigDecimal getRateToInr(String currency) {
+        if (currency == null || UMSConstants.INR.equalsIgnoreCase(currency)) {
+            return delegate.getRateToInr(currency);
+        }
+        String upperCurrency = currency.toUpperCase();
+        try {
+            BigDecimal rate = call(() -> delegate.getRateToInr(upperCurrency));
+            remember(upperCurrency, rate);
+            return rate;
+        } catch (RuntimeException e) {
+            BigDecimal fallback = lastKnownRates.get(upperCurrency);
+            if (fallback == null) {
+                throw toExternalServiceException(e, "Unable to fetch exchange rate for " + upperCurrency);
+            }
+            staleCurrencies.add(upperCurrency);
+            log.warn("Serving last known rate {} for {} after provider failure: {}",
+                    fallback, upperCurrency, e.getMessage());
+            return fallback;
+        }
+    }
+
+    @Override
+    public Map<String, BigDecimal> getRatesToInr(Set<String> currencies) {
+        try {
+            Map<String, BigDecimal> rates = call(() -> delegate.getRatesToInr(currencies));
+            rates.forEach(this::remember);
+            return rates;
+        } catch (RuntimeException e) {
+            Map<String, BigDecimal> fallback = new HashMap<>();
+            for (String currency : currencies) {
+                String upperCurrency = currency.toUpperCase();
+                if (UMSConstants.INR.equals(upperCurrency)) {
+                    fallback.put(UMSConstants.INR, BigDecimal.ONE);
+                    continue;
+                }
+                BigDecimal rate = lastKnownRates.get(upperCurrency);
+                if (rate != null) {
+                    fallback.put(upperCurrency, rate);
+                    staleCurrencies.add(upperCurrency);
+                }
+            }
+            if (fallback.isEmpty()) {
+                throw toExternalServiceException(e, "Unable to fetch exchange rates for " + currencies);
+            }
+            log.warn("Serving last known rates for {} of {} currencies after provider failure: {}",
+                    fallback.size(), currencies.size(), e.getMessage());
+            return Map.copyOf(fallback);
+        }
+    }
+
+    /**
+     * Fetches the whole rate table. After a failure every last-known rate is served
+     * instead and reported as stale.
+     */
+    @Override
+    public Map<String, BigDecimal> getAllRatesToInr() {
+        try {
+            Map<String, BigDecimal> rates = call(delegate::getAllRatesToInr);
+            rates.forEach(this::remember);
+            return rates;
+        } catch (RuntimeException e) {
+            if (lastKnownRates.isEmpty()) {
+                throw toExternalServiceException(e, "Unable to fetch exchange rates");
+            }
+            Map<String, BigDecimal> fallback = Map.copyOf(lastKnownRates);
+            staleCurrencies.addAll(fallback.keySet());
+            log.warn("Serving {} last known rates after provider failure: {}", fallback.size(), e.getMessage());
+            return fallback;
+        }
+    }
+
+    @Override
+    public Map<String, String> getAllCurrencies() {
+        try {
+            return call(delegate::getAllCurrencies);
+        } catch (RuntimeException e) {
+            throw toExternalServiceException(e, "Unable to fetch currency list");
+        }
+    }
+
+    @Override
+    public boolean isStale(String currency) {
+        return currency != null && staleCurrencies.contains(currency.toUpperCase());
+    }
+
+    private <T> T call(Supplier<T> supplier) {
+        return CircuitBreaker.decorateSupplier(circuitBreaker,
+                Bulkhead.decorateSupplier(bulkhead, supplier)).get();
+    }
+
+    private void remember(String currency, BigDecimal rate) {
+        lastKnownRates.put(currency, rate);
+        if (staleCurrencies.remove(currency)) {
+            log.info("Exchange rate for {} is fresh again", currency);
+        }
+    }
+
+    private static RuntimeException toExternalServiceException(RuntimeException e, String message) {
+        return e instanceof ExternalServiceException ? e : new ExternalServiceException(message, e);
+    }
+}
@@ -0,0 +1,114 @@
+package com.i2i.user_management.Integration.Client.Impl;
+
+import com.i2i.user_management.Integration.Client.ExchangeRateClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent lookups for an {@link ExchangeRateClient}.
+ *
+ * <p>While a provider call for a currency (or for a set of currencies, or for the
+ * whole rate table) is in flight, further lookups for the same key wait for that
+ * call and share its result or failure instead of starting their own. The number
+ * of provider calls saved this way is available through {@link #getCoalescedCalls()}.</p>
+ */
+public class SingleFlightExchangeRateClientImpl implements ExchangeRateClient {
+
+    private static final Logger log = LoggerFactory.getLogger(SingleFlightExchangeRateClientImpl.class);
+
+    private static final String ALL_RATES = "*";
+
+    private final ExchangeRateClient delegate;
+
+    private final Map<String, CompletableFuture<BigDecimal>> inFlightRates = new ConcurrentHashMap<>();
+
+    private final Map<Set<String>, CompletableFuture<Map<String, BigDecimal>>> inFlightBulkRates =
+            new ConcurrentHashMap<>();
+
+    private final Map<String, CompletableFuture<Map<String, BigDecimal>>> inFlightTables = new ConcurrentHashMap<>();
+
+    private final AtomicLong coalescedCalls = new AtomicLong();
+
+    public SingleFlightExchangeRateClientImpl(ExchangeRateClient delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public BigDecimal getRateToInr(String currency) {
+        if (currency == null) {
+            return delegate.getRateToInr(null);
+        }
+        String upperCurrency = currency.toUpperCase();
+        return execute(inFlightRates, upperCurrency, () -> delegate.getRateToInr(upperCurrency));
+    }
+
+    @Override
+    public Map<String, BigDecimal> getRatesToInr(Set<String> currencies) {
+        Set<String> key = new TreeSet<>();
+        currencies.forEach(currency -> key.add(currency.toUpperCase()));
+        return execute(inFlightBulkRates, Set.copyOf(key), () -> delegate.getRatesToInr(currencies));
+    }
+
+    @Override
+    public Map<String, BigDecimal> getAllRatesToInr() {
+        return execute(inFlightTables, ALL_RATES, delegate::getAllRatesToInr);
+    }
+
+    @Override
+    public Map<String, String> getAllCurrencies() {
+        return delegate.getAllCurrencies();
+    }
+
+    @Override
+    public boolean isStale(String currency) {
+        return delegate.isStale(currency);
+    }
+
+    /**
+     * Returns the number of provider calls that were avoided by joining an in-flight call.
+     */
+    public long getCoalescedCalls() {
+        return coalescedCalls.get();
+    }
+
+    private <K, V> V execute(Map<K, CompletableFuture<V>> inFlight, K key, Supplier<V> call) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            coalescedCalls.incrementAndGet();
+            log.debug("Joining in-flight exchange rate lookup for {}", key);
+            return join(existing);
+        }
+        try {
+            V result = call.get();
+            future.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.i2i.user_management.Integration.Client;
+
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Non-blocking variant of {@link ExchangeRateClient}. Lookups are only performed
+ * when the returned publisher is subscribed to, so callers can start them next to
+ * other work and join the results later.
+ */
+public interface ReactiveExchangeRateClient {
+
+    Mono<BigDecimal> getRateToInr(String currency);
+
+    Mono<Map<String, BigDecimal>> getRatesToInr(Set<String> currencies);
+
+    /**
+     * Resolves the INR rate of every currency the provider quotes with a single call.
+     *
+     * @return immutable map of currency code to INR rate
+     */
+    Mono<Map<String, BigDecimal>> getAllRatesToInr();
+
+    Mono<Map<String, String>> getAllCurrencies();
+
+}
@@ -0,0 +1,11 @@
+package com.i2i.user_management.Integration.Client.Response;
+
+import java.util.Map;
+
+/**
+ * Decoded FastForex {@code currencies} response.
+ *
+ * @param currencies currency names by currency code, or null if the response had none
+ */
+public record CurrenciesResponse(Map<String, String> currencies) {
+}
@@ -0,0 +1,117 @@
+package com.i2i.user_management.Integration.Client.Response;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.i2i.user_management.Integration.Rate.FixedPointConverter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Streaming decoder for FastForex responses.
+ *
+ * <p>Responses are read token by token straight from the response body. Rates are
+ * read as exact {@link BigDecimal}s from the JSON text and collected into a
+ * {@link RateTable}, so no generic maps or boxed doubles are created on the way.</p>
+ */
+public final class FastForexResponseDecoder {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private FastForexResponseDecoder() {
+    }
+
+    /**
+     * Decodes a {@code fetch-one}, {@code fetch-multi} or {@code fetch-all} response.
+     *
+     * @param body response body
+     * @param invert whether to store {@code 1 / rate} instead of the quoted rate, for
+     *               responses quoted from INR that are needed as rates to INR; the
+     *               inverse is rounded half-up to {@value FixedPointConverter#RATE_SCALE}
+     *               decimals, the precision rates are stored and converted with, and
+     *               zero rates are left out
+     * @return decoded response
+     * @throws IOException if the body is not valid JSON
+     */
+    public static RatesResponse decodeRates(InputStream body, boolean invert) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            String base = null;
+            RateTable rates = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "base" -> base = parser.getValueAsString();
+                    case "result", "results" -> rates = readRates(parser, value, invert);
+                    default -> parser.skipChildren();
+                }
+            }
+            return new RatesResponse(base, rates);
+        }
+    }
+
+    /**
+     * Decodes a {@code currencies} response.
+     *
+     * @param body response body
+     * @return decoded response
+     * @throws IOException if the body is not valid JSON
+     */
+    public static CurrenciesResponse decodeCurrencies(InputStream body) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            Map<String, String> currencies = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("currencies".equals(field)) {
+                    expect(parser, value, JsonToken.START_OBJECT);
+                    currencies = new LinkedHashMap<>();
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String code = parser.currentName();
+                        parser.nextToken();
+                        currencies.put(code, parser.getValueAsString());
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return new CurrenciesResponse(currencies);
+        }
+    }
+
+    private static RateTable readRates(JsonParser parser, JsonToken value, boolean invert) throws IOException {
+        expect(parser, value, JsonToken.START_OBJECT);
+        RateTable.Builder builder = RateTable.builder(16);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String currency = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if (token != JsonToken.VALUE_NUMBER_INT && token != JsonToken.VALUE_NUMBER_FLOAT) {
+                parser.skipChildren();
+                continue;
+            }
+            BigDecimal rate = parser.getDecimalValue();
+            if (invert) {
+                if (rate.signum() == 0) {
+                    continue;
+                }
+                rate = BigDecimal.ONE.divide(rate, FixedPointConverter.RATE_SCALE, RoundingMode.HALF_UP);
+            }
+            builder.put(currency, rate);
+        }
+        return builder.build();
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new IOException("Expected " + expected + " but found " + actual + " at "
+                    + parser.currentLocation());
+        }
+    }
+}
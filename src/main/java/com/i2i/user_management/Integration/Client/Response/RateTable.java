@@ -0,0 +1,154 @@
+package com.i2i.user_management.Integration.Client.Response;
+
+import java.math.BigDecimal;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Immutable map of currency code to rate, stored as two parallel arrays sorted by
+ * currency code. Lookups are a binary search, and a table of a few hundred rates
+ * costs two arrays instead of one hash map node per entry.
+ */
+public final class RateTable extends AbstractMap<String, BigDecimal> {
+
+    private static final RateTable EMPTY = new RateTable(new String[0], new BigDecimal[0], 0);
+
+    private final String[] currencies;
+
+    private final BigDecimal[] rates;
+
+    private final int size;
+
+    private RateTable(String[] currencies, BigDecimal[] rates, int size) {
+        this.currencies = currencies;
+        this.rates = rates;
+        this.size = size;
+    }
+
+    public static RateTable empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    @Override
+    public BigDecimal get(Object key) {
+        int index = indexOf(key);
+        return index >= 0 ? rates[index] : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a copy of this table with the given rate added or replaced.
+     */
+    public RateTable with(String currency, BigDecimal rate) {
+        Builder builder = new Builder(size + 1);
+        for (int i = 0; i < size; i++) {
+            builder.put(currencies[i], rates[i]);
+        }
+        return builder.put(currency, rate).build();
+    }
+
+    @Override
+    public Set<Entry<String, BigDecimal>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, BigDecimal>> iterator() {
+                return new Iterator<>() {
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < size;
+                    }
+
+                    @Override
+                    public Entry<String, BigDecimal> next() {
+                        if (next >= size) {
+                            throw new NoSuchElementException();
+                        }
+                        int index = next++;
+                        return new SimpleImmutableEntry<>(currencies[index], rates[index]);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private int indexOf(Object key) {
+        if (!(key instanceof String currency)) {
+            return -1;
+        }
+        return Arrays.binarySearch(currencies, 0, size, currency);
+    }
+
+    /**
+     * Collects rates in the order they are decoded. Rates usually arrive sorted by
+     * currency code, in which case every insertion is an append.
+     */
+    public static final class Builder {
+
+        private String[] currencies;
+
+        private BigDecimal[] rates;
+
+        private int size;
+
+        private Builder(int expectedSize) {
+            int capacity = Math.max(expectedSize, 4);
+            this.currencies = new String[capacity];
+            this.rates = new BigDecimal[capacity];
+        }
+
+        public Builder put(String currency, BigDecimal rate) {
+            int index = size > 0 && currency.compareTo(currencies[size - 1]) > 0
+                    ? -(size + 1)
+                    : Arrays.binarySearch(currencies, 0, size, currency);
+            if (index >= 0) {
+                rates[index] = rate;
+                return this;
+            }
+            int insertAt = -(index + 1);
+            if (size == currencies.length) {
+                currencies = Arrays.copyOf(currencies, size * 2);
+                rates = Arrays.copyOf(rates, size * 2);
+            }
+            System.arraycopy(currencies, insertAt, currencies, insertAt + 1, size - insertAt);
+            System.arraycopy(rates, insertAt, rates, insertAt + 1, size - insertAt);
+            currencies[insertAt] = currency;
+            rates[insertAt] = rate;
+            size++;
+            return this;
+        }
+
+        public RateTable build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+            RateTable table = new RateTable(currencies, rates, size);
+            currencies = null;
+            rates = null;
+            return table;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.i2i.user_management.Integration.Client.Response;
+
+/**
+ * Decoded FastForex rate response ({@code fetch-one}, {@code fetch-multi} or {@code fetch-all}).
+ *
+ * @param base currency the rates are quoted against
+ * @param rates rates by currency code, or null if the response had no result
+ */
+public record RatesResponse(String base, RateTable rates) {
+}
@@ -0,0 +1,92 @@
+package com.i2i.user_management.Integration.Rate;
+
+import com.i2i.user_management.Constants.UMSConstants;
+import com.i2i.user_management.Exception.ExternalServiceException;
+import com.i2i.user_management.Integration.Client.ExchangeRateClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Derives the exchange rate between any two currencies from the INR base table.
+ *
+ * <p>Every rate the provider quotes is a currency-to-INR rate. The exchange rate
+ * warm-up loads that whole table into the rate cache with one {@code fetch-all}
+ * call and reloads it before the cache would refresh single entries, so a refresh
+ * cycle costs one provider call whatever pairs are requested. A cross rate is
+ * computed in memory as {@code rateToInr(source) / rateToInr(target)} from the
+ * cached table; only currencies missing from it cost a bulk rate lookup.</p>
+ */
+@Component
+public class CrossRateEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(CrossRateEngine.class);
+
+    private final ExchangeRateClient exchangeRateClient;
+
+    public CrossRateEngine(ExchangeRateClient exchangeRateClient) {
+        this.exchangeRateClient = exchangeRateClient;
+    }
+
+    /**
+     * Resolves the rate from each source currency to the target currency.
+     *
+     * @param sourceCurrencies upper-case currency codes to convert from
+     * @param targetCurrency upper-case currency code to convert to
+     * @return map of source currency code to its rate in the target currency; sources
+     *         without a known rate are left out
+     * @throws ExternalServiceException if the rate of the target currency is unknown
+     */
+    public Map<String, BigDecimal> getRates(Set<String> sourceCurrencies, String targetCurrency) {
+        Set<String> currencies = new HashSet<>(sourceCurrencies);
+        currencies.add(targetCurrency);
+        currencies.remove(UMSConstants.INR);
+        Map<String, BigDecimal> ratesToInr = currencies.isEmpty()
+                ? Map.of()
+                : exchangeRateClient.getRatesToInr(currencies);
+
+        BigDecimal targetToInr = rateToInr(ratesToInr, targetCurrency);
+        if (targetToInr == null) {
+            log.warn("No exchange rate available for target currency {}", targetCurrency);
+            throw new ExternalServiceException("Unable to fetch exchange rate for " + targetCurrency);
+        }
+        Map<String, BigDecimal> crossRates = new HashMap<>();
+        for (String source : sourceCurrencies) {
+            BigDecimal sourceToInr = rateToInr(ratesToInr, source);
+            if (sourceToInr != null) {
+                crossRates.put(source, source.equals(targetCurrency)
+                        ? BigDecimal.ONE
+                        : sourceToInr.divide(targetToInr, MathContext.DECIMAL64));
+            }
+        }
+        return Map.copyOf(crossRates);
+    }
+
+    /**
+     * Resolves the rate from one currency to another.
+     *
+     * @param sourceCurrency upper-case currency code to convert from
+     * @param targetCurrency upper-case currency code to convert to
+     * @return rate of the source currency in the target currency
+     * @throws ExternalServiceException if either rate is unknown
+     */
+    public BigDecimal getRate(String sourceCurrency, String targetCurrency) {
+        BigDecimal rate = getRates(Set.of(sourceCurrency), targetCurrency).get(sourceCurrency);
+        if (rate == null) {
+            log.warn("No exchange rate available for currency {}", sourceCurrency);
+            throw new ExternalServiceException("Unable to fetch exchange rate for " + sourceCurrency);
+        }
+        return rate;
+    }
+
+    private static BigDecimal rateToInr(Map<String, BigDecimal> ratesToInr, String currency) {
+        return UMSConstants.INR.equals(currency) ? BigDecimal.ONE : ratesToInr.get(currency);
+    }
+}
@@ -0,0 +1,91 @@
+package com.i2i.user_management.Integration.Rate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point currency converter.
+ *
+ * <p>Amounts are handled as {@code long} minor units (scale 2, the precision of the
+ * stored amounts) and rates as {@code long} units of 10<sup>-8</sup> (scale 8, the
+ * precision {@code fx_rate} is stored with). A conversion is one checked
+ * multiplication and one rounded division on {@code long}s, with the rounding mode
+ * applied explicitly, and always yields scale 2. The {@link BigDecimal} methods
+ * only convert at the boundary and fall back to {@link BigDecimal} arithmetic when
+ * an amount does not fit.</p>
+ *
+ * <p>The converter holds no rates: callers convert with the rate snapshot of their
+ * own request, so concurrent requests never see each other's rates.</p>
+ */
+public final class FixedPointConverter {
+
+    public static final int AMOUNT_SCALE = 2;
+
+    public static final int RATE_SCALE = 8;
+
+    private static final long RATE_UNIT = 100_000_000L;
+
+    private FixedPointConverter() {
+    }
+
+    /**
+     * Converts an amount with the given rate, rounded half-up to {@value #AMOUNT_SCALE} decimals.
+     *
+     * @param amount amount to convert
+     * @param rate conversion rate, rounded half-up to {@value #RATE_SCALE} decimals first
+     * @return converted amount with scale {@value #AMOUNT_SCALE}
+     */
+    public static BigDecimal convert(BigDecimal amount, BigDecimal rate) {
+        return convert(amount, toRateUnits(rate), RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Converts an amount in minor units with a rate in units of 10<sup>-8</sup>.
+     *
+     * @param amountMinor amount in minor units
+     * @param rateUnits rate in units of 10<sup>-8</sup>
+     * @param roundingMode rounding applied to the result
+     * @return converted amount in minor units
+     * @throws ArithmeticException if the product overflows a {@code long}, or the
+     *         result needs rounding with {@link RoundingMode#UNNECESSARY}
+     */
+    public static long convert(long amountMinor, long rateUnits, RoundingMode roundingMode) {
+        long product = Math.multiplyExact(amountMinor, rateUnits);
+        long quotient = product / RATE_UNIT;
+        long remainder = product % RATE_UNIT;
+        if (remainder == 0) {
+            return quotient;
+        }
+        int sign = product < 0 ? -1 : 1;
+        int half = Long.compare(Math.abs(remainder) * 2, RATE_UNIT);
+        boolean awayFromZero = switch (roundingMode) {
+            case DOWN -> false;
+            case UP -> true;
+            case FLOOR -> sign < 0;
+            case CEILING -> sign > 0;
+            case HALF_UP -> half >= 0;
+            case HALF_DOWN -> half > 0;
+            case HALF_EVEN -> half > 0 || (half == 0 && (quotient & 1) != 0);
+            case UNNECESSARY -> throw new ArithmeticException("Rounding necessary");
+        };
+        return awayFromZero ? quotient + sign : quotient;
+    }
+
+    /**
+     * Converts a rate to units of 10<sup>-8</sup>, rounded half-up.
+     */
+    public static long toRateUnits(BigDecimal rate) {
+        return rate.setScale(RATE_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static BigDecimal convert(BigDecimal amount, long rateUnits, RoundingMode roundingMode) {
+        if (amount.scale() <= AMOUNT_SCALE && amount.precision() - amount.scale() <= 16) {
+            long amountMinor = amount.movePointRight(AMOUNT_SCALE).longValueExact();
+            if (Math.multiplyHigh(amountMinor, rateUnits) == (amountMinor * rateUnits) >> 63) {
+                return BigDecimal.valueOf(convert(amountMinor, rateUnits, roundingMode), AMOUNT_SCALE);
+            }
+        }
+        return amount.multiply(BigDecimal.valueOf(rateUnits, RATE_SCALE))
+                .setScale(AMOUNT_SCALE, roundingMode);
+    }
+}
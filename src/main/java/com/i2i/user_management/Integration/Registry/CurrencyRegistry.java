@@ -0,0 +1,95 @@
+package com.i2i.user_management.Integration.Registry;
+
+import com.i2i.user_management.Integration.Client.ExchangeRateClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Currency;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory registry of the currencies expenses can be submitted in.
+ *
+ * <p>The registry starts out with the ISO-4217 currencies known to the JDK so that
+ * validation works even when the exchange rate provider is unreachable. Once the
+ * provider answers, its currency list replaces the seed and is refreshed in the
+ * background on a fixed delay. Lookups never leave the process.</p>
+ */
+@Component
+public class CurrencyRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(CurrencyRegistry.class);
+
+    private final ExchangeRateClient exchangeRateClient;
+
+    private volatile Map<String, String> currencies;
+
+    public CurrencyRegistry(ExchangeRateClient exchangeRateClient) {
+        this.exchangeRateClient = exchangeRateClient;
+        this.currencies = toSortedView(isoCurrencies());
+        log.info("Currency registry seeded with {} ISO-4217 currencies", currencies.size());
+    }
+
+    /**
+     * Reloads the currency list from the exchange rate provider. On failure the
+     * previously loaded list is kept.
+     */
+    @Scheduled(initialDelay = 0,
+            fixedDelayString = "${fast.forex.currencies.refresh-interval-minutes}",
+            timeUnit = TimeUnit.MINUTES)
+    public void refresh() {
+        try {
+            Map<String, String> providerCurrencies = exchangeRateClient.getAllCurrencies();
+            if (providerCurrencies == null || providerCurrencies.isEmpty()) {
+                log.warn("Exchange rate provider returned no currencies, keeping {} registered currencies",
+                        currencies.size());
+                return;
+            }
+            currencies = toSortedView(providerCurrencies);
+            log.info("Currency registry refreshed with {} currencies from the provider", currencies.size());
+        } catch (Exception e) {
+            log.warn("Failed to refresh currency registry, keeping {} registered currencies: {}",
+                    currencies.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Checks whether a currency code is supported.
+     *
+     * @param currencyCode upper-case currency code
+     * @return true if the currency is registered
+     */
+    public boolean isSupported(String currencyCode) {
+        return currencyCode != null && currencies.containsKey(currencyCode);
+    }
+
+    /**
+     * Returns all registered currencies, ordered by code.
+     *
+     * @return unmodifiable map of currency code to currency name
+     */
+    public Map<String, String> getCurrencies() {
+        return currencies;
+    }
+
+    private static Map<String, String> isoCurrencies() {
+        Map<String, String> isoCurrencies = new TreeMap<>();
+        for (Currency currency : Currency.getAvailableCurrencies()) {
+            isoCurrencies.put(currency.getCurrencyCode(), currency.getDisplayName(Locale.ENGLISH));
+        }
+        return isoCurrencies;
+    }
+
+    private static Map<String, String> toSortedView(Map<String, String> source) {
+        Map<String, String> sorted = new LinkedHashMap<>();
+        new TreeMap<>(source).forEach((code, name) -> sorted.put(code.toUpperCase(), name));
+        return Collections.unmodifiableMap(sorted);
+    }
+}
@@ -16,7 +16,7 @@ public class ExpenseMapper {
     /**
      * Converts an Expense entity into an ExpenseResponseDto.
      * This method maps all relevant fields, including ID, title, description,
-     * expense date, amount, currency, receipt URL, and approval information.
+     * expense date, amount, currency, stored INR conversion, receipt URL, and approval information.
      *
      * @param expense the Expense entity object to convert
      * @return an ExpenseResponseDto representing the given Expense,
@@ -31,6 +31,9 @@ public class ExpenseMapper {
         dto.setExpenseDate(expense.getExpenseDate());
         dto.setAmount(expense.getAmount());
         dto.setCurrency(expense.getCurrency());
+        dto.setAmountInInr(expense.getAmountInInr());
+        dto.setFxRate(expense.getFxRate());
+        dto.setFxRateAt(expense.getFxRateAt());
         dto.setReceiptUrl(expense.getReceiptUrl());
         dto.setStatus(expense.getStatus() != null ? expense.getStatus().name() : null);
         dto.setRequestedBy(expense.getRequestedBy().getFirstName() + expense.getRequestedBy().getLastName());
@@ -40,4 +43,35 @@ public class ExpenseMapper {
         dto.setRejectionReason(expense.getRejectionReason());
         return dto;
     }
+
+    /**
+     * Creates a copy of an ExpenseResponseDto, so that a shared instance can be
+     * handed out without callers changing it.
+     *
+     * @param dto the DTO to copy
+     * @return a new ExpenseResponseDto with the same values,
+     *         or null if the input is null
+     */
+    public static ExpenseResponseDto copyOf(ExpenseResponseDto dto) {
+        if (dto == null) return null;
+        ExpenseResponseDto copy = new ExpenseResponseDto();
+        copy.setId(dto.getId());
+        copy.setTitle(dto.getTitle());
+        copy.setDescription(dto.getDescription());
+        copy.setExpenseDate(dto.getExpenseDate());
+        copy.setAmount(dto.getAmount());
+        copy.setCurrency(dto.getCurrency());
+        copy.setAmountInInr(dto.getAmountInInr());
+        copy.setFxRate(dto.getFxRate());
+        copy.setFxRateAt(dto.getFxRateAt());
+        copy.setRateStale(dto.isRateStale());
+        copy.setTargetCurrency(dto.getTargetCurrency());
+        copy.setAmountInTarget(dto.getAmountInTarget());
+        copy.setReceiptUrl(dto.getReceiptUrl());
+        copy.setStatus(dto.getStatus());
+        copy.setRequestedBy(dto.getRequestedBy());
+        copy.setApprovedByName(dto.getApprovedByName());
+        copy.setRejectionReason(dto.getRejectionReason());
+        return copy;
+    }
 }
@@ -20,6 +20,7 @@ import lombok.experimental.SuperBuilder;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
@@ -77,6 +78,15 @@ public class Expense extends BaseEntity {
     @EqualsAndHashCode.Exclude
     private User approvedBy;
 
+    @Column(name = "amount_in_inr", precision = 19, scale = 2)
+    private BigDecimal amountInInr;
+
+    @Column(name = "fx_rate", precision = 19, scale = 8)
+    private BigDecimal fxRate;
+
+    @Column(name = "fx_rate_at")
+    private LocalDateTime fxRateAt;
+
     @Column(name = "rejection_reason")
     private String rejectionReason;
 
@@ -0,0 +1,85 @@
+package com.i2i.user_management.Model;
+
+import com.i2i.user_management.Enum.ReportJobStatus;
+import com.i2i.user_management.Enum.ReportType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entity representing a report generated in the background, with its stored
+ * result until it expires.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "report_jobs")
+@Entity
+public class ReportJob {
+
+    @Id
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "report_type", nullable = false, length = 32)
+    private ReportType reportType;
+
+    @Column(name = "spec_key", nullable = false, length = 32)
+    private String specKey;
+
+    @Column(name = "from_date")
+    private LocalDate fromDate;
+
+    @Column(name = "to_date")
+    private LocalDate toDate;
+
+    @Column(length = 8)
+    private String currency;
+
+    @Column(name = "target_currency", length = 8)
+    private String targetCurrency;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ReportJobStatus status;
+
+    /**
+     * Gzip-compressed JSON array of the report rows.
+     */
+    @ToString.Exclude
+    private byte[] result;
+
+    @Column(name = "row_count")
+    private Integer rowCount;
+
+    @Column(length = 500)
+    private String error;
+
+    @Column(name = "requested_by", nullable = false)
+    private String requestedBy;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,27 @@
+package com.i2i.user_management.Repository;
+
+import com.i2i.user_management.Dto.ExpenseDecision;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Expense statements executed as one JDBC batch, for requests that change many
+ * expenses at once.
+ */
+public interface ExpenseBatchRepository {
+
+    /**
+     * Applies every decision with the same conditional update as a single decision,
+     * sent to the database as one batch. A decision only matches an expense that is
+     * still pending, not deleted and not requested by the approver.
+     *
+     * @param decisions decisions to apply
+     * @param approverId id of the approving user
+     * @param decidedAt time of the decision
+     * @return number of updated rows per decision, in the given order
+     */
+    int[] decidePendingBatch(List<ExpenseDecision> decisions, UUID approverId, LocalDateTime decidedAt);
+
+}
@@ -0,0 +1,109 @@
+package com.i2i.user_management.Repository;
+
+import com.i2i.user_management.Dto.CurrencySummaryDto;
+import com.i2i.user_management.Dto.EmployeeExpenseSummaryDto;
+import com.i2i.user_management.Dto.ExpenseListVersion;
+import com.i2i.user_management.Dto.ExpenseResponseDto;
+import com.i2i.user_management.Dto.ExpenseSearchHit;
+import com.i2i.user_management.Enum.ExpenseStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Expense queries with optional filters. Each query is built for the filters that
+ * are actually given, so a missing filter adds no predicate and every supplied
+ * filter is a plain comparison the database can match to an index.
+ */
+public interface ExpenseQueryRepository {
+
+    /**
+     * Returns a page of the expenses matching the given filters.
+     *
+     * @param status optional status
+     * @param fromDate optional first expense date, inclusive
+     * @param toDate optional last expense date, inclusive
+     * @param pageable page and sort
+     * @return page of expense DTOs
+     */
+    Page<ExpenseResponseDto> findResponsesByFilters(ExpenseStatus status, LocalDate fromDate, LocalDate toDate,
+                                                    Pageable pageable);
+
+    /**
+     * Reads the version of the listing of the expenses matching the given filters
+     * with one aggregate query, without loading the rows.
+     *
+     * @param status optional status
+     * @param fromDate optional first expense date, inclusive
+     * @param toDate optional last expense date, inclusive
+     * @return latest update time and counts of the matching expenses
+     */
+    ExpenseListVersion findListVersionByFilters(ExpenseStatus status, LocalDate fromDate, LocalDate toDate);
+
+    /**
+     * Returns the filtered expenses after the given position, newest first. A null
+     * cursor starts from the first row; no count query is issued.
+     *
+     * @param status optional status
+     * @param fromDate optional first expense date, inclusive
+     * @param toDate optional last expense date, inclusive
+     * @param cursorDate expense date of the last row of the previous page, or null
+     * @param cursorId id of the last row of the previous page, or null
+     * @param limit maximum number of rows
+     * @return expense DTOs ordered by expense date and id, descending
+     */
+    List<ExpenseResponseDto> findResponsesByFiltersAfter(ExpenseStatus status, LocalDate fromDate, LocalDate toDate,
+                                                         LocalDate cursorDate, UUID cursorId, Limit limit);
+
+    /**
+     * Streams the expenses matching the given filters, oldest first. Rows are read
+     * from a database cursor in batches of the export fetch size, so the stream must
+     * be consumed inside a transaction and closed afterwards.
+     *
+     * @param status optional status
+     * @param fromDate optional first expense date, inclusive
+     * @param toDate optional last expense date, inclusive
+     * @return stream of expense DTOs
+     */
+    Stream<ExpenseResponseDto> streamResponsesByFilters(ExpenseStatus status, LocalDate fromDate, LocalDate toDate);
+
+    /**
+     * Returns the currencies of the matching expenses that have no stored INR amount.
+     *
+     * @param status optional status
+     * @param fromDate optional first expense date, inclusive
+     * @param toDate optional last expense date, inclusive
+     * @return distinct currency codes
+     */
+    Set<String> findUnconvertedCurrencies(ExpenseStatus status, LocalDate fromDate, LocalDate toDate);
+
+    /**
+     * Searches expense titles and descriptions with PostgreSQL full-text search,
+     * best matches first. The query is parsed with {@code websearch_to_tsquery}, so
+     * quoted phrases, {@code or} and {@code -word} are supported and any input is safe.
+     *
+     * @param query search text
+     * @param status optional status
+     * @param fromDate optional first expense date, inclusive
+     * @param toDate optional last expense date, inclusive
+     * @param cursorRank rank of the last hit of the previous page, or null
+     * @param cursorId id of the last hit of the previous page, or null
+     * @param limit maximum number of hits
+     * @return hits ordered by rank and id, descending
+     */
+    List<ExpenseSearchHit> searchResponses(String query, ExpenseStatus status, LocalDate fromDate, LocalDate toDate,
+                                           Float cursorRank, UUID cursorId, Limit limit);
+
+    List<EmployeeExpenseSummaryDto> totalApprovedPerEmployee(LocalDate fromDate, LocalDate toDate);
+
+    List<CurrencySummaryDto> totalByCurrency(String currency, LocalDate fromDate, LocalDate toDate);
+
+    List<CurrencySummaryDto> groupByCurrency(LocalDate fromDate, LocalDate toDate);
+
+}
@@ -1,9 +1,10 @@
 package com.i2i.user_management.Repository;
 
-import com.i2i.user_management.Dto.CurrencySummaryDto;
-import com.i2i.user_management.Dto.EmployeeExpenseSummaryDto;
+import com.i2i.user_management.Dto.ExpenseListVersion;
+import com.i2i.user_management.Dto.ExpenseResponseDto;
 import com.i2i.user_management.Enum.ExpenseStatus;
 import com.i2i.user_management.Model.Expense;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -11,14 +12,71 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface ExpenseRepository extends JpaRepository<Expense, UUID> {
+public interface ExpenseRepository extends JpaRepository<Expense, UUID>, ExpenseQueryRepository,
+        ExpenseBatchRepository, ExpenseRollupRepository {
 
-    Page<Expense> findAllByRequestedByIdAndIsDeletedFalse(UUID userId, Pageable pageable);
+    /**
+     * Selects expense rows straight into response DTOs, joining the requester and
+     * approver names into the same statement instead of loading both users (and
+     * their roles) for every row.
+     */
+    String EXPENSE_RESPONSE_SELECT = "SELECT new com.i2i.user_management.Dto.ExpenseResponseDto("
+            + "e.id, e.title, e.description, e.expenseDate, e.amount, e.currency, e.amountInInr, "
+            + "e.fxRate, e.fxRateAt, e.receiptUrl, e.status, "
+            + "CONCAT(r.firstName, r.lastName), "
+            + "CASE WHEN a.id IS NULL THEN NULL ELSE CONCAT(a.firstName, a.lastName) END, "
+            + "e.rejectionReason) "
+            + "FROM Expense e JOIN e.requestedBy r LEFT JOIN e.approvedBy a ";
+
+    @Query(EXPENSE_RESPONSE_SELECT + "WHERE e.id = :id")
+    Optional<ExpenseResponseDto> findResponseById(@Param("id") UUID id);
+
+    @Query(value = EXPENSE_RESPONSE_SELECT
+            + "WHERE e.isDeleted = false AND r.id = :userId",
+            countQuery = "SELECT COUNT(e) FROM Expense e "
+                    + "WHERE e.isDeleted = false AND e.requestedBy.id = :userId")
+    Page<ExpenseResponseDto> findResponsesByRequestedById(@Param("userId") UUID userId, Pageable pageable);
+
+    /**
+     * Reads the version of a user's expense listing with one aggregate over the
+     * user's rows, without loading them.
+     */
+    @Query("SELECT new com.i2i.user_management.Dto.ExpenseListVersion(MAX(e.updatedAt), COUNT(e), "
+            + "SUM(CASE WHEN e.amountInInr IS NULL THEN 1 ELSE 0 END)) "
+            + "FROM Expense e WHERE e.isDeleted = false AND e.requestedBy.email = :email")
+    ExpenseListVersion findListVersionByRequesterEmail(@Param("email") String email);
+
+    /**
+     * Returns the first page of the user's expenses, newest first; no count query
+     * is issued.
+     */
+    @Query(EXPENSE_RESPONSE_SELECT
+            + "WHERE e.isDeleted = false AND r.id = :userId "
+            + "ORDER BY e.expenseDate DESC, e.id DESC")
+    List<ExpenseResponseDto> findFirstResponsesByRequestedById(@Param("userId") UUID userId, Limit limit);
+
+    /**
+     * Returns the user's expenses after the given position, newest first. The
+     * cursor is always bound, so the position is a plain range condition on the
+     * (requested_by, expense_date DESC, id DESC) index; use
+     * {@link #findFirstResponsesByRequestedById} for the first page.
+     */
+    @Query(EXPENSE_RESPONSE_SELECT
+            + "WHERE e.isDeleted = false AND r.id = :userId "
+            + "AND (e.expenseDate, e.id) < (:cursorDate, :cursorId) "
+            + "ORDER BY e.expenseDate DESC, e.id DESC")
+    List<ExpenseResponseDto> findResponsesByRequestedByIdAfter(@Param("userId") UUID userId,
+                                                               @Param("cursorDate") LocalDate cursorDate,
+                                                               @Param("cursorId") UUID cursorId,
+                                                               Limit limit);
 
     Page<Expense> findAllByStatusAndIsDeletedFalse(ExpenseStatus status, Pageable pageable);
 
@@ -26,52 +84,53 @@ public interface ExpenseRepository extends JpaRepository<Expense, UUID> {
             + "AND e.id = :id AND (:status IS NULL OR e.status = :status)")
     Optional<Expense> findByIdAndStatus(@Param("id") UUID id, @Param("status") ExpenseStatus status);
 
+    /**
+     * Moves a pending expense to the decided status in one conditional statement.
+     * The row only matches while it is still pending and was not requested by the
+     * approver, so concurrent decisions cannot overwrite each other and the
+     * self-approval rule holds without reading the row first.
+     */
+    String DECIDE_PENDING = "UPDATE expenses SET status = :status, rejection_reason = :reason, "
+            + "approved_by = (SELECT u.id FROM um_users u WHERE u.email = :approverEmail), "
+            + "updated_at = :decidedAt "
+            + "WHERE id = :id AND status = 'PENDING' AND is_deleted = false "
+            + "AND requested_by <> (SELECT u.id FROM um_users u WHERE u.email = :approverEmail)";
+
+    /**
+     * Decides a pending expense that already has a stored INR amount.
+     *
+     * @return number of updated rows, 0 if the expense cannot be decided as is
+     */
     @Modifying
-    @Query("UPDATE Expense e SET e.isDeleted = true WHERE e.id = :id")
-    void softDelete(@Param("id") UUID id);
+    @Query(value = DECIDE_PENDING + " AND amount_in_inr IS NOT NULL", nativeQuery = true)
+    int decidePendingConverted(@Param("id") UUID id, @Param("status") String status,
+                               @Param("reason") String reason, @Param("approverEmail") String approverEmail,
+                               @Param("decidedAt") LocalDateTime decidedAt);
 
-    @Query("SELECT e FROM Expense e WHERE e.isDeleted = false "
-            + "AND (:status IS NULL OR e.status = :status) "
-            + "AND (e.expenseDate >= COALESCE(:fromDate, e.expenseDate)) "
-            + "AND (e.expenseDate <= COALESCE(:toDate, e.expenseDate))")
-    Page<Expense> findAllByFilters(@Param("status") ExpenseStatus status,
-                                   @Param("fromDate") LocalDate fromDate,
-                                   @Param("toDate") LocalDate toDate,
-                                   Pageable pageable);
-
-    @Query("SELECT new com.i2i.user_management.Dto.EmployeeExpenseSummaryDto("
-            + "e.requestedBy.employeeId, "
-            + "CONCAT(e.requestedBy.firstName, ' ', e.requestedBy.lastName), "
-            + "e.currency, "
-            + "SUM(e.amount)) "
-            + "FROM Expense e "
-            + "WHERE e.isDeleted = false AND e.status = 'APPROVED' "
-            + "AND (e.expenseDate >= COALESCE(:fromDate, e.expenseDate)) "
-            + "AND (e.expenseDate <= COALESCE(:toDate, e.expenseDate)) "
-            + "GROUP BY e.requestedBy.employeeId, e.requestedBy.firstName, e.requestedBy.lastName, e.currency")
-    List<EmployeeExpenseSummaryDto> totalApprovedPerEmployee(@Param("fromDate") LocalDate fromDate,
-                                                             @Param("toDate") LocalDate toDate);
-
-
-    @Query("SELECT new com.i2i.user_management.Dto.CurrencySummaryDto(e.currency, SUM(e.amount)) "
-            + "FROM Expense e "
-            + "WHERE e.isDeleted = false AND e.status = 'APPROVED' "
-            + "AND (:currency IS NULL OR e.currency = :currency) "
-            + "AND (e.expenseDate >= COALESCE(:fromDate, e.expenseDate)) "
-            + "AND (e.expenseDate <= COALESCE(:toDate, e.expenseDate)) "
-            + "GROUP BY e.currency")
-    List<CurrencySummaryDto> totalByCurrency(@Param("currency") String currency,
-                                             @Param("fromDate") LocalDate fromDate,
-                                             @Param("toDate") LocalDate toDate);
-
-    @Query("SELECT new com.i2i.user_management.Dto.CurrencySummaryDto(e.currency, SUM(e.amount)) "
-            + "FROM Expense e "
-            + "WHERE e.isDeleted = false AND e.status = 'APPROVED' "
-            + "AND (e.expenseDate >= COALESCE(:fromDate, e.expenseDate)) "
-            + "AND (e.expenseDate <= COALESCE(:toDate, e.expenseDate)) "
-            + "GROUP BY e.currency")
-    List<CurrencySummaryDto> groupByCurrency(@Param("fromDate") LocalDate fromDate,
-                                             @Param("toDate") LocalDate toDate);
+    /**
+     * Decides a pending expense whatever its INR amount.
+     *
+     * @return number of updated rows, 0 if the expense cannot be decided
+     */
+    @Modifying
+    @Query(value = DECIDE_PENDING, nativeQuery = true)
+    int decidePending(@Param("id") UUID id, @Param("status") String status, @Param("reason") String reason,
+                      @Param("approverEmail") String approverEmail, @Param("decidedAt") LocalDateTime decidedAt);
+
+    /**
+     * Stores the INR amount of an expense persisted without one, unless another
+     * transaction stored it first.
+     */
+    @Modifying
+    @Query("UPDATE Expense e SET e.amountInInr = :amountInInr, e.fxRate = :fxRate, e.fxRateAt = :fxRateAt "
+            + "WHERE e.id = :id AND e.amountInInr IS NULL")
+    int storeInrAmount(@Param("id") UUID id, @Param("amountInInr") BigDecimal amountInInr,
+                       @Param("fxRate") BigDecimal fxRate, @Param("fxRateAt") LocalDateTime fxRateAt);
 
+    List<Expense> findByIdInAndAmountInInrIsNull(Collection<UUID> ids);
+
+    @Modifying
+    @Query("UPDATE Expense e SET e.isDeleted = true, e.updatedAt = LOCAL DATETIME WHERE e.id = :id")
+    void softDelete(@Param("id") UUID id);
 
 }
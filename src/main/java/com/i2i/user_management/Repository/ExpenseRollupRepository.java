@@ -0,0 +1,29 @@
+package com.i2i.user_management.Repository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Maintenance of the monthly rollups of approved expenses, which the reports
+ * read for whole months instead of grouping every approved expense.
+ */
+public interface ExpenseRollupRepository {
+
+    /**
+     * Adds newly approved expenses to the employee and currency rollups of their
+     * month. Must run in the transaction that approved them, after any INR amount
+     * was stored.
+     *
+     * @param expenseIds ids of expenses that were just approved
+     */
+    void addApprovedToRollups(Collection<UUID> expenseIds);
+
+    /**
+     * Recomputes both rollups from the approved expenses. Concurrent approvals
+     * wait until the rebuild has committed.
+     *
+     * @return number of employee rollup rows written
+     */
+    int rebuildRollups();
+
+}
@@ -0,0 +1,43 @@
+package com.i2i.user_management.Repository.Impl;
+
+import com.i2i.user_management.Dto.ExpenseDecision;
+import com.i2i.user_management.Repository.ExpenseBatchRepository;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JDBC implementation of {@link ExpenseBatchRepository}, picked up by Spring Data
+ * as a fragment of {@code ExpenseRepository}. Statements run on the connection of
+ * the surrounding JPA transaction.
+ */
+public class ExpenseBatchRepositoryImpl implements ExpenseBatchRepository {
+
+    private static final String DECIDE_PENDING = "UPDATE expenses SET status = :status, "
+            + "rejection_reason = :reason, approved_by = :approverId, updated_at = :decidedAt "
+            + "WHERE id = :id AND status = 'PENDING' AND is_deleted = false AND requested_by <> :approverId";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ExpenseBatchRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int[] decidePendingBatch(List<ExpenseDecision> decisions, UUID approverId, LocalDateTime decidedAt) {
+        SqlParameterSource[] batch = decisions.stream()
+                .map(decision -> new MapSqlParameterSource()
+                        .addValue("id", decision.id())
+                        .addValue("status", decision.status().name())
+                        .addValue("reason", decision.reason(), Types.VARCHAR)
+                        .addValue("approverId", approverId)
+                        .addValue("decidedAt", decidedAt))
+                .toArray(SqlParameterSource[]::new);
+        return jdbcTemplate.batchUpdate(DECIDE_PENDING, batch);
+    }
+}
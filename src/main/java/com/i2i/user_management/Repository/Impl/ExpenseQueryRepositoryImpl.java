@@ -0,0 +1,478 @@
+package com.i2i.user_management.Repository.Impl;
+
+import com.i2i.user_management.Dto.CurrencySummaryDto;
+import com.i2i.user_management.Dto.EmployeeExpenseSummaryDto;
+import com.i2i.user_management.Dto.ExpenseListVersion;
+import com.i2i.user_management.Dto.ExpenseResponseDto;
+import com.i2i.user_management.Dto.ExpenseSearchHit;
+import com.i2i.user_management.Enum.ExpenseStatus;
+import com.i2i.user_management.Model.Expense;
+import com.i2i.user_management.Model.User;
+import com.i2i.user_management.Repository.ExpenseQueryRepository;
+import com.i2i.user_management.util.RollupPeriod;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Criteria implementation of {@link ExpenseQueryRepository}, picked up by Spring Data
+ * as a fragment of {@code ExpenseRepository}.
+ *
+ * <p>When rollups are enabled, the approved totals of whole months are read from the
+ * monthly rollup tables and only the partial months at the edges of the requested
+ * range are grouped from the expenses themselves.</p>
+ */
+public class ExpenseQueryRepositoryImpl implements ExpenseQueryRepository {
+
+    private static final String EXPENSE_DATE = "expenseDate";
+
+    private static final String AMOUNT = "amount";
+
+    private static final String AMOUNT_IN_INR = "amountInInr";
+
+    private static final String CURRENCY = "currency";
+
+    private static final String FIRST_NAME = "firstName";
+
+    private static final String LAST_NAME = "lastName";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final int exportFetchSize;
+
+    private final boolean rollupsEnabled;
+
+    public ExpenseQueryRepositoryImpl(@Value("${expense.export.fetch-size}") int exportFetchSize,
+                                      @Value("${expense.report.rollups.enabled}") boolean rollupsEnabled) {
+        this.exportFetchSize = exportFetchSize;
+        this.rollupsEnabled = rollupsEnabled;
+    }
+
+    @Override
+    public Page<ExpenseResponseDto> findResponsesByFilters(ExpenseStatus status, LocalDate fromDate,
+                                                           LocalDate toDate, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ExpenseResponseDto> query = cb.createQuery(ExpenseResponseDto.class);
+        Root<Expense> expense = query.from(Expense.class);
+        query.select(responseSelection(cb, expense))
+                .where(filters(cb, expense, status, null, fromDate, toDate).toArray(Predicate[]::new));
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), expense, cb));
+        }
+        TypedQuery<ExpenseResponseDto> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult(Math.toIntExact(pageable.getOffset()))
+                    .setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable,
+                () -> count(status, fromDate, toDate));
+    }
+
+    @Override
+    public ExpenseListVersion findListVersionByFilters(ExpenseStatus status, LocalDate fromDate, LocalDate toDate) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ExpenseListVersion> query = cb.createQuery(ExpenseListVersion.class);
+        Root<Expense> expense = query.from(Expense.class);
+        Expression<Long> unconverted = cb.<Long>selectCase()
+                .when(cb.isNull(expense.get(AMOUNT_IN_INR)), 1L)
+                .otherwise(0L);
+        query.select(cb.construct(ExpenseListVersion.class,
+                        cb.<LocalDateTime>greatest(expense.get("updatedAt")),
+                        cb.count(expense),
+                        cb.sum(unconverted)))
+                .where(filters(cb, expense, status, null, fromDate, toDate).toArray(Predicate[]::new));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    @Override
+    public List<ExpenseResponseDto> findResponsesByFiltersAfter(ExpenseStatus status, LocalDate fromDate,
+                                                                LocalDate toDate, LocalDate cursorDate,
+                                                                UUID cursorId, Limit limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ExpenseResponseDto> query = cb.createQuery(ExpenseResponseDto.class);
+        Root<Expense> expense = query.from(Expense.class);
+        List<Predicate> predicates = filters(cb, expense, status, null, fromDate, toDate);
+        if (cursorDate != null) {
+            Path<LocalDate> expenseDate = expense.get(EXPENSE_DATE);
+            Path<UUID> id = expense.get("id");
+            // The redundant upper bound on the date gives the planner an index range to start from
+            predicates.add(cb.lessThanOrEqualTo(expenseDate, cursorDate));
+            predicates.add(cb.or(cb.lessThan(expenseDate, cursorDate),
+                    cb.lessThan(id, cursorId)));
+        }
+        query.select(responseSelection(cb, expense))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(expense.get(EXPENSE_DATE)), cb.desc(expense.get("id")));
+        TypedQuery<ExpenseResponseDto> typedQuery = entityManager.createQuery(query);
+        if (limit.isLimited()) {
+            typedQuery.setMaxResults(limit.max());
+        }
+        return typedQuery.getResultList();
+    }
+
+    @Override
+    public Stream<ExpenseResponseDto> streamResponsesByFilters(ExpenseStatus status, LocalDate fromDate,
+                                                               LocalDate toDate) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ExpenseResponseDto> query = cb.createQuery(ExpenseResponseDto.class);
+        Root<Expense> expense = query.from(Expense.class);
+        query.select(responseSelection(cb, expense))
+                .where(filters(cb, expense, status, null, fromDate, toDate).toArray(Predicate[]::new))
+                .orderBy(cb.asc(expense.get(EXPENSE_DATE)), cb.asc(expense.get("id")));
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, exportFetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public Set<String> findUnconvertedCurrencies(ExpenseStatus status, LocalDate fromDate, LocalDate toDate) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<String> query = cb.createQuery(String.class);
+        Root<Expense> expense = query.from(Expense.class);
+        List<Predicate> predicates = filters(cb, expense, status, null, fromDate, toDate);
+        predicates.add(cb.isNull(expense.get(AMOUNT_IN_INR)));
+        query.select(expense.get(CURRENCY)).distinct(true).where(predicates.toArray(Predicate[]::new));
+        return new HashSet<>(entityManager.createQuery(query).getResultList());
+    }
+
+    @Override
+    public List<ExpenseSearchHit> searchResponses(String query, ExpenseStatus status, LocalDate fromDate,
+                                                  LocalDate toDate, Float cursorRank, UUID cursorId, Limit limit) {
+        StringBuilder sql = new StringBuilder("SELECT e.id, e.title, e.description, e.expense_date, e.amount, "
+                + "e.currency, e.amount_in_inr, e.fx_rate, e.fx_rate_at, e.receipt_url, e.status, "
+                + "r.first_name || r.last_name AS requested_by_name, "
+                + "a.first_name || a.last_name AS approved_by_name, e.rejection_reason, "
+                + "ts_rank(e.search_vector, q.query) AS search_rank "
+                + "FROM expenses e "
+                + "CROSS JOIN websearch_to_tsquery('english', :query) AS q(query) "
+                + "JOIN um_users r ON r.id = e.requested_by "
+                + "LEFT JOIN um_users a ON a.id = e.approved_by "
+                + "WHERE e.is_deleted = false AND e.search_vector @@ q.query");
+        if (status != null) {
+            sql.append(" AND e.status = :status");
+        }
+        if (fromDate != null) {
+            sql.append(" AND e.expense_date >= :fromDate");
+        }
+        if (toDate != null) {
+            sql.append(" AND e.expense_date <= :toDate");
+        }
+        if (cursorRank != null) {
+            sql.append(" AND (ts_rank(e.search_vector, q.query), e.id) < (CAST(:cursorRank AS real), :cursorId)");
+        }
+        sql.append(" ORDER BY search_rank DESC, e.id DESC");
+
+        Query nativeQuery = entityManager.createNativeQuery(sql.toString())
+                .setParameter("query", query);
+        if (status != null) {
+            nativeQuery.setParameter("status", status.name());
+        }
+        if (fromDate != null) {
+            nativeQuery.setParameter("fromDate", fromDate);
+        }
+        if (toDate != null) {
+            nativeQuery.setParameter("toDate", toDate);
+        }
+        if (cursorRank != null) {
+            nativeQuery.setParameter("cursorRank", cursorRank).setParameter("cursorId", cursorId);
+        }
+        if (limit.isLimited()) {
+            nativeQuery.setMaxResults(limit.max());
+        }
+        @SuppressWarnings("unchecked")
+        NativeQuery<Object[]> typedQuery = nativeQuery.unwrap(NativeQuery.class)
+                .addScalar("id", UUID.class)
+                .addScalar("title", String.class)
+                .addScalar("description", String.class)
+                .addScalar("expense_date", LocalDate.class)
+                .addScalar("amount", BigDecimal.class)
+                .addScalar("currency", String.class)
+                .addScalar("amount_in_inr", BigDecimal.class)
+                .addScalar("fx_rate", BigDecimal.class)
+                .addScalar("fx_rate_at", LocalDateTime.class)
+                .addScalar("receipt_url", String.class)
+                .addScalar("status", String.class)
+                .addScalar("requested_by_name", String.class)
+                .addScalar("approved_by_name", String.class)
+                .addScalar("rejection_reason", String.class)
+                .addScalar("search_rank", Float.class);
+        return typedQuery.getResultList().stream()
+                .map(row -> new ExpenseSearchHit(new ExpenseResponseDto((UUID) row[0], (String) row[1],
+                        (String) row[2], (LocalDate) row[3], (BigDecimal) row[4], (String) row[5],
+                        (BigDecimal) row[6], (BigDecimal) row[7], (LocalDateTime) row[8], (String) row[9],
+                        ExpenseStatus.valueOf((String) row[10]), (String) row[11], (String) row[12],
+                        (String) row[13]), (Float) row[14]))
+                .toList();
+    }
+
+    @Override
+    public List<EmployeeExpenseSummaryDto> totalApprovedPerEmployee(LocalDate fromDate, LocalDate toDate) {
+        if (!rollupsEnabled) {
+            return groupApprovedPerEmployee(fromDate, toDate);
+        }
+        RollupPeriod period = RollupPeriod.of(fromDate, toDate);
+        Map<EmployeeTotalKey, EmployeeExpenseSummaryDto> totals = new LinkedHashMap<>();
+        if (period.hasWholeMonths()) {
+            sumRollupsPerEmployee(period.firstMonth(), period.lastMonth())
+                    .forEach(summary -> mergeEmployeeTotal(totals, summary));
+        }
+        for (RollupPeriod.DateRange range : period.partialRanges()) {
+            groupApprovedPerEmployee(range.from(), range.to())
+                    .forEach(summary -> mergeEmployeeTotal(totals, summary));
+        }
+        return new ArrayList<>(totals.values());
+    }
+
+    @Override
+    public List<CurrencySummaryDto> totalByCurrency(String currency, LocalDate fromDate, LocalDate toDate) {
+        if (!rollupsEnabled) {
+            return groupApprovedByCurrency(currency, fromDate, toDate);
+        }
+        RollupPeriod period = RollupPeriod.of(fromDate, toDate);
+        Map<String, CurrencySummaryDto> totals = new LinkedHashMap<>();
+        if (period.hasWholeMonths()) {
+            sumRollupsByCurrency(currency, period.firstMonth(), period.lastMonth())
+                    .forEach(summary -> mergeCurrencyTotal(totals, summary));
+        }
+        for (RollupPeriod.DateRange range : period.partialRanges()) {
+            groupApprovedByCurrency(currency, range.from(), range.to())
+                    .forEach(summary -> mergeCurrencyTotal(totals, summary));
+        }
+        return new ArrayList<>(totals.values());
+    }
+
+    @Override
+    public List<CurrencySummaryDto> groupByCurrency(LocalDate fromDate, LocalDate toDate) {
+        return totalByCurrency(null, fromDate, toDate);
+    }
+
+    private List<EmployeeExpenseSummaryDto> groupApprovedPerEmployee(LocalDate fromDate, LocalDate toDate) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EmployeeExpenseSummaryDto> query = cb.createQuery(EmployeeExpenseSummaryDto.class);
+        Root<Expense> expense = query.from(Expense.class);
+        Join<Expense, User> requester = expense.join("requestedBy");
+        query.select(cb.construct(EmployeeExpenseSummaryDto.class,
+                        requester.get("employeeId"),
+                        cb.concat(cb.concat(requester.get(FIRST_NAME), " "), requester.get(LAST_NAME)),
+                        expense.get(CURRENCY),
+                        cb.sum(expense.get(AMOUNT)),
+                        cb.sum(expense.get(AMOUNT_IN_INR)),
+                        cb.sum(unconvertedAmount(cb, expense))))
+                .where(filters(cb, expense, ExpenseStatus.APPROVED, null, fromDate, toDate)
+                        .toArray(Predicate[]::new))
+                .groupBy(requester.get("employeeId"), requester.get(FIRST_NAME), requester.get(LAST_NAME),
+                        expense.get(CURRENCY));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    private List<CurrencySummaryDto> groupApprovedByCurrency(String currency, LocalDate fromDate,
+                                                             LocalDate toDate) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<CurrencySummaryDto> query = cb.createQuery(CurrencySummaryDto.class);
+        Root<Expense> expense = query.from(Expense.class);
+        query.select(cb.construct(CurrencySummaryDto.class,
+                        expense.get(CURRENCY),
+                        cb.sum(expense.get(AMOUNT)),
+                        cb.sum(expense.get(AMOUNT_IN_INR)),
+                        cb.sum(unconvertedAmount(cb, expense))))
+                .where(filters(cb, expense, ExpenseStatus.APPROVED, currency, fromDate, toDate)
+                        .toArray(Predicate[]::new))
+                .groupBy(expense.get(CURRENCY));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    private List<EmployeeExpenseSummaryDto> sumRollupsPerEmployee(LocalDate firstMonth, LocalDate lastMonth) {
+        StringBuilder sql = new StringBuilder("SELECT u.employee_id, "
+                + "u.first_name || ' ' || u.last_name AS employee_name, r.currency, "
+                + "SUM(r.total_amount) AS total_amount, SUM(r.total_amount_in_inr) AS total_amount_in_inr, "
+                + "SUM(r.unconverted_amount) AS unconverted_amount "
+                + "FROM expense_employee_month_rollups r "
+                + "JOIN um_users u ON u.id = r.requested_by "
+                + "WHERE 1 = 1");
+        appendMonthRange(sql, firstMonth, lastMonth);
+        sql.append(" GROUP BY u.employee_id, u.first_name, u.last_name, r.currency");
+
+        Query nativeQuery = entityManager.createNativeQuery(sql.toString());
+        bindMonthRange(nativeQuery, firstMonth, lastMonth);
+        @SuppressWarnings("unchecked")
+        NativeQuery<Object[]> typedQuery = nativeQuery.unwrap(NativeQuery.class)
+                .addScalar("employee_id", String.class)
+                .addScalar("employee_name", String.class)
+                .addScalar("currency", String.class)
+                .addScalar("total_amount", BigDecimal.class)
+                .addScalar("total_amount_in_inr", BigDecimal.class)
+                .addScalar("unconverted_amount", BigDecimal.class);
+        return typedQuery.getResultList().stream()
+                .map(row -> new EmployeeExpenseSummaryDto((String) row[0], (String) row[1], (String) row[2],
+                        (BigDecimal) row[3], (BigDecimal) row[4], (BigDecimal) row[5]))
+                .toList();
+    }
+
+    private List<CurrencySummaryDto> sumRollupsByCurrency(String currency, LocalDate firstMonth,
+                                                          LocalDate lastMonth) {
+        StringBuilder sql = new StringBuilder("SELECT r.currency, "
+                + "SUM(r.total_amount) AS total_amount, SUM(r.total_amount_in_inr) AS total_amount_in_inr, "
+                + "SUM(r.unconverted_amount) AS unconverted_amount "
+                + "FROM expense_currency_month_rollups r "
+                + "WHERE 1 = 1");
+        if (currency != null) {
+            sql.append(" AND r.currency = :currency");
+        }
+        appendMonthRange(sql, firstMonth, lastMonth);
+        sql.append(" GROUP BY r.currency");
+
+        Query nativeQuery = entityManager.createNativeQuery(sql.toString());
+        if (currency != null) {
+            nativeQuery.setParameter("currency", currency);
+        }
+        bindMonthRange(nativeQuery, firstMonth, lastMonth);
+        @SuppressWarnings("unchecked")
+        NativeQuery<Object[]> typedQuery = nativeQuery.unwrap(NativeQuery.class)
+                .addScalar("currency", String.class)
+                .addScalar("total_amount", BigDecimal.class)
+                .addScalar("total_amount_in_inr", BigDecimal.class)
+                .addScalar("unconverted_amount", BigDecimal.class);
+        return typedQuery.getResultList().stream()
+                .map(row -> new CurrencySummaryDto((String) row[0], (BigDecimal) row[1], (BigDecimal) row[2],
+                        (BigDecimal) row[3]))
+                .toList();
+    }
+
+    private long count(ExpenseStatus status, LocalDate fromDate, LocalDate toDate) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Expense> expense = query.from(Expense.class);
+        query.select(cb.count(expense))
+                .where(filters(cb, expense, status, null, fromDate, toDate).toArray(Predicate[]::new));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    /**
+     * Builds the predicates for the given filters only. Soft-deleted expenses are
+     * always excluded, matching the {@code WHERE is_deleted = false} partial indexes.
+     */
+    private static List<Predicate> filters(CriteriaBuilder cb, Root<Expense> expense, ExpenseStatus status,
+                                           String currency, LocalDate fromDate, LocalDate toDate) {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.isFalse(expense.get("isDeleted")));
+        if (status != null) {
+            predicates.add(cb.equal(expense.get("status"), status));
+        }
+        if (currency != null) {
+            predicates.add(cb.equal(expense.get(CURRENCY), currency));
+        }
+        if (fromDate != null) {
+            predicates.add(cb.greaterThanOrEqualTo(expense.get(EXPENSE_DATE), fromDate));
+        }
+        if (toDate != null) {
+            predicates.add(cb.lessThanOrEqualTo(expense.get(EXPENSE_DATE), toDate));
+        }
+        return predicates;
+    }
+
+    /**
+     * Selects expense rows straight into response DTOs, joining the requester and
+     * approver names into the same statement.
+     */
+    private static CompoundSelection<ExpenseResponseDto> responseSelection(
+            CriteriaBuilder cb, Root<Expense> expense) {
+        Join<Expense, User> requester = expense.join("requestedBy");
+        Join<Expense, User> approver = expense.join("approvedBy", JoinType.LEFT);
+        Expression<String> approverName = cb.<String>selectCase()
+                .when(cb.isNull(approver.get("id")), cb.nullLiteral(String.class))
+                .otherwise(cb.concat(approver.get(FIRST_NAME), approver.get(LAST_NAME)));
+        return cb.construct(ExpenseResponseDto.class,
+                expense.get("id"), expense.get("title"), expense.get("description"), expense.get(EXPENSE_DATE),
+                expense.get(AMOUNT), expense.get(CURRENCY), expense.get(AMOUNT_IN_INR),
+                expense.get("fxRate"), expense.get("fxRateAt"), expense.get("receiptUrl"), expense.get("status"),
+                cb.concat(requester.get(FIRST_NAME), requester.get(LAST_NAME)),
+                approverName,
+                expense.get("rejectionReason"));
+    }
+
+    private static void appendMonthRange(StringBuilder sql, LocalDate firstMonth, LocalDate lastMonth) {
+        if (firstMonth != null) {
+            sql.append(" AND r.month >= :firstMonth");
+        }
+        if (lastMonth != null) {
+            sql.append(" AND r.month <= :lastMonth");
+        }
+    }
+
+    private static void bindMonthRange(Query nativeQuery, LocalDate firstMonth, LocalDate lastMonth) {
+        if (firstMonth != null) {
+            nativeQuery.setParameter("firstMonth", firstMonth);
+        }
+        if (lastMonth != null) {
+            nativeQuery.setParameter("lastMonth", lastMonth);
+        }
+    }
+
+    private static void mergeEmployeeTotal(Map<EmployeeTotalKey, EmployeeExpenseSummaryDto> totals,
+                                           EmployeeExpenseSummaryDto summary) {
+        totals.merge(new EmployeeTotalKey(summary.getEmployeeId(), summary.getEmployeeName(), summary.getCurrency()),
+                summary, (total, part) -> {
+                    total.setTotalAmount(add(total.getTotalAmount(), part.getTotalAmount()));
+                    total.setTotalApprovedInInr(add(total.getTotalApprovedInInr(), part.getTotalApprovedInInr()));
+                    total.setUnconvertedAmount(add(total.getUnconvertedAmount(), part.getUnconvertedAmount()));
+                    return total;
+                });
+    }
+
+    private static void mergeCurrencyTotal(Map<String, CurrencySummaryDto> totals, CurrencySummaryDto summary) {
+        totals.merge(summary.getCurrency(), summary, (total, part) -> {
+            total.setTotalOriginalAmount(add(total.getTotalOriginalAmount(), part.getTotalOriginalAmount()));
+            total.setTotalAmountInInr(add(total.getTotalAmountInInr(), part.getTotalAmountInInr()));
+            total.setUnconvertedAmount(add(total.getUnconvertedAmount(), part.getUnconvertedAmount()));
+            return total;
+        });
+    }
+
+    private static BigDecimal add(BigDecimal left, BigDecimal right) {
+        if (left == null) {
+            return right;
+        }
+        return right == null ? left : left.add(right);
+    }
+
+    private record EmployeeTotalKey(String employeeId, String employeeName, String currency) {
+    }
+
+    private static Expression<BigDecimal> unconvertedAmount(CriteriaBuilder cb, Root<Expense> expense) {
+        return cb.<BigDecimal>selectCase()
+                .when(cb.isNull(expense.get(AMOUNT_IN_INR)), expense.get(AMOUNT))
+                .otherwise(BigDecimal.ZERO);
+    }
+}
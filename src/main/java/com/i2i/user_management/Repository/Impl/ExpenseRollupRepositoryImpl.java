@@ -0,0 +1,88 @@
+package com.i2i.user_management.Repository.Impl;
+
+import com.i2i.user_management.Repository.ExpenseRollupRepository;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * PostgreSQL implementation of {@link ExpenseRollupRepository}, picked up by Spring
+ * Data as a fragment of {@code ExpenseRepository}. Additions are set-based upserts
+ * computed from the approved rows, so a bulk approval costs one statement per rollup.
+ */
+public class ExpenseRollupRepositoryImpl implements ExpenseRollupRepository {
+
+    private static final String MONTH = "CAST(date_trunc('month', e.expense_date) AS DATE)";
+
+    private static final String TOTALS = "SUM(e.amount), SUM(COALESCE(e.amount_in_inr, 0)), "
+            + "SUM(CASE WHEN e.amount_in_inr IS NULL THEN e.amount ELSE 0 END), COUNT(*)";
+
+    private static final String APPROVED = "e.status = 'APPROVED' AND e.is_deleted = false";
+
+    private static final String ROLLUP_COLUMNS =
+            "month, total_amount, total_amount_in_inr, unconverted_amount, expense_count";
+
+    private static final String EMPLOYEE_ROLLUP_SELECT = "SELECT e.requested_by, e.currency, " + MONTH + ", "
+            + TOTALS + " FROM expenses e WHERE " + APPROVED;
+
+    private static final String EMPLOYEE_ROLLUP_GROUP = " GROUP BY e.requested_by, e.currency, " + MONTH
+            + " ORDER BY e.requested_by, e.currency, " + MONTH;
+
+    private static final String CURRENCY_ROLLUP_SELECT = "SELECT e.currency, " + MONTH + ", " + TOTALS
+            + " FROM expenses e WHERE " + APPROVED;
+
+    private static final String CURRENCY_ROLLUP_GROUP = " GROUP BY e.currency, " + MONTH
+            + " ORDER BY e.currency, " + MONTH;
+
+    private static final String ADD_TO_EMPLOYEE_ROLLUPS = "INSERT INTO expense_employee_month_rollups "
+            + "(requested_by, currency, " + ROLLUP_COLUMNS + ") "
+            + EMPLOYEE_ROLLUP_SELECT + " AND e.id IN (:ids)" + EMPLOYEE_ROLLUP_GROUP
+            + " ON CONFLICT (requested_by, currency, month) DO UPDATE SET "
+            + addExcluded("expense_employee_month_rollups");
+
+    private static final String ADD_TO_CURRENCY_ROLLUPS = "INSERT INTO expense_currency_month_rollups "
+            + "(currency, " + ROLLUP_COLUMNS + ") "
+            + CURRENCY_ROLLUP_SELECT + " AND e.id IN (:ids)" + CURRENCY_ROLLUP_GROUP
+            + " ON CONFLICT (currency, month) DO UPDATE SET "
+            + addExcluded("expense_currency_month_rollups");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public ExpenseRollupRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void addApprovedToRollups(Collection<UUID> expenseIds) {
+        if (expenseIds.isEmpty()) {
+            return;
+        }
+        Map<String, Collection<UUID>> params = Map.of("ids", expenseIds);
+        jdbcTemplate.update(ADD_TO_EMPLOYEE_ROLLUPS, params);
+        jdbcTemplate.update(ADD_TO_CURRENCY_ROLLUPS, params);
+    }
+
+    @Override
+    public int rebuildRollups() {
+        // TRUNCATE holds an exclusive lock until commit, so approvals in flight
+        // add their rows after the rebuild instead of being counted twice or lost.
+        // The tables are locked in the order approvals write them.
+        jdbcTemplate.update("TRUNCATE TABLE expense_employee_month_rollups", Map.of());
+        jdbcTemplate.update("TRUNCATE TABLE expense_currency_month_rollups", Map.of());
+        int rows = jdbcTemplate.update("INSERT INTO expense_employee_month_rollups "
+                + "(requested_by, currency, " + ROLLUP_COLUMNS + ") "
+                + EMPLOYEE_ROLLUP_SELECT + EMPLOYEE_ROLLUP_GROUP, Map.of());
+        jdbcTemplate.update("INSERT INTO expense_currency_month_rollups (currency, " + ROLLUP_COLUMNS + ") "
+                + CURRENCY_ROLLUP_SELECT + CURRENCY_ROLLUP_GROUP, Map.of());
+        return rows;
+    }
+
+    private static String addExcluded(String table) {
+        return "total_amount = " + table + ".total_amount + EXCLUDED.total_amount, "
+                + "total_amount_in_inr = " + table + ".total_amount_in_inr + EXCLUDED.total_amount_in_inr, "
+                + "unconverted_amount = " + table + ".unconverted_amount + EXCLUDED.unconverted_amount, "
+                + "expense_count = " + table + ".expense_count + EXCLUDED.expense_count";
+    }
+}
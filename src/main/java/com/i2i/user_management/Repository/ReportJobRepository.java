@@ -0,0 +1,52 @@
+package com.i2i.user_management.Repository;
+
+import com.i2i.user_management.Dto.ReportJobDto;
+import com.i2i.user_management.Model.ReportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Report jobs. Status changes are single updates in their own transaction, as they
+ * are made from the job threads, and never read the stored result.
+ */
+public interface ReportJobRepository extends JpaRepository<ReportJob, UUID> {
+
+    @Query("SELECT new com.i2i.user_management.Dto.ReportJobDto(j.id, j.reportType, j.status, j.rowCount, "
+            + "j.error, j.createdAt, j.completedAt, j.expiresAt) "
+            + "FROM ReportJob j WHERE j.id = :id AND j.expiresAt > :now")
+    Optional<ReportJobDto> findStatusById(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ReportJob j SET j.status = com.i2i.user_management.Enum.ReportJobStatus.RUNNING, "
+            + "j.startedAt = :startedAt WHERE j.id = :id")
+    int markRunning(@Param("id") UUID id, @Param("startedAt") LocalDateTime startedAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ReportJob j SET j.status = com.i2i.user_management.Enum.ReportJobStatus.COMPLETED, "
+            + "j.result = :result, j.rowCount = :rowCount, j.completedAt = :completedAt, "
+            + "j.expiresAt = :expiresAt WHERE j.id = :id")
+    int markCompleted(@Param("id") UUID id, @Param("result") byte[] result, @Param("rowCount") int rowCount,
+                      @Param("completedAt") LocalDateTime completedAt, @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ReportJob j SET j.status = com.i2i.user_management.Enum.ReportJobStatus.FAILED, "
+            + "j.error = :error, j.completedAt = :completedAt, j.expiresAt = :expiresAt WHERE j.id = :id")
+    int markFailed(@Param("id") UUID id, @Param("error") String error,
+                   @Param("completedAt") LocalDateTime completedAt, @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ReportJob j WHERE j.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+
+}
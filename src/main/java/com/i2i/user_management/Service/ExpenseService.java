@@ -1,10 +1,15 @@
 package com.i2i.user_management.Service;
 
 import com.i2i.user_management.Dto.CurrencySummaryDto;
+import com.i2i.user_management.Dto.CursorPageDto;
 import com.i2i.user_management.Dto.EmployeeExpenseSummaryDto;
+import com.i2i.user_management.Dto.ExpenseActionDto;
+import com.i2i.user_management.Dto.ExpenseActionResultDto;
 import com.i2i.user_management.Dto.ExpenseApprovalDto;
+import com.i2i.user_management.Dto.ExpenseExportSnapshot;
 import com.i2i.user_management.Dto.ExpenseRequestDto;
 import com.i2i.user_management.Dto.ExpenseResponseDto;
+import com.i2i.user_management.Dto.ExpenseSubmissionResultDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -12,26 +17,50 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface ExpenseService {
 
     ExpenseResponseDto submitExpense(ExpenseRequestDto request, String submitterEmail);
 
-    Page<ExpenseResponseDto> getExpensesForCurrentUser(String userEmail, Pageable pageable);
+    List<ExpenseSubmissionResultDto> submitExpenses(List<ExpenseRequestDto> requests, String submitterEmail);
+
+    Page<ExpenseResponseDto> getExpensesForCurrentUser(String userEmail, String targetCurrency, Pageable pageable);
+
+    String getExpensesETagForCurrentUser(String userEmail, String targetCurrency, Pageable pageable);
+
+    CursorPageDto<ExpenseResponseDto> getExpensesForCurrentUserByCursor(String userEmail, String targetCurrency,
+                                                                        String cursor, int size);
 
     ExpenseResponseDto updateExpense(UUID id, ExpenseRequestDto request, String submitterEmail);
 
     void deleteExpense(UUID id);
 
-    Page<ExpenseResponseDto> getExpensesForAdmin(String status, LocalDate from, LocalDate to, Pageable pageable);
+    Page<ExpenseResponseDto> getExpensesForAdmin(String status, LocalDate from, LocalDate to, String targetCurrency,
+                                                 Pageable pageable);
+
+    String getExpensesETagForAdmin(String status, LocalDate from, LocalDate to, String targetCurrency,
+                                   Pageable pageable);
+
+    CursorPageDto<ExpenseResponseDto> getExpensesForAdminByCursor(String status, LocalDate from, LocalDate to,
+                                                                  String targetCurrency, String cursor, int size);
 
-    ExpenseResponseDto getExpenseById(UUID id, String requesterEmail);
+    CursorPageDto<ExpenseResponseDto> searchExpenses(String query, String status, LocalDate from, LocalDate to,
+                                                     String targetCurrency, String cursor, int size);
+
+    ExpenseExportSnapshot prepareExport(String status, LocalDate from, LocalDate to, String targetCurrency);
+
+    void exportExpenses(ExpenseExportSnapshot snapshot, Consumer<ExpenseResponseDto> rowWriter);
+
+    ExpenseResponseDto getExpenseById(UUID id, String requesterEmail, String targetCurrency);
 
     void approveOrRejectExpense(UUID expenseId, String approverEmail, ExpenseApprovalDto dto);
 
-    List<EmployeeExpenseSummaryDto> reportTotalApprovedPerEmployee(LocalDate from, LocalDate to);
+    List<ExpenseActionResultDto> applyExpenseActions(List<ExpenseActionDto> actions, String approverEmail);
+
+    List<EmployeeExpenseSummaryDto> reportTotalApprovedPerEmployee(LocalDate from, LocalDate to, String targetCurrency);
 
-    List<CurrencySummaryDto> reportTotalByCurrency(String currency, LocalDate from, LocalDate to);
+    List<CurrencySummaryDto> reportTotalByCurrency(String currency, LocalDate from, LocalDate to, String targetCurrency);
 
     Map<String, String> getAllCurrencies();
 }
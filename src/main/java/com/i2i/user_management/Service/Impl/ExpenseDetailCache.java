@@ -0,0 +1,115 @@
+package com.i2i.user_management.Service.Impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.i2i.user_management.Dto.ExpenseResponseDto;
+import com.i2i.user_management.Enum.ExpenseStatus;
+import com.i2i.user_management.Mapper.ExpenseMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of assembled expense details, keyed by expense id.
+ *
+ * <p>Pending expenses can still be edited and are kept for a short time only.
+ * Approved and rejected expenses no longer change and are kept much longer.
+ * Only INR amounts stored on the expense are cached; expenses that still need a
+ * live rate are never cached. Callers get a copy of the cached value, so
+ * per-request fields such as the reporting currency never leak into the cache.</p>
+ */
+@Component
+public class ExpenseDetailCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ExpenseDetailCache.class);
+
+    private final Cache<UUID, ExpenseResponseDto> cache;
+
+    public ExpenseDetailCache(@Value("${expense.detail-cache.maximum-size}") long maximumSize,
+                              @Value("${expense.detail-cache.pending-ttl-minutes}") long pendingTtlMinutes,
+                              @Value("${expense.detail-cache.final-ttl-minutes}") long finalTtlMinutes,
+                              MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new StatusExpiry(Duration.ofMinutes(pendingTtlMinutes),
+                        Duration.ofMinutes(finalTtlMinutes)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "expenseDetails");
+        Gauge.builder("expense.detail.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("Share of expense detail lookups served from the cache")
+                .register(meterRegistry);
+        log.info("Expense detail cache initialised with maximumSize={}, pendingTtl={}m, finalTtl={}m",
+                maximumSize, pendingTtlMinutes, finalTtlMinutes);
+    }
+
+    /**
+     * Returns the cached details of an expense, loading them on a miss.
+     *
+     * @param id expense id
+     * @param loader assembles the details on a miss
+     * @return copy of the details
+     */
+    public ExpenseResponseDto get(UUID id, Function<UUID, ExpenseResponseDto> loader) {
+        ExpenseResponseDto cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return ExpenseMapper.copyOf(cached);
+        }
+        ExpenseResponseDto loaded = loader.apply(id);
+        if (loaded.getAmountInInr() != null && !loaded.isRateStale()) {
+            cache.put(id, ExpenseMapper.copyOf(loaded));
+        }
+        return loaded;
+    }
+
+    /**
+     * Drops the cached details of an expense. Inside a transaction the entry is
+     * dropped again after commit, so that a read racing with the write cannot put
+     * the old details back.
+     *
+     * @param id expense id
+     */
+    public void evict(UUID id) {
+        cache.invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(id);
+                }
+            });
+        }
+    }
+
+    private record StatusExpiry(Duration pendingTtl, Duration finalTtl)
+            implements Expiry<UUID, ExpenseResponseDto> {
+
+        @Override
+        public long expireAfterCreate(UUID id, ExpenseResponseDto dto, long currentTime) {
+            return ExpenseStatus.PENDING.name().equals(dto.getStatus())
+                    ? pendingTtl.toNanos()
+                    : finalTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(UUID id, ExpenseResponseDto dto, long currentTime, long currentDuration) {
+            return expireAfterCreate(id, dto, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(UUID id, ExpenseResponseDto dto, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
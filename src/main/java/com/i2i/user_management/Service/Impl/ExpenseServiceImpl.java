@@ -1,10 +1,20 @@
 package com.i2i.user_management.Service.Impl;
 
+import com.i2i.user_management.Constants.UMSConstants;
 import com.i2i.user_management.Dto.CurrencySummaryDto;
+import com.i2i.user_management.Dto.CursorPageDto;
 import com.i2i.user_management.Dto.EmployeeExpenseSummaryDto;
+import com.i2i.user_management.Dto.ExpenseActionDto;
+import com.i2i.user_management.Dto.ExpenseActionResultDto;
 import com.i2i.user_management.Dto.ExpenseApprovalDto;
+import com.i2i.user_management.Dto.ExpenseDecision;
+import com.i2i.user_management.Dto.ExpenseExportSnapshot;
+import com.i2i.user_management.Dto.ExpenseListVersion;
 import com.i2i.user_management.Dto.ExpenseRequestDto;
 import com.i2i.user_management.Dto.ExpenseResponseDto;
+import com.i2i.user_management.Dto.ExpenseSearchHit;
+import com.i2i.user_management.Dto.ExpenseSubmissionResultDto;
+import com.i2i.user_management.Enum.ExpenseActionOutcome;
 import com.i2i.user_management.Enum.ExpenseStatus;
 import com.i2i.user_management.Exception.ApplicationException;
 import com.i2i.user_management.Exception.AuthenticationFailedException;
@@ -14,27 +24,42 @@ import com.i2i.user_management.Exception.DatabaseException;
 import com.i2i.user_management.Exception.ExternalServiceException;
 import com.i2i.user_management.Exception.NotFoundException;
 import com.i2i.user_management.Integration.Client.ExchangeRateClient;
+import com.i2i.user_management.Integration.Rate.CrossRateEngine;
+import com.i2i.user_management.Integration.Rate.FixedPointConverter;
+import com.i2i.user_management.Integration.Registry.CurrencyRegistry;
 import com.i2i.user_management.Mapper.ExpenseMapper;
 import com.i2i.user_management.Model.Expense;
 import com.i2i.user_management.Model.User;
 import com.i2i.user_management.Repository.ExpenseRepository;
 import com.i2i.user_management.Repository.UserRepository;
 import com.i2i.user_management.Service.ExpenseService;
+import com.i2i.user_management.util.ExpenseCursor;
+import com.i2i.user_management.util.ExpenseSearchCursor;
 import com.i2i.user_management.util.ValidationUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service implementation for managing employee expenses and admin approval workflow.
@@ -44,21 +69,42 @@ public class ExpenseServiceImpl implements ExpenseService {
 
     private static final Logger log = LoggerFactory.getLogger(ExpenseServiceImpl.class);
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+    private static final int MAX_SEARCH_QUERY_LENGTH = 200;
+
+    /**
+     * Report size from which rows are converted in parallel. Smaller reports are
+     * converted faster on the calling thread.
+     */
+    private static final int REPORT_PARALLEL_THRESHOLD = 1000;
+
     private final ExpenseRepository expenseRepository;
     private final UserRepository userRepository;
     private final ExchangeRateClient exchangeRateClient;
+    private final CurrencyRegistry currencyRegistry;
+    private final CrossRateEngine crossRateEngine;
+    private final ExpenseDetailCache expenseDetailCache;
 
     public ExpenseServiceImpl(ExpenseRepository expenseRepository,
                               UserRepository userRepository,
-                              ExchangeRateClient exchangeRateClient) {
+                              ExchangeRateClient exchangeRateClient,
+                              CurrencyRegistry currencyRegistry,
+                              CrossRateEngine crossRateEngine,
+                              ExpenseDetailCache expenseDetailCache) {
         this.expenseRepository = expenseRepository;
         this.userRepository = userRepository;
         this.exchangeRateClient = exchangeRateClient;
+        this.currencyRegistry = currencyRegistry;
+        this.crossRateEngine = crossRateEngine;
+        this.expenseDetailCache = expenseDetailCache;
     }
 
     /**
      * Submits a new expense for the currently logged-in employee.
-     * Performs currency conversion and persists both original and INR values.
+     * Performs currency conversion and persists the original amount together with
+     * the INR amount and the rate it was converted with. A stale rate is not
+     * stored, and the expense is then kept unconverted.
      *
      * @param request        DTO containing expense details
      * @param submitterEmail email of the logged-in user submitting the expense
@@ -74,41 +120,16 @@ public class ExpenseServiceImpl implements ExpenseService {
             User user = userRepository.findByEmail(ValidationUtils.requestedNonNull(submitterEmail))
                     .orElseThrow(() -> new NotFoundException("User not found: " + submitterEmail));
 
-            if (request.getAmount().signum() <= 0) {
-                throw new BadRequestException("Expense amount must be greater than zero");
-            }
-            if (request.getExpenseDate() == null) {
-                throw new BadRequestException("Expense date is required");
-            }
-
-            validateCurrencyCode(request.getCurrency(), null);
-            Expense expense = Expense.builder()
-                    .title(request.getTitle())
-                    .description(request.getDescription())
-                    .expenseDate(request.getExpenseDate())
-                    .amount(request.getAmount())
-                    .currency(request.getCurrency().toUpperCase())
-                    .receiptUrl(request.getReceiptUrl())
-                    .status(ExpenseStatus.PENDING)
-                    .requestedBy(user)
-                    .isDeleted(false)
-                    .build();
+            validateSubmission(request);
+            String currency = request.getCurrency().toUpperCase();
+            BigDecimal rate = storableRate(currency, getRateToInr(currency));
+            Expense expense = newExpense(request, currency, rate, LocalDateTime.now(), user);
 
             Expense saved = expenseRepository.save(expense);
-            log.info("Expense submitted successfully by {} for {} in {}",
-                    user.getEmail(), request.getAmount(), request.getCurrency());
+            log.info("Expense submitted successfully by {} for {} in {} ({} INR at rate {})",
+                    user.getEmail(), request.getAmount(), currency, saved.getAmountInInr(), rate);
 
-            ExpenseResponseDto expenseResponseDto = ExpenseMapper.toDto(saved);
-            try {
-                BigDecimal rate = exchangeRateClient.getRateToInr(expense.getCurrency());
-                expenseResponseDto.setAmountInInr(expense.getAmount().multiply(rate));
-            } catch (Exception e) {
-                log.warn("Failed to convert currency for expense ID: {} | Currency: {} | Requested By: {} | Reason: {}",
-                        saved.getId(), saved.getCurrency(), saved.getRequestedBy().getEmail(), e.getMessage());
-                throw new ExternalServiceException("Unable to fetch exchange rate for "
-                        + expense.getCurrency(), e);
-            }
-            return expenseResponseDto;
+            return ExpenseMapper.toDto(saved);
 
         } catch (BadRequestException | NotFoundException | ExternalServiceException e) {
             log.warn("Expense submission failed: {}", e.getMessage());
@@ -119,38 +140,183 @@ public class ExpenseServiceImpl implements ExpenseService {
         }
     }
 
+    /**
+     * Submits several new expenses of the logged-in employee in one transaction.
+     * Every item is validated in memory, the rates of all their currencies are
+     * resolved with one bulk lookup, and the valid items are inserted together so
+     * that Hibernate sends them as JDBC batches. Invalid items are reported in the
+     * results and not inserted.
+     *
+     * @param requests       DTOs containing the expense details
+     * @param submitterEmail email of the logged-in user submitting the expenses
+     * @return result of every item, in the given order
+     * @throws NotFoundException if user not found
+     * @throws ExternalServiceException if the exchange rate lookup fails
+     */
+    @Override
+    @Transactional
+    public List<ExpenseSubmissionResultDto> submitExpenses(List<ExpenseRequestDto> requests, String submitterEmail) {
+        User user = userRepository.findByEmail(ValidationUtils.requestedNonNull(submitterEmail))
+                .orElseThrow(() -> new NotFoundException("User not found: " + submitterEmail));
+
+        String[] errors = new String[requests.size()];
+        Set<String> currencies = new HashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            try {
+                validateSubmission(requests.get(i));
+                currencies.add(requests.get(i).getCurrency().toUpperCase());
+            } catch (BadRequestException e) {
+                errors[i] = e.getMessage();
+            }
+        }
+        Map<String, BigDecimal> rates = currencies.isEmpty() ? Map.of() : fetchRatesToInr(currencies);
+
+        LocalDateTime rateAt = LocalDateTime.now();
+        Expense[] expenses = new Expense[requests.size()];
+        List<Expense> valid = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            if (errors[i] != null) {
+                continue;
+            }
+            ExpenseRequestDto request = requests.get(i);
+            String currency = request.getCurrency().toUpperCase();
+            BigDecimal rate = rates.get(currency);
+            if (rate == null) {
+                errors[i] = "Unable to fetch exchange rate for " + currency;
+                continue;
+            }
+            expenses[i] = newExpense(request, currency, storableRate(currency, rate), rateAt, user);
+            valid.add(expenses[i]);
+        }
+        expenseRepository.saveAllAndFlush(valid);
+
+        List<ExpenseSubmissionResultDto> results = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            results.add(new ExpenseSubmissionResultDto(i, ExpenseMapper.toDto(expenses[i]), errors[i]));
+        }
+        log.info("Batch of {} expenses submitted by {}: {} created", requests.size(), user.getEmail(), valid.size());
+        return results;
+    }
+
+    /**
+     * Checks the fields of a new expense that need no database or rate lookup. The
+     * batch endpoint does not cascade bean validation into its items, so every
+     * required field is checked here and reported per item.
+     *
+     * @throws BadRequestException if a required field is missing, or the amount,
+     *         date or currency is invalid
+     */
+    private void validateSubmission(ExpenseRequestDto request) {
+        if (request == null) {
+            throw new BadRequestException("Expense is required");
+        }
+        if (request.getTitle() == null) {
+            throw new BadRequestException("Expense title is required");
+        }
+        if (request.getDescription() == null) {
+            throw new BadRequestException("Expense description is required");
+        }
+        if (request.getReceiptUrl() == null) {
+            throw new BadRequestException("Receipt URL is required");
+        }
+        if (request.getAmount() == null || request.getAmount().signum() <= 0) {
+            throw new BadRequestException("Expense amount must be greater than zero");
+        }
+        if (request.getExpenseDate() == null) {
+            throw new BadRequestException("Expense date is required");
+        }
+        if (request.getExpenseDate().isAfter(LocalDate.now())) {
+            throw new BadRequestException("Expense date cannot be in the future");
+        }
+        validateCurrencyCode(request.getCurrency(), null);
+    }
+
+    private static Expense newExpense(ExpenseRequestDto request, String currency, BigDecimal rate,
+                                      LocalDateTime rateAt, User user) {
+        return Expense.builder()
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .expenseDate(request.getExpenseDate())
+                .amount(request.getAmount())
+                .currency(currency)
+                .amountInInr(rate != null ? convert(request.getAmount(), rate) : null)
+                .fxRate(rate)
+                .fxRateAt(rate != null ? rateAt : null)
+                .receiptUrl(request.getReceiptUrl())
+                .status(ExpenseStatus.PENDING)
+                .requestedBy(user)
+                .isDeleted(false)
+                .build();
+    }
+
     /**
      * Retrieves all expenses submitted by the logged-in user.
      *
      * @param userEmail current user's email
+     * @param targetCurrency optional reporting currency the amounts are also given in
      * @param pageable  pagination info
      * @return page of expenses belonging to the user
      * @throws NotFoundException if user not found
      */
     @Override
-    public Page<ExpenseResponseDto> getExpensesForCurrentUser(String userEmail, Pageable pageable) {
+    public Page<ExpenseResponseDto> getExpensesForCurrentUser(String userEmail, String targetCurrency,
+                                                              Pageable pageable) {
+        String target = resolveTargetCurrency(targetCurrency);
         User user = userRepository.findByEmail(ValidationUtils.requestedNonNull(userEmail))
                 .orElseThrow(() -> new NotFoundException("User not found: " + userEmail));
 
-        Page<Expense> page = expenseRepository.findAllByRequestedByIdAndIsDeletedFalse(user.getId(), pageable);
+        Page<ExpenseResponseDto> page = expenseRepository.findResponsesByRequestedById(user.getId(), pageable);
         log.debug("Fetched {} expenses for user {}", page.getTotalElements(), user.getEmail());
-        return page.map(expense -> {
-            ExpenseResponseDto dto = ExpenseMapper.toDto(expense);
-            try {
-                BigDecimal rate = exchangeRateClient.getRateToInr(expense.getCurrency());
-                dto.setAmountInInr(expense.getAmount().multiply(rate));
+        return toResponsePage(page, target);
+    }
 
-                log.trace("Converted {} {} to {} INR for expense {} at rate {}",
-                        expense.getAmount(), expense.getCurrency(), dto.getAmountInInr(),
-                        expense.getId(), rate);
-            } catch (Exception e) {
-                log.warn("Failed to fetch exchange rate for currency {} (expense {}): {}",
-                        expense.getCurrency(), expense.getId(), e.getMessage());
-                throw new ExternalServiceException("Unable to fetch exchange rate for "
-                        + expense.getCurrency(), e);
-            }
-            return dto;
-        });
+    /**
+     * Computes the entity tag of a page of the current user's expenses from one
+     * aggregate query, so that an unchanged page can be answered without reading,
+     * converting or serializing it.
+     *
+     * @param userEmail current user's email
+     * @param targetCurrency optional reporting currency the amounts are also given in
+     * @param pageable  pagination info
+     * @return entity tag of the page
+     * @throws BadRequestException if the reporting currency is not supported
+     */
+    @Override
+    public String getExpensesETagForCurrentUser(String userEmail, String targetCurrency, Pageable pageable) {
+        String target = resolveTargetCurrency(targetCurrency);
+        ExpenseListVersion version = expenseRepository.findListVersionByRequesterEmail(
+                ValidationUtils.requestedNonNull(userEmail));
+        return toListETag("user|" + userEmail, version, target, pageable);
+    }
+
+    /**
+     * Retrieves one keyset page of the current user's expenses, newest first.
+     * Each page is read from the position in the cursor, so deep pages cost the
+     * same as the first one and no total count is computed.
+     *
+     * @param userEmail current user's email
+     * @param targetCurrency optional reporting currency the amounts are also given in
+     * @param cursor continuation token from the previous page, or null for the first page
+     * @param size page size
+     * @return page of expenses with the token of the next page
+     * @throws NotFoundException if user not found
+     * @throws BadRequestException if the cursor or size is invalid
+     */
+    @Override
+    public CursorPageDto<ExpenseResponseDto> getExpensesForCurrentUserByCursor(String userEmail, String targetCurrency,
+                                                                               String cursor, int size) {
+        String target = resolveTargetCurrency(targetCurrency);
+        validateCursorPageSize(size);
+        ExpenseCursor after = ExpenseCursor.decode(cursor);
+        User user = userRepository.findByEmail(ValidationUtils.requestedNonNull(userEmail))
+                .orElseThrow(() -> new NotFoundException("User not found: " + userEmail));
+
+        List<ExpenseResponseDto> rows = after == null
+                ? expenseRepository.findFirstResponsesByRequestedById(user.getId(), Limit.of(size + 1))
+                : expenseRepository.findResponsesByRequestedByIdAfter(user.getId(), after.expenseDate(),
+                        after.id(), Limit.of(size + 1));
+        log.debug("Fetched {} expenses for user {} after cursor {}", rows.size(), user.getEmail(), cursor);
+        return toCursorPage(rows, size, target);
     }
 
     /**
@@ -173,29 +339,25 @@ public class ExpenseServiceImpl implements ExpenseService {
 
         validateUpdateRequest(expense, request, userEmail);
         validateCurrencyCode(request.getCurrency(), expenseId);
+        String currency = request.getCurrency().toUpperCase();
+        BigDecimal rate = storableRate(currency, getRateToInr(currency));
 
         expense.setTitle(request.getTitle());
         expense.setDescription(request.getDescription());
         expense.setExpenseDate(request.getExpenseDate());
         expense.setAmount(request.getAmount());
-        expense.setCurrency(request.getCurrency().toUpperCase());
+        expense.setCurrency(currency);
+        expense.setAmountInInr(rate != null ? convert(request.getAmount(), rate) : null);
+        expense.setFxRate(rate);
+        expense.setFxRateAt(rate != null ? LocalDateTime.now() : null);
         expense.setReceiptUrl(request.getReceiptUrl());
         Expense saved = expenseRepository.save(expense);
+        expenseDetailCache.evict(expenseId);
         log.info("Expense {} updated successfully by user {}", expenseId, userEmail);
+        log.trace("Converted {} {} to {} INR (rate={}) for expense {}",
+                saved.getAmount(), saved.getCurrency(), saved.getAmountInInr(), rate, expenseId);
 
-        ExpenseResponseDto expenseResponseDto = ExpenseMapper.toDto(saved);
-
-        BigDecimal rate;
-        try {
-            rate = exchangeRateClient.getRateToInr(request.getCurrency());
-            expenseResponseDto.setAmountInInr(expense.getAmount().multiply(rate));
-            log.trace("Converted {} {} to {} INR (rate={}) for expense {}",
-                    expense.getAmount(), expense.getCurrency(), expenseResponseDto.getAmountInInr(), rate, expense.getId());
-        } catch (Exception ex) {
-            log.warn("Exchange rate lookup failed for currency {}: {}", request.getCurrency(), ex.getMessage());
-            throw new ExternalServiceException("Unable to fetch exchange rate for " + request.getCurrency(), ex);
-        }
-        return expenseResponseDto;
+        return ExpenseMapper.toDto(saved);
     }
 
     /**
@@ -228,8 +390,7 @@ public class ExpenseServiceImpl implements ExpenseService {
     }
 
     /**
-     * Validates whether the provided currency code exists in the available currency list
-     * fetched from the external exchange rate API.
+     * Validates whether the provided currency code exists in the local currency registry.
      *
      * @param currencyCode the currency code provided in the request
      * @param expenseId    the expense ID being updated (used for logging context)
@@ -242,14 +403,13 @@ public class ExpenseServiceImpl implements ExpenseService {
             throw new BadRequestException("Currency code must not be empty or null");
         }
 
-        Map<String, String> availableCurrencies = getAllCurrencies();
         String upperCurrency = currencyCode.toUpperCase();
-        if (!availableCurrencies.containsKey(upperCurrency)) {
+        if (!currencyRegistry.isSupported(upperCurrency)) {
             log.warn("Invalid currency '{}' provided{}",
                     upperCurrency, expenseId != null ? " for expense " + expenseId : "");
             throw new BadRequestException(
                     "Invalid currency code: " + upperCurrency +
-                            ". Please use one of: " + String.join(", ", availableCurrencies.keySet())
+                            ". Please use one of: " + String.join(", ", currencyRegistry.getCurrencies().keySet())
             );
         }
         log.debug("Validated currency '{}'{}", upperCurrency,
@@ -260,29 +420,15 @@ public class ExpenseServiceImpl implements ExpenseService {
 
     /**
      * Retrieves all available currencies with their corresponding codes and names
-     * from the external exchange rate API via the ExchangeRateClient.
+     * from the local currency registry.
      *
      * @return a map containing currency codes as keys and currency names as values
      */
     @Override
     public Map<String, String> getAllCurrencies() {
-        log.debug("Fetching all available currencies and their codes from the external exchange rate API");
-        try {
-            Map<String, String> currencies = exchangeRateClient.getAllCurrencies();
-            if (currencies == null || currencies.isEmpty()) {
-                log.warn("Received empty or null response from the exchange rate API");
-                throw new ExternalServiceException("No currencies returned from the exchange rate service");
-            }
-            log.info("Successfully retrieved {} currencies from the external API", currencies.size());
-            return currencies;
-
-        } catch (ExternalServiceException e) {
-            log.warn("Exchange rate service error: {}", e.getMessage());
-            throw e;
-        } catch (Exception e) {
-            log.error("Failed to fetch currencies from external API: {}", e.getMessage(), e);
-            throw new ExternalServiceException("Unable to fetch available currencies from external service", e);
-        }
+        Map<String, String> currencies = currencyRegistry.getCurrencies();
+        log.debug("Serving {} currencies from the currency registry", currencies.size());
+        return currencies;
     }
 
 
@@ -313,6 +459,7 @@ public class ExpenseServiceImpl implements ExpenseService {
             throw new BadRequestException("Only expenses in 'PENDING' status can be deleted. But current status: "+ expense.getStatus());
         }
         expenseRepository.softDelete(id);
+        expenseDetailCache.evict(id);
         log.info("Expense with ID {} marked as deleted successfully", id);
     }
 
@@ -324,39 +471,178 @@ public class ExpenseServiceImpl implements ExpenseService {
      * @param status expense status filter
      * @param from   optional start date
      * @param to     optional end date
+     * @param targetCurrency optional reporting currency the amounts are also given in
      * @param pageable pagination information
      * @return filtered expense list for admin
      */
     @Override
-    public Page<ExpenseResponseDto> getExpensesForAdmin(String status, LocalDate from, LocalDate to, Pageable pageable) {
-        ExpenseStatus filterStatus = null;
-        try {
-            if (status != null && !status.isBlank()) {
-                filterStatus = ExpenseStatus.valueOf(status.toUpperCase());
-            }
-        } catch (IllegalArgumentException e) {
-            throw new BadRequestException("Invalid expense status: " + status);
-        }
+    public Page<ExpenseResponseDto> getExpensesForAdmin(String status, LocalDate from, LocalDate to,
+                                                        String targetCurrency, Pageable pageable) {
+        String target = resolveTargetCurrency(targetCurrency);
+        ExpenseStatus filterStatus = parseStatus(status);
 
-        Page<Expense> page = expenseRepository.findAllByFilters(filterStatus, from, to, pageable);
+        Page<ExpenseResponseDto> page = expenseRepository.findResponsesByFilters(filterStatus, from, to, pageable);
         log.debug("Admin fetched {} expenses with filters status={} from={} to={}",
                 page.getTotalElements(), status, from, to);
 
-        return page.map(expense -> {
-            ExpenseResponseDto dto = ExpenseMapper.toDto(expense);
-            try {
-                BigDecimal rate = exchangeRateClient.getRateToInr(expense.getCurrency());
-                dto.setAmountInInr(expense.getAmount().multiply(rate));
-                log.trace("Converted {} {} to {} INR (rate={}) for expense {}",
-                        expense.getAmount(), expense.getCurrency(), dto.getAmountInInr(), rate, expense.getId());
-            } catch (Exception e) {
-                log.warn("Failed to convert currency {} for expense {}: {}",
-                        expense.getCurrency(), expense.getId(), e.getMessage());
-                throw new ExternalServiceException("Unable to fetch exchange rate for "
-                        + expense.getCurrency(), e);
+        return toResponsePage(page, target);
+    }
+
+    /**
+     * Computes the entity tag of a page of the filtered expenses for admin from one
+     * aggregate query over the matching rows.
+     *
+     * @param status expense status filter
+     * @param from   optional start date
+     * @param to     optional end date
+     * @param targetCurrency optional reporting currency the amounts are also given in
+     * @param pageable pagination information
+     * @return entity tag of the page
+     * @throws BadRequestException if the status or reporting currency is invalid
+     */
+    @Override
+    public String getExpensesETagForAdmin(String status, LocalDate from, LocalDate to, String targetCurrency,
+                                          Pageable pageable) {
+        String target = resolveTargetCurrency(targetCurrency);
+        ExpenseStatus filterStatus = parseStatus(status);
+        ExpenseListVersion version = expenseRepository.findListVersionByFilters(filterStatus, from, to);
+        return toListETag("all|" + filterStatus + "|" + from + "|" + to, version, target, pageable);
+    }
+
+    /**
+     * Retrieves one keyset page of the filtered expenses for admin, newest first.
+     *
+     * @param status expense status filter
+     * @param from   optional start date
+     * @param to     optional end date
+     * @param targetCurrency optional reporting currency the amounts are also given in
+     * @param cursor continuation token from the previous page, or null for the first page
+     * @param size page size
+     * @return page of expenses with the token of the next page
+     * @throws BadRequestException if the status, cursor or size is invalid
+     */
+    @Override
+    public CursorPageDto<ExpenseResponseDto> getExpensesForAdminByCursor(String status, LocalDate from, LocalDate to,
+                                                                         String targetCurrency, String cursor,
+                                                                         int size) {
+        String target = resolveTargetCurrency(targetCurrency);
+        ExpenseStatus filterStatus = parseStatus(status);
+        validateCursorPageSize(size);
+        ExpenseCursor after = ExpenseCursor.decode(cursor);
+
+        List<ExpenseResponseDto> rows = expenseRepository.findResponsesByFiltersAfter(filterStatus, from, to,
+                after != null ? after.expenseDate() : null, after != null ? after.id() : null,
+                Limit.of(size + 1));
+        log.debug("Admin fetched {} expenses with filters status={} from={} to={} after cursor {}",
+                rows.size(), status, from, to, cursor);
+        return toCursorPage(rows, size, target);
+    }
+
+    /**
+     * Searches expense titles and descriptions for admin, best matches first, with
+     * the same optional filters as the admin listing. Pages continue from the rank
+     * and id of the last hit in the cursor.
+     *
+     * @param query search text, e.g. a vendor or trip name
+     * @param status expense status filter
+     * @param from   optional start date
+     * @param to     optional end date
+     * @param targetCurrency optional reporting currency the amounts are also given in
+     * @param cursor continuation token from the previous page, or null for the first page
+     * @param size page size
+     * @return page of matching expenses with the token of the next page
+     * @throws BadRequestException if the query, status, cursor or size is invalid
+     */
+    @Override
+    public CursorPageDto<ExpenseResponseDto> searchExpenses(String query, String status, LocalDate from,
+                                                            LocalDate to, String targetCurrency, String cursor,
+                                                            int size) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query is required");
+        }
+        if (query.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new BadRequestException("Search query must be at most " + MAX_SEARCH_QUERY_LENGTH + " characters");
+        }
+        String target = resolveTargetCurrency(targetCurrency);
+        ExpenseStatus filterStatus = parseStatus(status);
+        validateCursorPageSize(size);
+        ExpenseSearchCursor after = ExpenseSearchCursor.decode(cursor);
+
+        List<ExpenseSearchHit> hits = expenseRepository.searchResponses(query.trim(), filterStatus, from, to,
+                after != null ? after.rank() : null, after != null ? after.id() : null, Limit.of(size + 1));
+        log.debug("Search '{}' matched {} expenses with filters status={} from={} to={} after cursor {}",
+                query, hits.size(), status, from, to, cursor);
+
+        List<ExpenseSearchHit> pageHits = hits.size() > size ? hits.subList(0, size) : hits;
+        List<ExpenseResponseDto> content = pageHits.stream().map(ExpenseSearchHit::expense).toList();
+        completeResponses(content, target);
+        String nextCursor = null;
+        if (hits.size() > size) {
+            ExpenseSearchHit last = pageHits.get(pageHits.size() - 1);
+            nextCursor = new ExpenseSearchCursor(last.rank(), last.expense().getId()).encode();
+        }
+        return new CursorPageDto<>(content, content.size(), nextCursor);
+    }
+
+    /**
+     * Validates the filters of an export and looks up the rates it is converted with.
+     * Rates are fetched once, in bulk, for the currencies of the matching expenses
+     * that have no stored INR amount, so that the export itself makes no rate
+     * lookups and a failed lookup is reported before anything is written.
+     *
+     * @param status optional expense status filter
+     * @param from   optional start date
+     * @param to     optional end date
+     * @param targetCurrency optional reporting currency the amounts are also given in
+     * @return validated filters with the rate snapshot
+     * @throws BadRequestException if the status or reporting currency is invalid
+     * @throws ExternalServiceException if the exchange rate lookup fails
+     */
+    @Override
+    public ExpenseExportSnapshot prepareExport(String status, LocalDate from, LocalDate to, String targetCurrency) {
+        String target = resolveTargetCurrency(targetCurrency);
+        ExpenseStatus filterStatus = parseStatus(status);
+        Set<String> currencies = expenseRepository.findUnconvertedCurrencies(filterStatus, from, to);
+        Map<String, BigDecimal> ratesToInr = currencies.isEmpty() ? Map.of() : fetchRatesToInr(currencies);
+        Set<String> staleCurrencies = currencies.stream()
+                .filter(exchangeRateClient::isStale)
+                .collect(Collectors.toUnmodifiableSet());
+        BigDecimal inrToTarget = target != null ? getInrRateIn(target) : null;
+        log.info("Prepared expense export with filters status={} from={} to={}, {} currencies to convert",
+                status, from, to, currencies.size());
+        return new ExpenseExportSnapshot(filterStatus, from, to, target, ratesToInr, staleCurrencies, inrToTarget);
+    }
+
+    /**
+     * Streams the expenses of an export to the given writer, oldest first. Rows are
+     * read from a database cursor and handed over one at a time, so memory use does
+     * not depend on the number of rows.
+     *
+     * @param snapshot filters and rates from {@link #prepareExport}
+     * @param rowWriter receives each completed row
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportExpenses(ExpenseExportSnapshot snapshot, Consumer<ExpenseResponseDto> rowWriter) {
+        long rows = 0;
+        try (Stream<ExpenseResponseDto> stream = expenseRepository.streamResponsesByFilters(snapshot.status(),
+                snapshot.from(), snapshot.to())) {
+            for (ExpenseResponseDto dto : (Iterable<ExpenseResponseDto>) stream::iterator) {
+                if (dto.getAmountInInr() == null) {
+                    BigDecimal rate = snapshot.ratesToInr().get(dto.getCurrency());
+                    if (rate != null) {
+                        dto.setAmountInInr(convert(dto.getAmount(), rate));
+                        dto.setRateStale(snapshot.staleCurrencies().contains(dto.getCurrency()));
+                    }
+                }
+                if (snapshot.targetCurrency() != null && dto.getAmountInInr() != null) {
+                    applyTarget(dto, snapshot.targetCurrency(), snapshot.inrToTarget());
+                }
+                rowWriter.accept(dto);
+                rows++;
             }
-            return dto;
-        });
+        }
+        log.info("Exported {} expenses", rows);
     }
 
     /**
@@ -364,71 +650,83 @@ public class ExpenseServiceImpl implements ExpenseService {
      *
      * @param id expense ID
      * @param requesterEmail email of requester
+     * @param targetCurrency optional reporting currency the amount is also given in
      * @return expense details
      */
     @Override
-    public ExpenseResponseDto getExpenseById(UUID id, String requesterEmail) {
-        Expense expense = expenseRepository.findById(id)
-                .orElseThrow(() -> new NotFoundException("Expense not found: " + id));
-        ExpenseResponseDto expenseResponseDto = ExpenseMapper.toDto(expense);
-        try {
-            BigDecimal rate = exchangeRateClient.getRateToInr(expense.getCurrency());
-            expenseResponseDto.setAmountInInr(expense.getAmount().multiply(rate));
-        } catch (Exception e) {
-            log.warn("Currency conversion failed for expense {} (currency: {}) requested by {}. Reason: {}",
-                    id, expense.getCurrency(), expense.getRequestedBy(), e.getMessage());
-            throw new ExternalServiceException("Unable to fetch exchange rate for "
-                    + expense.getCurrency(), e);
+    public ExpenseResponseDto getExpenseById(UUID id, String requesterEmail, String targetCurrency) {
+        String target = resolveTargetCurrency(targetCurrency);
+        ExpenseResponseDto expenseResponseDto = expenseDetailCache.get(id, this::loadExpenseDetails);
+        if (target != null) {
+            applyTarget(expenseResponseDto, target, getInrRateIn(target));
         }
         log.debug("Expense {} retrieved by {}", id, requesterEmail);
         return expenseResponseDto;
     }
 
+    /**
+     * Assembles the details of an expense with one projection query. Expenses
+     * persisted without an INR amount are converted with the current rate.
+     *
+     * @throws NotFoundException if the expense does not exist
+     */
+    private ExpenseResponseDto loadExpenseDetails(UUID id) {
+        ExpenseResponseDto dto = expenseRepository.findResponseById(id)
+                .orElseThrow(() -> new NotFoundException("Expense not found: " + id));
+        if (dto.getAmountInInr() == null) {
+            dto.setAmountInInr(convert(dto.getAmount(), getRateToInr(dto.getCurrency())));
+            dto.setRateStale(exchangeRateClient.isStale(dto.getCurrency()));
+        }
+        return dto;
+    }
+
     /**
      * Approves or rejects a pending expense.
      * Only Finance Admins are expected to call this method.
      *
+     * <p>The decision is a single conditional update that only matches a pending
+     * expense requested by someone else, so two admins acting at once cannot both
+     * decide it. The expense is only read when the update matches no row, to report
+     * why, or to store the INR amount of an expense persisted without one. An
+     * approval is added to the monthly report rollups in the same transaction.</p>
+     *
      * @param expenseId ID of expense to approve
      * @param approverEmail email of approver
      * @param dto ExpenseApprovalDto
-     * @throws ConflictException if expense is not pending
+     * @throws ConflictException if expense is not pending, was requested by the approver,
+     *                           or the status is invalid
      * @throws NotFoundException if expense or approver not found
      */
     @Override
     @Transactional
     public void approveOrRejectExpense(UUID expenseId, String approverEmail, ExpenseApprovalDto dto) {
         try {
-            Expense expense = expenseRepository.findById(expenseId)
-                    .orElseThrow(() -> new NotFoundException("Expense not found: " + expenseId));
-
-            if (expense.getStatus() != ExpenseStatus.PENDING) {
-                throw new ConflictException("Expense already " + expense.getStatus());
-            }
-
-            User approver = userRepository.findByEmail(ValidationUtils.requestedNonNull(approverEmail))
-                    .orElseThrow(() -> new NotFoundException("Approver not found: " + approverEmail));
-
-            //always check and implement business
-            if (approver.getEmail().equalsIgnoreCase(expense.getRequestedBy().getEmail())) {
-                log.warn("Approver {} attempted to approve their own expense {}", approverEmail, expenseId);
-                throw new ConflictException("You cannot approve or reject your own expense request.");
-            }
-
-            if (ExpenseStatus.APPROVED.name().equalsIgnoreCase(dto.getStatus())) {
+            ExpenseStatus decision = parseDecision(dto.getStatus(), expenseId);
+            String reason = decision == ExpenseStatus.REJECTED ? dto.getReason() : null;
+            if (decision == ExpenseStatus.APPROVED) {
                 log.info("Approving expense ID: {} by approver: {}", expenseId, approverEmail);
-                expense.setStatus(ExpenseStatus.APPROVED);
-            } else if (ExpenseStatus.REJECTED.name().equalsIgnoreCase(dto.getStatus())) {
-                log.info("Rejecting expense ID: {} by approver: {} with reason: {}", expenseId, approverEmail, dto.getReason());
-                expense.setStatus(ExpenseStatus.REJECTED);
-                expense.setRejectionReason(dto.getReason());
             } else {
-                log.warn("Invalid status '{}' received for expense ID: {}", dto.getStatus(), expenseId);
-                throw new ConflictException("Invalid status value: " + dto.getStatus() + "Only can be ");
+                log.info("Rejecting expense ID: {} by approver: {} with reason: {}", expenseId, approverEmail, reason);
             }
 
-            expense.setApprovedBy(approver);
-            expense.setUpdatedAt(LocalDateTime.now());
-            expenseRepository.save(expense);
+            LocalDateTime decidedAt = LocalDateTime.now();
+            int updated = expenseRepository.decidePendingConverted(expenseId, decision.name(), reason,
+                    ValidationUtils.requestedNonNull(approverEmail), decidedAt);
+            if (updated == 0) {
+                Expense expense = getDecidableExpense(expenseId, approverEmail);
+                if (expense.getAmountInInr() == null) {
+                    freezeInrAmount(expense);
+                }
+                updated = expenseRepository.decidePending(expenseId, decision.name(), reason, approverEmail,
+                        decidedAt);
+                if (updated == 0) {
+                    throw new ConflictException("Expense " + expenseId + " was decided by another request");
+                }
+            }
+            if (decision == ExpenseStatus.APPROVED) {
+                expenseRepository.addApprovedToRollups(List.of(expenseId));
+            }
+            expenseDetailCache.evict(expenseId);
 
             log.info("Expense {} approved or rejected by {}", expenseId, approverEmail);
         } catch (NotFoundException | ConflictException e) {
@@ -440,15 +738,130 @@ public class ExpenseServiceImpl implements ExpenseService {
         }
     }
 
+    /**
+     * Approves or rejects many expenses in one transaction. All decisions are sent
+     * as one JDBC batch of the same conditional update as a single decision, so the
+     * pending-state and self-approval rules are enforced by the database. Actions
+     * that match no row are classified with one read of the affected expenses, and
+     * approved expenses without a stored INR amount get one with a single bulk rate
+     * lookup before they are added to the monthly report rollups.
+     *
+     * @param actions approve or reject actions, applied in order
+     * @param approverEmail email of approver
+     * @return outcome of every action, in the given order
+     * @throws ConflictException if any status is invalid
+     * @throws NotFoundException if the approver is not found
+     */
+    @Override
+    @Transactional
+    public List<ExpenseActionResultDto> applyExpenseActions(List<ExpenseActionDto> actions, String approverEmail) {
+        List<ExpenseDecision> decisions = actions.stream()
+                .map(action -> {
+                    ExpenseStatus decision = parseDecision(action.getStatus(), action.getId());
+                    return new ExpenseDecision(action.getId(), decision,
+                            decision == ExpenseStatus.REJECTED ? action.getReason() : null);
+                })
+                .toList();
+        User approver = userRepository.findByEmail(ValidationUtils.requestedNonNull(approverEmail))
+                .orElseThrow(() -> new NotFoundException("Approver not found: " + approverEmail));
+
+        int[] updated = expenseRepository.decidePendingBatch(decisions, approver.getId(), LocalDateTime.now());
+        Set<UUID> applied = new HashSet<>();
+        Set<UUID> unmatched = new HashSet<>();
+        for (int i = 0; i < decisions.size(); i++) {
+            (updated[i] > 0 ? applied : unmatched).add(decisions.get(i).id());
+        }
+        Map<UUID, Expense> unmatchedExpenses = unmatched.isEmpty() ? Map.of()
+                : expenseRepository.findAllById(unmatched).stream()
+                        .collect(Collectors.toMap(Expense::getId, Function.identity()));
+        if (!applied.isEmpty()) {
+            freezeInrAmounts(expenseRepository.findByIdInAndAmountInInrIsNull(applied));
+            expenseRepository.addApprovedToRollups(decisions.stream()
+                    .filter(decision -> decision.status() == ExpenseStatus.APPROVED && applied.contains(decision.id()))
+                    .map(ExpenseDecision::id)
+                    .toList());
+        }
+
+        List<ExpenseActionResultDto> results = new ArrayList<>(decisions.size());
+        for (int i = 0; i < decisions.size(); i++) {
+            UUID id = decisions.get(i).id();
+            if (updated[i] > 0) {
+                expenseDetailCache.evict(id);
+                results.add(new ExpenseActionResultDto(id, ExpenseActionOutcome.APPLIED, null));
+            } else {
+                results.add(toUnmatchedResult(id, unmatchedExpenses.get(id), approver));
+            }
+        }
+        log.info("Approver {} applied {} of {} expense actions", approverEmail, applied.size(), decisions.size());
+        return results;
+    }
+
+    /**
+     * Explains why a bulk action matched no expense.
+     */
+    private static ExpenseActionResultDto toUnmatchedResult(UUID id, Expense expense, User approver) {
+        if (expense == null || Boolean.TRUE.equals(expense.getIsDeleted())) {
+            return new ExpenseActionResultDto(id, ExpenseActionOutcome.NOT_FOUND, "Expense not found: " + id);
+        }
+        if (approver.getId().equals(expense.getRequestedBy().getId())) {
+            return new ExpenseActionResultDto(id, ExpenseActionOutcome.CONFLICT,
+                    "You cannot approve or reject your own expense request.");
+        }
+        return new ExpenseActionResultDto(id, ExpenseActionOutcome.CONFLICT, "Expense already " + expense.getStatus());
+    }
+
+    /**
+     * Parses the decision of an approval request.
+     *
+     * @throws ConflictException if the status is neither APPROVED nor REJECTED
+     */
+    private ExpenseStatus parseDecision(String status, UUID expenseId) {
+        if (ExpenseStatus.APPROVED.name().equalsIgnoreCase(status)) {
+            return ExpenseStatus.APPROVED;
+        }
+        if (ExpenseStatus.REJECTED.name().equalsIgnoreCase(status)) {
+            return ExpenseStatus.REJECTED;
+        }
+        log.warn("Invalid status '{}' received for expense ID: {}", status, expenseId);
+        throw new ConflictException("Invalid status value: " + status + ". Only APPROVED or REJECTED are allowed");
+    }
+
+    /**
+     * Reads an expense whose conditional decision matched no row and reports why,
+     * or returns it when it can still be decided.
+     *
+     * @throws NotFoundException if the expense or approver does not exist
+     * @throws ConflictException if the expense is not pending or was requested by the approver
+     */
+    private Expense getDecidableExpense(UUID expenseId, String approverEmail) {
+        Expense expense = expenseRepository.findById(expenseId)
+                .filter(found -> !Boolean.TRUE.equals(found.getIsDeleted()))
+                .orElseThrow(() -> new NotFoundException("Expense not found: " + expenseId));
+        if (expense.getStatus() != ExpenseStatus.PENDING) {
+            throw new ConflictException("Expense already " + expense.getStatus());
+        }
+        User approver = userRepository.findByEmail(approverEmail)
+                .orElseThrow(() -> new NotFoundException("Approver not found: " + approverEmail));
+        //always check and implement business
+        if (approver.getEmail().equalsIgnoreCase(expense.getRequestedBy().getEmail())) {
+            log.warn("Approver {} attempted to approve their own expense {}", approverEmail, expenseId);
+            throw new ConflictException("You cannot approve or reject your own expense request.");
+        }
+        return expense;
+    }
+
     /**
      * Generates a report of total approved expenses per employee.
      *
      * @param from start date
      * @param to end date
+     * @param targetCurrency optional reporting currency the totals are also given in
      * @return list of employee expense summaries
      */
     @Override
-    public List<EmployeeExpenseSummaryDto> reportTotalApprovedPerEmployee(LocalDate from, LocalDate to) {
+    public List<EmployeeExpenseSummaryDto> reportTotalApprovedPerEmployee(LocalDate from, LocalDate to,
+                                                                          String targetCurrency) {
+        String target = resolveTargetCurrency(targetCurrency);
         List<EmployeeExpenseSummaryDto> summaries;
 
         try {
@@ -458,24 +871,27 @@ public class ExpenseServiceImpl implements ExpenseService {
             throw new DatabaseException("Error retrieving approved expense summaries from database", e);
         }
 
-        return summaries.stream()
+        Map<String, BigDecimal> ratesToInr = snapshotRatesToInr(summaries.stream()
+                .filter(summary -> hasUnconvertedAmount(summary.getUnconvertedAmount()))
+                .map(EmployeeExpenseSummaryDto::getCurrency)
+                .collect(Collectors.toSet()));
+        BigDecimal inrToTarget = target != null ? getInrRateIn(target) : null;
+        return reportStream(summaries)
                 .map(summary -> {
-                    try {
-                        BigDecimal rate = exchangeRateClient.getRateToInr(summary.getCurrency());
-                        summary.setTotalApprovedInInr(summary.getTotalAmount().multiply(rate));
-
-                        log.trace("Converted {} {} for employee {} to {} INR (rate {})",
-                                summary.getTotalAmount(),
-                                summary.getCurrency(),
-                                summary.getEmployeeName(),
-                                summary.getTotalApprovedInInr(),
-                                rate);
-                    } catch (Exception e) {
-                        log.warn("Failed to convert currency {} for employee {}: {}",
-                                summary.getCurrency(), summary.getEmployeeName(), e.getMessage());
-                        throw new ExternalServiceException("Unable to fetch exchange rate for "
-                                + summary.getCurrency(), e);
+                    BigDecimal rateToInr = ratesToInr.get(summary.getCurrency());
+                    summary.setPartial(isPartial(summary.getUnconvertedAmount(), rateToInr));
+                    summary.setTotalApprovedInInr(toInrTotal(summary.getTotalApprovedInInr(),
+                            summary.getUnconvertedAmount(), rateToInr));
+                    if (target != null) {
+                        summary.setTargetCurrency(target);
+                        summary.setTotalApprovedInTarget(convert(summary.getTotalApprovedInInr(), inrToTarget));
                     }
+
+                    log.trace("Total of {} {} for employee {} is {} INR",
+                            summary.getTotalAmount(),
+                            summary.getCurrency(),
+                            summary.getEmployeeName(),
+                            summary.getTotalApprovedInInr());
                     return summary;
                 })
                 .collect(Collectors.toList());
@@ -487,11 +903,13 @@ public class ExpenseServiceImpl implements ExpenseService {
      *
      * @param from start date (optional)
      * @param to end date (optional)
+     * @param targetCurrency optional reporting currency the totals are also given in
      * @return list of currency-wise totals
      */
     @Override
-    public List<CurrencySummaryDto> reportTotalByCurrency(String currency, LocalDate from, LocalDate to) {
-
+    public List<CurrencySummaryDto> reportTotalByCurrency(String currency, LocalDate from, LocalDate to,
+                                                          String targetCurrency) {
+        String target = resolveTargetCurrency(targetCurrency);
         List<CurrencySummaryDto> summaries;
 
         if(currency == null || currency.isBlank()) {
@@ -510,21 +928,345 @@ public class ExpenseServiceImpl implements ExpenseService {
                 throw new DatabaseException("Error retrieving approved expense summaries from database", e);
             }
         }
-        return summaries.stream()
+        Map<String, BigDecimal> ratesToInr = snapshotRatesToInr(summaries.stream()
+                .filter(summary -> hasUnconvertedAmount(summary.getUnconvertedAmount()))
+                .map(CurrencySummaryDto::getCurrency)
+                .collect(Collectors.toSet()));
+        BigDecimal inrToTarget = target != null ? getInrRateIn(target) : null;
+        return reportStream(summaries)
                 .map(summary -> {
-                    try {
-                        BigDecimal rate = exchangeRateClient.getRateToInr(summary.getCurrency());
-                        summary.setTotalAmountInInr(summary.getTotalOriginalAmount().multiply(rate));
-                        log.trace("Converted {} {} to {} INR at rate {}",
-                                summary.getTotalOriginalAmount(), summary.getCurrency(),
-                                summary.getTotalAmountInInr(), rate);
-                    } catch (Exception e) {
-                        log.warn("Failed to convert currency {}: {}", summary.getCurrency(), e.getMessage());
-                        throw new ExternalServiceException("Unable to fetch exchange rate for "
-                                + summary.getCurrency(), e);
+                    BigDecimal rateToInr = ratesToInr.get(summary.getCurrency());
+                    summary.setPartial(isPartial(summary.getUnconvertedAmount(), rateToInr));
+                    summary.setTotalAmountInInr(toInrTotal(summary.getTotalAmountInInr(),
+                            summary.getUnconvertedAmount(), rateToInr));
+                    if (target != null) {
+                        summary.setTargetCurrency(target);
+                        summary.setTotalAmountInTarget(convert(summary.getTotalAmountInInr(), inrToTarget));
                     }
+                    log.trace("Total of {} {} is {} INR",
+                            summary.getTotalOriginalAmount(), summary.getCurrency(),
+                            summary.getTotalAmountInInr());
                     return summary;
                 })
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Completes a page of expense DTOs read with their stored INR amounts.
+     *
+     * @param page page of expense DTOs projected by the repository
+     * @param target upper-case reporting currency, or null
+     * @return page of expense DTOs
+     */
+    private Page<ExpenseResponseDto> toResponsePage(Page<ExpenseResponseDto> page, String target) {
+        completeResponses(page.getContent(), target);
+        return page;
+    }
+
+    /**
+     * Derives the entity tag of a listing page from the version of the listed rows.
+     * The rates version is only part of the tag when the page has amounts converted
+     * with current rates, so pages of stored amounts keep their tag across rate refreshes.
+     *
+     * @param scope identifies the listing and its filters
+     * @param version latest update time and counts of the listed rows
+     * @param target upper-case reporting currency, or null
+     * @param pageable page and sort of the listing
+     * @return hex digest of the version
+     */
+    private String toListETag(String scope, ExpenseListVersion version, String target, Pageable pageable) {
+        StringBuilder key = new StringBuilder(scope)
+                .append('|').append(version.lastUpdatedAt())
+                .append('|').append(version.count())
+                .append('|').append(pageable)
+                .append('|').append(target);
+        if (target != null || version.hasUnconverted()) {
+            key.append('|').append(exchangeRateClient.getRatesVersion());
+        }
+        return DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Builds a keyset page from rows read with one extra row. The extra row only
+     * tells whether a next page exists; the cursor points at the last returned row.
+     *
+     * @param rows up to {@code size + 1} rows in page order
+     * @param size requested page size
+     * @param target upper-case reporting currency, or null
+     * @return page of expense DTOs
+     */
+    private CursorPageDto<ExpenseResponseDto> toCursorPage(List<ExpenseResponseDto> rows, int size, String target) {
+        List<ExpenseResponseDto> content = rows.size() > size ? rows.subList(0, size) : rows;
+        completeResponses(content, target);
+        String nextCursor = null;
+        if (rows.size() > size) {
+            ExpenseResponseDto last = content.get(content.size() - 1);
+            nextCursor = new ExpenseCursor(last.getExpenseDate(), last.getId()).encode();
+        }
+        return new CursorPageDto<>(content, content.size(), nextCursor);
+    }
+
+    /**
+     * Fills in the amounts of expense DTOs read with their stored INR amounts.
+     * Expenses persisted before INR amounts were stored are converted from a rate
+     * snapshot taken with a single bulk lookup for their currencies. When a reporting currency is
+     * given, every INR amount is also converted to it with one cross rate.
+     *
+     * @param dtos expense DTOs projected by the repository
+     * @param target upper-case reporting currency, or null
+     * @throws ExternalServiceException if the lookup fails or returns no rate for a currency
+     */
+    private void completeResponses(List<ExpenseResponseDto> dtos, String target) {
+        Set<String> currencies = dtos.stream()
+                .filter(dto -> dto.getAmountInInr() == null)
+                .map(ExpenseResponseDto::getCurrency)
+                .collect(Collectors.toSet());
+        Map<String, BigDecimal> ratesToInr = currencies.isEmpty() ? Map.of() : fetchRatesToInr(currencies);
+        BigDecimal inrToTarget = target != null && !dtos.isEmpty() ? getInrRateIn(target) : null;
+        for (ExpenseResponseDto dto : dtos) {
+            if (dto.getAmountInInr() == null) {
+                dto.setAmountInInr(convert(dto.getAmount(), getRate(ratesToInr, dto.getCurrency())));
+                dto.setRateStale(exchangeRateClient.isStale(dto.getCurrency()));
+                log.trace("Converted {} {} to {} INR for expense {}",
+                        dto.getAmount(), dto.getCurrency(), dto.getAmountInInr(), dto.getId());
+            }
+            if (target != null) {
+                applyTarget(dto, target, inrToTarget);
+            }
+        }
+    }
+
+    /**
+     * Parses an optional expense status filter.
+     *
+     * @param status status name in any case, may be null or blank
+     * @return parsed status, or null when no filter was given
+     * @throws BadRequestException if the status is unknown
+     */
+    private ExpenseStatus parseStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        try {
+            return ExpenseStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid expense status: " + status);
+        }
+    }
+
+    private static void validateCursorPageSize(int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new BadRequestException("Page size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+    }
+
+    /**
+     * Validates an optional reporting currency.
+     *
+     * @param targetCurrency requested reporting currency, may be null or blank
+     * @return upper-case currency code, or null when none was requested
+     * @throws BadRequestException if the currency is not supported
+     */
+    private String resolveTargetCurrency(String targetCurrency) {
+        if (targetCurrency == null || targetCurrency.isBlank()) {
+            return null;
+        }
+        validateCurrencyCode(targetCurrency, null);
+        return targetCurrency.toUpperCase();
+    }
+
+    /**
+     * Looks up the value of one INR in the reporting currency.
+     *
+     * @throws ExternalServiceException if the exchange rate lookup fails
+     */
+    private BigDecimal getInrRateIn(String target) {
+        try {
+            return crossRateEngine.getRate(UMSConstants.INR, target);
+        } catch (ExternalServiceException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("Cross rate lookup failed for currency {}: {}", target, e.getMessage());
+            throw new ExternalServiceException("Unable to fetch exchange rate for " + target, e);
+        }
+    }
+
+    private static void applyTarget(ExpenseResponseDto dto, String target, BigDecimal inrToTarget) {
+        dto.setTargetCurrency(target);
+        dto.setAmountInTarget(convert(dto.getAmountInInr(), inrToTarget));
+    }
+
+    /**
+     * Stores the INR amount of an expense that was persisted without one, using the
+     * current rate. A failed lookup or a stale rate leaves the expense unconverted,
+     * so that the approval itself does not depend on the exchange rate provider.
+     *
+     * @param expense expense being approved or rejected
+     */
+    private void freezeInrAmount(Expense expense) {
+        try {
+            BigDecimal rate = storableRate(expense.getCurrency(),
+                    exchangeRateClient.getRateToInr(expense.getCurrency()));
+            if (rate == null) {
+                return;
+            }
+            expenseRepository.storeInrAmount(expense.getId(), convert(expense.getAmount(), rate), rate,
+                    LocalDateTime.now());
+        } catch (Exception e) {
+            log.warn("Could not store INR amount for expense {} (currency {}): {}",
+                    expense.getId(), expense.getCurrency(), e.getMessage());
+        }
+    }
+
+    /**
+     * Stores the INR amounts of decided expenses that were persisted without one,
+     * with a single bulk rate lookup. A failed lookup or a stale rate leaves them
+     * unconverted, as for a single decision.
+     *
+     * @param expenses decided expenses without a stored INR amount
+     */
+    private void freezeInrAmounts(List<Expense> expenses) {
+        if (expenses.isEmpty()) {
+            return;
+        }
+        Map<String, BigDecimal> rates;
+        try {
+            rates = exchangeRateClient.getRatesToInr(expenses.stream()
+                    .map(Expense::getCurrency)
+                    .collect(Collectors.toSet()));
+        } catch (Exception e) {
+            log.warn("Could not store INR amounts for {} expenses: {}", expenses.size(), e.getMessage());
+            return;
+        }
+        LocalDateTime rateAt = LocalDateTime.now();
+        Map<String, BigDecimal> storableRates = new HashMap<>();
+        rates.forEach((currency, rate) -> {
+            BigDecimal storable = storableRate(currency, rate);
+            if (storable != null) {
+                storableRates.put(currency, storable);
+            }
+        });
+        for (Expense expense : expenses) {
+            BigDecimal rate = storableRates.get(expense.getCurrency());
+            if (rate != null) {
+                expenseRepository.storeInrAmount(expense.getId(), convert(expense.getAmount(), rate), rate, rateAt);
+            }
+        }
+    }
+
+    /**
+     * Returns the rate an INR amount may be stored with. A last-known rate served
+     * after a provider failure is not stored, because it would stay on the expense
+     * long after the provider recovers; the expense is kept unconverted instead.
+     *
+     * @return the given rate, or null if it is stale
+     */
+    private BigDecimal storableRate(String currency, BigDecimal rate) {
+        if (rate != null && exchangeRateClient.isStale(currency)) {
+            log.warn("Not storing stale {} rate {}, keeping the expense unconverted", currency, rate);
+            return null;
+        }
+        return rate;
+    }
+
+    /**
+     * Looks up the current INR rate of a currency.
+     *
+     * @throws ExternalServiceException if the exchange rate lookup fails
+     */
+    private BigDecimal getRateToInr(String currency) {
+        try {
+            return exchangeRateClient.getRateToInr(currency);
+        } catch (Exception e) {
+            log.warn("Exchange rate lookup failed for currency {}: {}", currency, e.getMessage());
+            throw new ExternalServiceException("Unable to fetch exchange rate for " + currency, e);
+        }
+    }
+
+    /**
+     * Converts an amount with the given rate, rounded to the precision of the stored amounts.
+     */
+    private static BigDecimal convert(BigDecimal amount, BigDecimal rate) {
+        return FixedPointConverter.convert(amount, rate);
+    }
+
+    /**
+     * Adds the converted value of the not yet converted part of a report total to its
+     * stored INR total. Without a rate the stored INR total is returned on its own.
+     */
+    private static BigDecimal toInrTotal(BigDecimal storedInrTotal, BigDecimal unconvertedAmount,
+                                         BigDecimal rateToInr) {
+        BigDecimal total = storedInrTotal != null ? storedInrTotal : BigDecimal.ZERO;
+        if (!hasUnconvertedAmount(unconvertedAmount) || rateToInr == null) {
+            return total;
+        }
+        return total.add(convert(unconvertedAmount, rateToInr));
+    }
+
+    private static boolean isPartial(BigDecimal unconvertedAmount, BigDecimal rateToInr) {
+        return hasUnconvertedAmount(unconvertedAmount) && rateToInr == null;
+    }
+
+    /**
+     * Streams the rows of a report, in parallel from {@value #REPORT_PARALLEL_THRESHOLD}
+     * rows. Rows are converted from a rate snapshot only, so the conversion itself
+     * makes no lookups and the encounter order is kept when collected.
+     */
+    private static <T> Stream<T> reportStream(List<T> rows) {
+        return rows.size() >= REPORT_PARALLEL_THRESHOLD ? rows.parallelStream() : rows.stream();
+    }
+
+    /**
+     * Takes the rate snapshot a report is converted with, using one bulk lookup for
+     * all its currencies. A failed lookup does not fail the report: its rows are
+     * reported as partial, like rows of a currency the provider does not know.
+     *
+     * @param currencies distinct currency codes of the rows to convert
+     * @return map of currency code to INR rate, possibly missing some currencies
+     */
+    private Map<String, BigDecimal> snapshotRatesToInr(Set<String> currencies) {
+        if (currencies.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            return exchangeRateClient.getRatesToInr(currencies);
+        } catch (Exception e) {
+            log.warn("Failed to fetch exchange rates for report currencies {}, reporting them as partial: {}",
+                    currencies, e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private static boolean hasUnconvertedAmount(BigDecimal unconvertedAmount) {
+        return unconvertedAmount != null && unconvertedAmount.signum() != 0;
+    }
+
+    /**
+     * Picks the rate of a currency from a resolved rate snapshot. The bulk lookup
+     * leaves out currencies it has no rate for.
+     *
+     * @throws ExternalServiceException if no rate was returned for the currency
+     */
+    private BigDecimal getRate(Map<String, BigDecimal> rates, String currency) {
+        BigDecimal rate = rates.get(currency);
+        if (rate == null) {
+            log.warn("No exchange rate available for currency {}", currency);
+            throw new ExternalServiceException("Unable to fetch exchange rate for " + currency);
+        }
+        return rate;
+    }
+
+    /**
+     * Looks up the INR rates of the given currencies with one bulk call.
+     *
+     * @throws ExternalServiceException if the exchange rate lookup fails
+     */
+    private Map<String, BigDecimal> fetchRatesToInr(Set<String> currencies) {
+        try {
+            return exchangeRateClient.getRatesToInr(currencies);
+        } catch (Exception e) {
+            log.warn("Failed to fetch exchange rates for currencies {}: {}", currencies, e.getMessage());
+            throw new ExternalServiceException("Unable to fetch exchange rates for " + currencies, e);
+        }
+    }
 }
@@ -0,0 +1,291 @@
+package com.i2i.user_management.Service.Impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.i2i.user_management.Dto.ReportJobDto;
+import com.i2i.user_management.Dto.ReportJobRequestDto;
+import com.i2i.user_management.Enum.ReportJobStatus;
+import com.i2i.user_management.Enum.ReportType;
+import com.i2i.user_management.Exception.BadRequestException;
+import com.i2i.user_management.Exception.ConflictException;
+import com.i2i.user_management.Exception.DatabaseException;
+import com.i2i.user_management.Exception.ExternalServiceException;
+import com.i2i.user_management.Exception.NotFoundException;
+import com.i2i.user_management.Model.ReportJob;
+import com.i2i.user_management.Repository.ReportJobRepository;
+import com.i2i.user_management.Service.ExpenseService;
+import com.i2i.user_management.Service.ReportJobService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Generates the expense reports in the background, so that HTTP threads never wait
+ * on a report query.
+ *
+ * <p>Every job runs on its own virtual thread, and at most {@code max-concurrent}
+ * of them query the database at once; the others wait for a permit. At most
+ * {@code max-in-flight} jobs are queued or running, further submissions are
+ * refused. A submission with the same specification as a job still in flight
+ * returns that job instead of starting another one.</p>
+ *
+ * <p>Results are stored with the job as a gzip-compressed JSON array and kept for
+ * the configured TTL, after which the job is no longer visible and is purged. The
+ * in-flight jobs are tracked per instance, so a job left queued or running by a
+ * stopped instance simply expires.</p>
+ */
+@Service
+public class ReportJobServiceImpl implements ReportJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReportJobServiceImpl.class);
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final ReportJobRepository reportJobRepository;
+
+    private final ExpenseService expenseService;
+
+    private final ObjectMapper objectMapper;
+
+    private final int maxInFlight;
+
+    private final Duration ttl;
+
+    private final Semaphore runningJobs;
+
+    private final ExecutorService executor;
+
+    /**
+     * Ids of the queued and running jobs by specification key. Guarded by itself.
+     */
+    private final Map<String, UUID> inFlight = new HashMap<>();
+
+    public ReportJobServiceImpl(ReportJobRepository reportJobRepository,
+                                ExpenseService expenseService,
+                                ObjectMapper objectMapper,
+                                @Value("${expense.report.jobs.max-concurrent}") int maxConcurrent,
+                                @Value("${expense.report.jobs.max-in-flight}") int maxInFlight,
+                                @Value("${expense.report.jobs.ttl-minutes}") long ttlMinutes) {
+        if (maxConcurrent < 1 || maxInFlight < maxConcurrent) {
+            throw new IllegalArgumentException(
+                    "Report jobs need max-concurrent >= 1 and max-in-flight >= max-concurrent");
+        }
+        this.reportJobRepository = reportJobRepository;
+        this.expenseService = expenseService;
+        this.objectMapper = objectMapper;
+        this.maxInFlight = maxInFlight;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        this.runningJobs = new Semaphore(maxConcurrent);
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("report-job-", 0).factory());
+    }
+
+    /**
+     * Starts a report job, or joins the in-flight job with the same specification.
+     *
+     * @param request report type and filters
+     * @param requesterEmail email of the admin submitting the job
+     * @return status of the new or joined job
+     * @throws BadRequestException if the date range is reversed
+     * @throws ConflictException if too many jobs are already in flight
+     */
+    @Override
+    public ReportJobDto submitReportJob(ReportJobRequestDto request, String requesterEmail) {
+        if (request.getFrom() != null && request.getTo() != null && request.getFrom().isAfter(request.getTo())) {
+            throw new BadRequestException("Report start date must not be after its end date");
+        }
+        String currency = request.getType() == ReportType.BY_CURRENCY ? normalizeCurrency(request.getCurrency()) : null;
+        ReportJob job = ReportJob.builder()
+                .id(UUID.randomUUID())
+                .reportType(request.getType())
+                .fromDate(request.getFrom())
+                .toDate(request.getTo())
+                .currency(currency)
+                .targetCurrency(normalizeCurrency(request.getTargetCurrency()))
+                .status(ReportJobStatus.QUEUED)
+                .requestedBy(requesterEmail)
+                .build();
+        job.setSpecKey(specKey(job));
+
+        synchronized (inFlight) {
+            UUID existing = inFlight.get(job.getSpecKey());
+            if (existing != null) {
+                log.info("Report job request by {} joined in-flight job {}", requesterEmail, existing);
+                return getReportJob(existing);
+            }
+            if (inFlight.size() >= maxInFlight) {
+                log.warn("Refused report job from {}: {} jobs in flight", requesterEmail, inFlight.size());
+                throw new ConflictException("Too many report jobs in progress, please try again later");
+            }
+            LocalDateTime now = LocalDateTime.now();
+            job.setCreatedAt(now);
+            job.setExpiresAt(now.plus(ttl));
+            reportJobRepository.save(job);
+            inFlight.put(job.getSpecKey(), job.getId());
+        }
+
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            finish(job, () -> markFailed(job.getId(), "Report jobs are shutting down"));
+            throw new ConflictException("Report jobs are shutting down, please try again later");
+        }
+        log.info("Report job {} of type {} submitted by {}", job.getId(), job.getReportType(), requesterEmail);
+        return toDto(job);
+    }
+
+    /**
+     * Returns the status of a report job.
+     *
+     * @param id job id
+     * @return job status, without the result
+     * @throws NotFoundException if the job does not exist or has expired
+     */
+    @Override
+    public ReportJobDto getReportJob(UUID id) {
+        return reportJobRepository.findStatusById(id, LocalDateTime.now())
+                .orElseThrow(() -> new NotFoundException("Report job not found: " + id));
+    }
+
+    /**
+     * Returns the result of a completed report job.
+     *
+     * @param id job id
+     * @return gzip-compressed JSON array of the report rows
+     * @throws NotFoundException if the job does not exist or has expired
+     * @throws ConflictException if the job has not completed
+     */
+    @Override
+    public byte[] getReportJobResult(UUID id) {
+        ReportJob job = reportJobRepository.findById(id)
+                .filter(found -> found.getExpiresAt().isAfter(LocalDateTime.now()))
+                .orElseThrow(() -> new NotFoundException("Report job not found: " + id));
+        if (job.getStatus() != ReportJobStatus.COMPLETED) {
+            throw new ConflictException("Report job " + id + " is " + job.getStatus());
+        }
+        return job.getResult();
+    }
+
+    /**
+     * Deletes the expired report jobs and their results.
+     *
+     * @return number of deleted jobs
+     */
+    @Override
+    @Scheduled(initialDelayString = "${expense.report.jobs.purge-interval-minutes}",
+            fixedDelayString = "${expense.report.jobs.purge-interval-minutes}",
+            timeUnit = TimeUnit.MINUTES)
+    public int purgeExpiredReportJobs() {
+        int deleted = reportJobRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Purged {} expired report jobs", deleted);
+        }
+        return deleted;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(ReportJob job) {
+        try {
+            runningJobs.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            finish(job, () -> markFailed(job.getId(), "Report job was interrupted"));
+            return;
+        }
+        try {
+            finish(job, () -> generate(job));
+        } finally {
+            runningJobs.release();
+        }
+    }
+
+    private void generate(ReportJob job) {
+        reportJobRepository.markRunning(job.getId(), LocalDateTime.now());
+        long startedAt = System.nanoTime();
+        try {
+            List<?> rows = switch (job.getReportType()) {
+                case APPROVED_PER_EMPLOYEE -> expenseService.reportTotalApprovedPerEmployee(job.getFromDate(),
+                        job.getToDate(), job.getTargetCurrency());
+                case BY_CURRENCY -> expenseService.reportTotalByCurrency(job.getCurrency(), job.getFromDate(),
+                        job.getToDate(), job.getTargetCurrency());
+            };
+            LocalDateTime completedAt = LocalDateTime.now();
+            reportJobRepository.markCompleted(job.getId(), toGzipJson(rows), rows.size(), completedAt,
+                    completedAt.plus(ttl));
+            log.info("Report job {} completed with {} rows in {} ms", job.getId(), rows.size(),
+                    Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+        } catch (BadRequestException | NotFoundException | ExternalServiceException | DatabaseException e) {
+            log.warn("Report job {} failed: {}", job.getId(), e.getMessage());
+            markFailed(job.getId(), e.getMessage());
+        } catch (Exception e) {
+            log.error("Unexpected error in report job {}: {}", job.getId(), e.getMessage(), e);
+            markFailed(job.getId(), "Report generation failed");
+        }
+    }
+
+    /**
+     * Runs the final step of a job and then releases its specification, so that a
+     * later identical request starts a new job.
+     */
+    private void finish(ReportJob job, Runnable step) {
+        try {
+            step.run();
+        } finally {
+            synchronized (inFlight) {
+                inFlight.remove(job.getSpecKey(), job.getId());
+            }
+        }
+    }
+
+    private void markFailed(UUID id, String error) {
+        String message = error == null ? "Report generation failed"
+                : error.substring(0, Math.min(error.length(), MAX_ERROR_LENGTH));
+        LocalDateTime completedAt = LocalDateTime.now();
+        reportJobRepository.markFailed(id, message, completedAt, completedAt.plus(ttl));
+    }
+
+    private byte[] toGzipJson(List<?> rows) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(gzip, rows);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static String specKey(ReportJob job) {
+        String spec = job.getReportType() + "|" + job.getFromDate() + "|" + job.getToDate() + "|"
+                + job.getCurrency() + "|" + job.getTargetCurrency();
+        return DigestUtils.md5DigestAsHex(spec.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String normalizeCurrency(String currency) {
+        return currency == null || currency.isBlank() ? null : currency.trim().toUpperCase();
+    }
+
+    private static ReportJobDto toDto(ReportJob job) {
+        return new ReportJobDto(job.getId(), job.getReportType(), job.getStatus(), job.getRowCount(),
+                job.getError(), job.getCreatedAt(), job.getCompletedAt(), job.getExpiresAt());
+    }
+}
@@ -0,0 +1,18 @@
+package com.i2i.user_management.Service;
+
+import com.i2i.user_management.Dto.ReportJobDto;
+import com.i2i.user_management.Dto.ReportJobRequestDto;
+
+import java.util.UUID;
+
+public interface ReportJobService {
+
+    ReportJobDto submitReportJob(ReportJobRequestDto request, String requesterEmail);
+
+    ReportJobDto getReportJob(UUID id);
+
+    byte[] getReportJobResult(UUID id);
+
+    int purgeExpiredReportJobs();
+
+}
@@ -0,0 +1,56 @@
+package com.i2i.user_management.util;
+
+import com.i2i.user_management.Exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last expense of a keyset page. Pages are ordered by
+ * {@code (expense_date, id)} descending, and the next page starts strictly
+ * after this position.
+ *
+ * <p>Clients receive the position as an opaque URL-safe token and send it back
+ * unchanged to continue.</p>
+ *
+ * @param expenseDate expense date of the last row
+ * @param id id of the last row
+ */
+public record ExpenseCursor(LocalDate expenseDate, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Encodes this position as a continuation token.
+     *
+     * @return URL-safe Base64 token
+     */
+    public String encode() {
+        String value = expenseDate.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a continuation token.
+     *
+     * @param token token returned with a previous page, may be null or blank
+     * @return decoded position, or null to start from the first page
+     * @throws BadRequestException if the token is malformed
+     */
+    public static ExpenseCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            return new ExpenseCursor(LocalDate.parse(value.substring(0, separator)),
+                    UUID.fromString(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.i2i.user_management.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.i2i.user_management.Dto.ExpenseResponseDto;
+import com.i2i.user_management.Enum.ExportFormat;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes expense rows one at a time as NDJSON (one JSON object per line) or CSV.
+ * Nothing is kept per row, so an export of any size is written with a fixed
+ * buffer.
+ */
+public final class ExpenseExportWriter implements Closeable {
+
+    private static final String CSV_HEADER = "id,title,description,expenseDate,amount,currency,amountInInr,"
+            + "fxRate,fxRateAt,rateStale,targetCurrency,amountInTarget,receiptUrl,status,requestedBy,"
+            + "approvedByName,rejectionReason";
+
+    private final Writer writer;
+
+    private final JsonGenerator generator;
+
+    private ExpenseExportWriter(Writer writer, JsonGenerator generator) {
+        this.writer = writer;
+        this.generator = generator;
+    }
+
+    /**
+     * Opens a writer on the given stream. Closing the writer closes the stream.
+     *
+     * @param out stream to write to
+     * @param format export format
+     * @param objectMapper mapper used for NDJSON rows
+     * @return export writer
+     * @throws IOException if the CSV header cannot be written
+     */
+    public static ExpenseExportWriter open(OutputStream out, ExportFormat format, ObjectMapper objectMapper)
+            throws IOException {
+        if (format == ExportFormat.NDJSON) {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+            generator.setRootValueSeparator(null);
+            return new ExpenseExportWriter(null, generator);
+        }
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        return new ExpenseExportWriter(writer, null);
+    }
+
+    /**
+     * Writes one row.
+     *
+     * @throws UncheckedIOException if the row cannot be written, e.g. because the client went away
+     */
+    public void write(ExpenseResponseDto dto) {
+        try {
+            if (generator != null) {
+                generator.writeObject(dto);
+                generator.writeRaw('\n');
+            } else {
+                writeCsvRow(dto);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (generator != null) {
+            generator.close();
+        } else {
+            writer.close();
+        }
+    }
+
+    private void writeCsvRow(ExpenseResponseDto dto) throws IOException {
+        writeCsvValue(dto.getId(), true);
+        writeCsvValue(dto.getTitle(), false);
+        writeCsvValue(dto.getDescription(), false);
+        writeCsvValue(dto.getExpenseDate(), false);
+        writeCsvValue(dto.getAmount() != null ? dto.getAmount().toPlainString() : null, false);
+        writeCsvValue(dto.getCurrency(), false);
+        writeCsvValue(dto.getAmountInInr() != null ? dto.getAmountInInr().toPlainString() : null, false);
+        writeCsvValue(dto.getFxRate() != null ? dto.getFxRate().toPlainString() : null, false);
+        writeCsvValue(dto.getFxRateAt(), false);
+        writeCsvValue(dto.isRateStale(), false);
+        writeCsvValue(dto.getTargetCurrency(), false);
+        writeCsvValue(dto.getAmountInTarget() != null ? dto.getAmountInTarget().toPlainString() : null, false);
+        writeCsvValue(dto.getReceiptUrl(), false);
+        writeCsvValue(dto.getStatus(), false);
+        writeCsvValue(dto.getRequestedBy(), false);
+        writeCsvValue(dto.getApprovedByName(), false);
+        writeCsvValue(dto.getRejectionReason(), false);
+        writer.write('\n');
+    }
+
+    private void writeCsvValue(Object value, boolean first) throws IOException {
+        if (!first) {
+            writer.write(',');
+        }
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
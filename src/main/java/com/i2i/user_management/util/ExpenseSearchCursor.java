@@ -0,0 +1,50 @@
+package com.i2i.user_management.util;
+
+import com.i2i.user_management.Exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last hit of a search page. Hits are ordered by rank and id
+ * descending, and the next page starts strictly after this position.
+ *
+ * @param rank full-text rank of the last hit
+ * @param id id of the last hit
+ */
+public record ExpenseSearchCursor(float rank, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Encodes this position as a continuation token.
+     *
+     * @return URL-safe Base64 token
+     */
+    public String encode() {
+        String value = Float.toString(rank) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a continuation token.
+     *
+     * @param token token returned with a previous page, may be null or blank
+     * @return decoded position, or null to start from the first page
+     * @throws BadRequestException if the token is malformed
+     */
+    public static ExpenseSearchCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            return new ExpenseSearchCursor(Float.parseFloat(value.substring(0, separator)),
+                    UUID.fromString(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new BadRequestException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.i2i.user_management.util;
+
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A report date range split into the whole months that can be read from the
+ * monthly rollups and the partial months at either end that are read from the
+ * expenses themselves.
+ *
+ * @param hasWholeMonths whether the range covers at least one whole month
+ * @param firstMonth first day of the first whole month, or null when the range is open at the start
+ * @param lastMonth first day of the last whole month, or null when the range is open at the end
+ * @param partialRanges inclusive date ranges not covered by the whole months
+ */
+public record RollupPeriod(boolean hasWholeMonths, LocalDate firstMonth, LocalDate lastMonth,
+                           List<DateRange> partialRanges) {
+
+    /**
+     * Inclusive range of expense dates.
+     */
+    public record DateRange(LocalDate from, LocalDate to) {
+    }
+
+    /**
+     * Splits a report date range.
+     *
+     * @param from optional first expense date, inclusive
+     * @param to optional last expense date, inclusive
+     * @return split range
+     */
+    public static RollupPeriod of(LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            return new RollupPeriod(false, null, null, List.of());
+        }
+        LocalDate firstMonth = from == null || from.getDayOfMonth() == 1
+                ? from
+                : from.withDayOfMonth(1).plusMonths(1);
+        LocalDate lastMonth = to == null || to.equals(to.with(TemporalAdjusters.lastDayOfMonth()))
+                ? (to == null ? null : to.withDayOfMonth(1))
+                : to.withDayOfMonth(1).minusMonths(1);
+        if (firstMonth != null && lastMonth != null && firstMonth.isAfter(lastMonth)) {
+            return new RollupPeriod(false, null, null, List.of(new DateRange(from, to)));
+        }
+        List<DateRange> partialRanges = new ArrayList<>(2);
+        if (from != null && !from.equals(firstMonth)) {
+            partialRanges.add(new DateRange(from, firstMonth.minusDays(1)));
+        }
+        if (to != null && !to.withDayOfMonth(1).equals(lastMonth)) {
+            partialRanges.add(new DateRange(to.withDayOfMonth(1), to));
+        }
+        return new RollupPeriod(true, firstMonth, lastMonth, List.copyOf(partialRanges));
+    }
+}
@@ -0,0 +1,13 @@
+-- V4__add_expense_fx_columns.sql
+-- Store the INR amount and the exchange rate it was converted with on each expense,
+-- so that read paths and reports no longer need a live rate lookup.
+-- Rows created before this migration keep NULL values and are converted on read.
+
+ALTER TABLE expenses
+ADD COLUMN amount_in_inr DECIMAL(19,2) NULL;
+
+ALTER TABLE expenses
+ADD COLUMN fx_rate DECIMAL(19,8) NULL;
+
+ALTER TABLE expenses
+ADD COLUMN fx_rate_at TIMESTAMP NULL;
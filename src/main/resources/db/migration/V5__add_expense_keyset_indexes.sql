@@ -0,0 +1,9 @@
+-- V5__add_expense_keyset_indexes.sql
+-- Indexes matching the (expense_date, id) order of the cursor endpoints, so that
+-- every page is an index range scan starting at the cursor, however deep it is.
+
+CREATE INDEX IF NOT EXISTS idx_expenses_requested_by_date_id
+ON expenses (requested_by, expense_date DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_expenses_date_id
+ON expenses (expense_date DESC, id DESC);
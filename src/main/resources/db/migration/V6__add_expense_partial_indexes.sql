@@ -0,0 +1,20 @@
+-- V6__add_expense_partial_indexes.sql
+-- Partial indexes for the filtered listings and reports. Every expense query
+-- excludes soft-deleted rows, so the indexes leave them out as well and only
+-- cover the rows the queries can return.
+
+CREATE INDEX IF NOT EXISTS idx_expenses_status_date_active
+ON expenses (status, expense_date)
+WHERE is_deleted = false;
+
+CREATE INDEX IF NOT EXISTS idx_expenses_currency_date_active
+ON expenses (currency, expense_date)
+WHERE is_deleted = false;
+
+-- Replaces the V5 index: the user listings never read soft-deleted rows either.
+-- The id column keeps the index usable for the cursor listing.
+DROP INDEX IF EXISTS idx_expenses_requested_by_date_id;
+
+CREATE INDEX IF NOT EXISTS idx_expenses_requested_by_date_active
+ON expenses (requested_by, expense_date DESC, id DESC)
+WHERE is_deleted = false;
@@ -0,0 +1,15 @@
+-- V7__add_expense_search_vector.sql
+-- Full-text search over expense titles and descriptions. The search vector is a
+-- generated column, so it is kept up to date by the database on every write;
+-- title words weigh more than description words when results are ranked.
+
+ALTER TABLE expenses
+ADD COLUMN search_vector tsvector
+GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(title, '')), 'A')
+    || setweight(to_tsvector('english', coalesce(description, '')), 'B')
+) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_expenses_search_vector_active
+ON expenses USING GIN (search_vector)
+WHERE is_deleted = false;
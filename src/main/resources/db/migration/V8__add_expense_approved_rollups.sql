@@ -0,0 +1,46 @@
+-- V8__add_expense_approved_rollups.sql
+-- Monthly totals of approved expenses, kept up to date when an expense is approved,
+-- so that the report endpoints read a few hundred rollup rows instead of grouping
+-- every approved expense. Months are stored as their first day.
+-- unconverted_amount is the part of total_amount without a stored INR value.
+
+CREATE TABLE IF NOT EXISTS expense_employee_month_rollups (
+    requested_by UUID NOT NULL REFERENCES um_users(id),
+    currency VARCHAR(8) NOT NULL,
+    month DATE NOT NULL,
+    total_amount DECIMAL(21,2) NOT NULL,
+    total_amount_in_inr DECIMAL(21,2) NOT NULL,
+    unconverted_amount DECIMAL(21,2) NOT NULL,
+    expense_count BIGINT NOT NULL,
+    PRIMARY KEY (requested_by, currency, month)
+);
+
+CREATE INDEX IF NOT EXISTS idx_expense_employee_month_rollups_month
+ON expense_employee_month_rollups (month);
+
+CREATE TABLE IF NOT EXISTS expense_currency_month_rollups (
+    currency VARCHAR(8) NOT NULL,
+    month DATE NOT NULL,
+    total_amount DECIMAL(21,2) NOT NULL,
+    total_amount_in_inr DECIMAL(21,2) NOT NULL,
+    unconverted_amount DECIMAL(21,2) NOT NULL,
+    expense_count BIGINT NOT NULL,
+    PRIMARY KEY (currency, month)
+);
+
+-- Backfill from the approved expenses already stored.
+INSERT INTO expense_employee_month_rollups
+    (requested_by, currency, month, total_amount, total_amount_in_inr, unconverted_amount, expense_count)
+SELECT requested_by, currency, CAST(date_trunc('month', expense_date) AS DATE),
+       SUM(amount), SUM(COALESCE(amount_in_inr, 0)),
+       SUM(CASE WHEN amount_in_inr IS NULL THEN amount ELSE 0 END), COUNT(*)
+FROM expenses
+WHERE status = 'APPROVED' AND is_deleted = false
+GROUP BY requested_by, currency, CAST(date_trunc('month', expense_date) AS DATE);
+
+INSERT INTO expense_currency_month_rollups
+    (currency, month, total_amount, total_amount_in_inr, unconverted_amount, expense_count)
+SELECT currency, month, SUM(total_amount), SUM(total_amount_in_inr), SUM(unconverted_amount),
+       SUM(expense_count)
+FROM expense_employee_month_rollups
+GROUP BY currency, month;
@@ -0,0 +1,26 @@
+-- V9__create_report_jobs.sql
+-- Report jobs run in the background and keep their result, a gzip-compressed JSON
+-- array of the report rows, until expires_at. spec_key identifies identical report
+-- specifications, so that a request for a report already being generated joins it.
+
+CREATE TABLE IF NOT EXISTS report_jobs (
+    id UUID PRIMARY KEY,
+    report_type VARCHAR(32) NOT NULL,
+    spec_key VARCHAR(32) NOT NULL,
+    from_date DATE,
+    to_date DATE,
+    currency VARCHAR(8),
+    target_currency VARCHAR(8),
+    status VARCHAR(16) NOT NULL,
+    result BYTEA,
+    row_count INTEGER,
+    error VARCHAR(500),
+    requested_by VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    started_at TIMESTAMP,
+    completed_at TIMESTAMP,
+    expires_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_report_jobs_expires_at
+ON report_jobs (expires_at);
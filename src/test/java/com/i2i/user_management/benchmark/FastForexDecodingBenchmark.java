@@ -0,0 +1,90 @@
+package com.i2i.user_management.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.i2i.user_management.Integration.Client.Response.FastForexResponseDecoder;
+import com.i2i.user_management.Integration.Client.Response.RateTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares decoding a {@code fetch-all} response of 170 currencies into a generic map
+ * (the previous approach) with the streaming decoder.
+ *
+ * <p>Run from the project root after {@code mvn test-compile}, with the GC profiler to
+ * see the allocation per operation ({@code gc.alloc.rate.norm}):</p>
+ * <pre>
+ * mvn -q exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.i2i.user_management.benchmark.FastForexDecodingBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FastForexDecodingBenchmark {
+
+    private static final int CURRENCIES = 170;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private byte[] fetchAllResponse;
+
+    @Setup
+    public void setUp() {
+        StringBuilder json = new StringBuilder("{\"base\":\"INR\",\"results\":{");
+        for (int i = 0; i < CURRENCIES; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            String code = "" + (char) ('A' + i / 26 % 26) + (char) ('A' + i % 26) + 'X';
+            json.append('"').append(code).append("\":").append(0.0001 + i * 0.01234567);
+        }
+        json.append("},\"updated\":\"2025-01-01 00:00:00\",\"ms\":4}");
+        fetchAllResponse = json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public Map<String, BigDecimal> genericMap() throws IOException {
+        Map<String, Object> response = objectMapper.readValue(fetchAllResponse, Map.class);
+        Map<String, Number> results = (Map<String, Number>) response.get("results");
+        Map<String, BigDecimal> rates = new HashMap<>();
+        results.forEach((currency, rate) -> rates.put(currency,
+                BigDecimal.ONE.divide(BigDecimal.valueOf(rate.doubleValue()), MathContext.DECIMAL64)));
+        return Map.copyOf(rates);
+    }
+
+    @Benchmark
+    public RateTable streaming() throws IOException {
+        return FastForexResponseDecoder.decodeRates(new ByteArrayInputStream(fetchAllResponse), true).rates();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(FastForexDecodingBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
@@ -0,0 +1,87 @@
+package com.i2i.user_management.benchmark;
+
+import com.i2i.user_management.Integration.Rate.FixedPointConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares converting a page of 1000 amounts to INR with {@link BigDecimal}
+ * multiplication (the previous approach) with the fixed-point conversion.
+ *
+ * <p>Run from the project root after {@code mvn test-compile}, with the GC profiler to
+ * see the allocation per operation ({@code gc.alloc.rate.norm}):</p>
+ * <pre>
+ * mvn -q exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.i2i.user_management.benchmark.FixedPointConversionBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FixedPointConversionBenchmark {
+
+    private static final int ROWS = 1000;
+
+    private static final BigDecimal RATE = new BigDecimal("83.2567812345678");
+
+    private BigDecimal[] amounts;
+
+    private long[] amountsMinor;
+
+    private long rateUnits;
+
+    @Setup
+    public void setUp() {
+        amounts = new BigDecimal[ROWS];
+        amountsMinor = new long[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            amountsMinor[i] = ThreadLocalRandom.current().nextLong(100, 10_000_000);
+            amounts[i] = BigDecimal.valueOf(amountsMinor[i], FixedPointConverter.AMOUNT_SCALE);
+        }
+        rateUnits = FixedPointConverter.toRateUnits(RATE);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (BigDecimal amount : amounts) {
+            total = total.add(amount.multiply(RATE).setScale(2, RoundingMode.HALF_UP));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long fixedPoint() {
+        long total = 0;
+        for (long amountMinor : amountsMinor) {
+            total += FixedPointConverter.convert(amountMinor, rateUnits, RoundingMode.HALF_UP);
+        }
+        return total;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(FixedPointConversionBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
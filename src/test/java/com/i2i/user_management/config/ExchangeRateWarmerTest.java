@@ -0,0 +1,86 @@
+package com.i2i.user_management.config;
+
+import com.i2i.user_management.Config.ExchangeRateWarmer;
+import com.i2i.user_management.Integration.Client.Impl.CachingExchangeRateClientImpl;
+import com.i2i.user_management.Integration.Registry.CurrencyRegistry;
+import com.i2i.user_management.util.TestConstants;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ExchangeRateWarmerTest {
+
+    @Mock
+    private CachingExchangeRateClientImpl exchangeRateClient;
+
+    @Mock
+    private CurrencyRegistry currencyRegistry;
+
+    @Test
+    void run_ShouldLoadWholeTable_WhenNoHotCurrenciesConfigured() {
+        //arrange
+        when(exchangeRateClient.refreshTable()).thenReturn(160);
+        ExchangeRateWarmer warmer = new ExchangeRateWarmer(exchangeRateClient, currencyRegistry, true, Set.of(),
+                50, 30, 45);
+
+        //act
+        warmer.run();
+
+        //assert
+        verify(exchangeRateClient, times(1)).refreshTable();
+        verify(exchangeRateClient, never()).refreshAll(any());
+        verifyNoInteractions(currencyRegistry);
+    }
+
+    @Test
+    void run_ShouldWarmHotCurrencies_InBatches_SkippingUnsupportedCodes() {
+        //arrange
+        when(currencyRegistry.isSupported(anyString())).thenReturn(true);
+        when(currencyRegistry.isSupported("XTS")).thenReturn(false);
+        when(exchangeRateClient.refreshAll(any())).thenThrow(new RuntimeException("Rate API down")).thenReturn(1);
+        ExchangeRateWarmer warmer = new ExchangeRateWarmer(exchangeRateClient, currencyRegistry, true,
+                new LinkedHashSet<>(List.of("usd", "XTS", "eur", "GBP", " ")), 2, 30, 45);
+
+        //act
+        warmer.run();
+
+        //assert
+        verify(exchangeRateClient).refreshAll(Set.of(TestConstants.CURRENCY_USD, TestConstants.CURRENCY_EUR));
+        verify(exchangeRateClient).refreshAll(Set.of("GBP"));
+        verify(exchangeRateClient, never()).refreshTable();
+    }
+
+    @Test
+    void constructor_ShouldThrow_WhenRefreshIsNotAheadOfCacheRefresh() {
+        assertThrows(IllegalArgumentException.class, () -> new ExchangeRateWarmer(exchangeRateClient,
+                currencyRegistry, true, Set.of(), 50, 45, 45));
+    }
+
+    @Test
+    void run_ShouldDoNothing_WhenDisabled() {
+        //arrange
+        ExchangeRateWarmer warmer = new ExchangeRateWarmer(exchangeRateClient, currencyRegistry, false, Set.of(),
+                50, 30, 45);
+
+        //act
+        warmer.run();
+
+        //assert
+        verifyNoInteractions(exchangeRateClient, currencyRegistry);
+    }
+}
@@ -0,0 +1,174 @@
+package com.i2i.user_management.integration.client.impl;
+
+import com.github.benmanes.caffeine.cache.Policy;
+import com.i2i.user_management.Constants.UMSConstants;
+import com.i2i.user_management.Integration.Client.ExchangeRateClient;
+import com.i2i.user_management.Integration.Client.Impl.CachingExchangeRateClientImpl;
+import com.i2i.user_management.util.TestConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.anySet;
+import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingExchangeRateClientImplTest {
+
+    @Mock
+    private ExchangeRateClient delegate;
+
+    private CachingExchangeRateClientImpl cachingClient;
+
+    @BeforeEach
+    void setUp() {
+        cachingClient = new CachingExchangeRateClientImpl(delegate,
+                Duration.ofMinutes(10), Duration.ofMinutes(1), Duration.ofMinutes(5), 100);
+    }
+
+    @Test
+    void getRateToInr_ShouldCallProviderOnce_ForRepeatedLookups() {
+        //arrange
+        when(delegate.getRateToInr(TestConstants.CURRENCY_USD)).thenReturn(TestConstants.RATE);
+
+        //act
+        BigDecimal first = cachingClient.getRateToInr(TestConstants.CURRENCY_USD);
+        BigDecimal second = cachingClient.getRateToInr("usd");
+
+        //assert
+        assertEquals(TestConstants.RATE, first);
+        assertEquals(TestConstants.RATE, second);
+        verify(delegate, times(1)).getRateToInr(TestConstants.CURRENCY_USD);
+        assertEquals(1, cachingClient.getStats().hitCount());
+        assertEquals(1, cachingClient.getStats().missCount());
+    }
+
+    @Test
+    void getRateToInr_ShouldNotCacheFailures() {
+        //arrange
+        when(delegate.getRateToInr(anyString()))
+                .thenThrow(new RuntimeException("Rate API down"))
+                .thenReturn(TestConstants.RATE);
+
+        //act & assert
+        assertThrows(RuntimeException.class, () -> cachingClient.getRateToInr(TestConstants.CURRENCY_EUR));
+        assertEquals(TestConstants.RATE, cachingClient.getRateToInr(TestConstants.CURRENCY_EUR));
+        verify(delegate, times(2)).getRateToInr(TestConstants.CURRENCY_EUR);
+    }
+
+    @Test
+    void getRatesToInr_ShouldFetchOnlyMissingCurrencies_InOneCall() {
+        //arrange
+        when(delegate.getRateToInr(TestConstants.CURRENCY_USD)).thenReturn(TestConstants.RATE);
+        when(delegate.getRatesToInr(Set.of(TestConstants.CURRENCY_EUR)))
+                .thenReturn(Map.of(TestConstants.CURRENCY_EUR, BigDecimal.valueOf(90)));
+        cachingClient.getRateToInr(TestConstants.CURRENCY_USD);
+
+        //act
+        Map<String, BigDecimal> rates = cachingClient.getRatesToInr(
+                Set.of(TestConstants.CURRENCY_USD, TestConstants.CURRENCY_EUR, UMSConstants.INR));
+
+        //assert
+        assertEquals(3, rates.size());
+        assertEquals(TestConstants.RATE, rates.get(TestConstants.CURRENCY_USD));
+        assertEquals(BigDecimal.valueOf(90), rates.get(TestConstants.CURRENCY_EUR));
+        assertEquals(BigDecimal.ONE, rates.get(UMSConstants.INR));
+        verify(delegate, times(1)).getRatesToInr(Set.of(TestConstants.CURRENCY_EUR));
+    }
+
+    @Test
+    void refreshAll_ShouldPreloadRates_SoLookupsDoNotCallProvider() {
+        //arrange
+        when(delegate.getRatesToInr(Set.of(TestConstants.CURRENCY_USD)))
+                .thenReturn(Map.of(TestConstants.CURRENCY_USD, TestConstants.RATE));
+
+        //act
+        int loaded = cachingClient.refreshAll(Set.of("usd", UMSConstants.INR));
+        BigDecimal rate = cachingClient.getRateToInr(TestConstants.CURRENCY_USD);
+
+        //assert
+        assertEquals(1, loaded);
+        assertEquals(TestConstants.RATE, rate);
+        verify(delegate, never()).getRateToInr(anyString());
+    }
+
+    @Test
+    void refreshTable_ShouldLoadWholeTable_InOneProviderCall() {
+        //arrange
+        when(delegate.getAllRatesToInr()).thenReturn(Map.of(TestConstants.CURRENCY_USD, TestConstants.RATE,
+                TestConstants.CURRENCY_EUR, BigDecimal.valueOf(90)));
+
+        //act
+        int loaded = cachingClient.refreshTable();
+        Map<String, BigDecimal> rates = cachingClient.getRatesToInr(
+                Set.of(TestConstants.CURRENCY_USD, TestConstants.CURRENCY_EUR));
+
+        //assert
+        assertEquals(2, loaded);
+        assertEquals(BigDecimal.valueOf(90), rates.get(TestConstants.CURRENCY_EUR));
+        verify(delegate, times(1)).getAllRatesToInr();
+        verify(delegate, never()).getRatesToInr(anySet());
+    }
+
+    @Test
+    void getRatesVersion_ShouldChange_OnlyWhenRefreshChangesARate() {
+        //arrange
+        when(delegate.getRatesToInr(Set.of(TestConstants.CURRENCY_USD)))
+                .thenReturn(Map.of(TestConstants.CURRENCY_USD, TestConstants.RATE))
+                .thenReturn(Map.of(TestConstants.CURRENCY_USD, new BigDecimal("200.00")))
+                .thenReturn(Map.of(TestConstants.CURRENCY_USD, BigDecimal.valueOf(201)));
+
+        //act
+        cachingClient.refreshAll(Set.of(TestConstants.CURRENCY_USD));
+        long loaded = cachingClient.getRatesVersion();
+        cachingClient.refreshAll(Set.of(TestConstants.CURRENCY_USD));
+        long unchanged = cachingClient.getRatesVersion();
+        cachingClient.refreshAll(Set.of(TestConstants.CURRENCY_USD));
+
+        //assert
+        assertEquals(1, loaded);
+        assertEquals(loaded, unchanged);
+        assertEquals(2, cachingClient.getRatesVersion());
+    }
+
+    @Test
+    void constructor_ShouldThrow_WhenRefreshAheadNotShorterThanTtl() {
+        assertThrows(IllegalArgumentException.class, () -> new CachingExchangeRateClientImpl(delegate,
+                Duration.ofMinutes(5), Duration.ofMinutes(1), Duration.ofMinutes(5), 100));
+    }
+
+    @Test
+    void getRateToInr_ShouldKeepStaleRate_OnlyForStaleTtl() {
+        //arrange
+        when(delegate.getRateToInr(TestConstants.CURRENCY_USD)).thenReturn(TestConstants.RATE);
+        when(delegate.getRateToInr(TestConstants.CURRENCY_EUR)).thenReturn(BigDecimal.valueOf(90));
+        when(delegate.isStale(TestConstants.CURRENCY_USD)).thenReturn(true);
+        when(delegate.isStale(TestConstants.CURRENCY_EUR)).thenReturn(false);
+
+        //act
+        cachingClient.getRateToInr(TestConstants.CURRENCY_USD);
+        cachingClient.getRateToInr(TestConstants.CURRENCY_EUR);
+
+        //assert
+        Policy.VarExpiration<String, BigDecimal> expiry =
+                cachingClient.getRateCache().policy().expireVariably().orElseThrow();
+        assertTrue(expiry.getExpiresAfter(TestConstants.CURRENCY_USD).orElseThrow()
+                .compareTo(Duration.ofMinutes(1)) <= 0);
+        assertTrue(expiry.getExpiresAfter(TestConstants.CURRENCY_EUR).orElseThrow()
+                .compareTo(Duration.ofMinutes(1)) > 0);
+    }
+}
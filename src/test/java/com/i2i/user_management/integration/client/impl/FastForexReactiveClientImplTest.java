@@ -0,0 +1,122 @@
+package com.i2i.user_management.integration.client.impl;
+
+import com.i2i.user_management.Constants.UMSConstants;
+import com.i2i.user_management.Exception.ExternalServiceException;
+import com.i2i.user_management.Integration.Client.Impl.FastForexReactiveClientImpl;
+import com.i2i.user_management.util.TestConstants;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FastForexReactiveClientImplTest {
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private FastForexReactiveClientImpl clientReturning(HttpStatus status, String body) {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    requests.incrementAndGet();
+                    return Mono.just(ClientResponse.create(status)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(body)
+                            .build());
+                })
+                .build();
+        return new FastForexReactiveClientImpl(webClient);
+    }
+
+    @Test
+    void getRateToInr_ShouldNotCallProvider_UntilSubscribed() {
+        //arrange
+        FastForexReactiveClientImpl client = clientReturning(HttpStatus.OK,
+                "{\"base\":\"INR\",\"result\":{\"USD\":0.0125}}");
+
+        //act
+        Mono<BigDecimal> rate = client.getRateToInr(TestConstants.CURRENCY_USD);
+
+        //assert
+        assertEquals(0, requests.get());
+        assertEquals(new BigDecimal("80.00000000"), rate.block());
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void getRatesToInr_ShouldInvertProviderRates_InOneCall() {
+        //arrange
+        FastForexReactiveClientImpl client = clientReturning(HttpStatus.OK,
+                "{\"base\":\"INR\",\"results\":{\"USD\":0.0125,\"EUR\":0.01}}");
+
+        //act
+        Map<String, BigDecimal> rates = client.getRatesToInr(
+                Set.of(TestConstants.CURRENCY_USD, TestConstants.CURRENCY_EUR, UMSConstants.INR)).block();
+
+        //assert
+        assertEquals(0, new BigDecimal("80").compareTo(rates.get(TestConstants.CURRENCY_USD)));
+        assertEquals(0, new BigDecimal("100").compareTo(rates.get(TestConstants.CURRENCY_EUR)));
+        assertEquals(BigDecimal.ONE, rates.get(UMSConstants.INR));
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void getRatesToInr_ShouldMatchSingleLookup_ForTheSameQuote() {
+        //arrange
+        FastForexReactiveClientImpl client = clientReturning(HttpStatus.OK,
+                "{\"base\":\"INR\",\"result\":{\"USD\":0.012011}}");
+
+        //act
+        BigDecimal single = client.getRateToInr(TestConstants.CURRENCY_USD).block();
+        BigDecimal bulk = client.getRatesToInr(Set.of(TestConstants.CURRENCY_USD)).block()
+                .get(TestConstants.CURRENCY_USD);
+
+        //assert
+        assertEquals(new BigDecimal("83.25701440"), single);
+        assertEquals(single, bulk);
+    }
+
+    @Test
+    void getRatesToInr_ShouldLeaveOutCurrency_WhenProviderHasNoQuote() {
+        //arrange
+        FastForexReactiveClientImpl client = clientReturning(HttpStatus.OK,
+                "{\"base\":\"INR\",\"results\":{\"USD\":0.0125}}");
+
+        //act
+        Map<String, BigDecimal> rates = client.getRatesToInr(
+                Set.of(TestConstants.CURRENCY_USD, TestConstants.CURRENCY_EUR)).block();
+
+        //assert
+        assertEquals(Set.of(TestConstants.CURRENCY_USD), rates.keySet());
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void getRatesToInr_ShouldFailWithExternalServiceException_WhenProviderErrors() {
+        //arrange
+        FastForexReactiveClientImpl client = clientReturning(HttpStatus.BAD_GATEWAY, "{}");
+
+        //act & assert
+        assertThrows(ExternalServiceException.class,
+                () -> client.getRatesToInr(Set.of(TestConstants.CURRENCY_USD, TestConstants.CURRENCY_EUR)).block());
+    }
+
+    @Test
+    void getRateToInr_ShouldFailWithExternalServiceException_WhenProviderErrors() {
+        //arrange
+        FastForexReactiveClientImpl client = clientReturning(HttpStatus.BAD_GATEWAY, "{}");
+
+        //act & assert
+        assertThrows(ExternalServiceException.class,
+                () -> client.getRateToInr(TestConstants.CURRENCY_USD).block());
+    }
+}
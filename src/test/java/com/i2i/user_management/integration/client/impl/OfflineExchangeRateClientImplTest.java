@@ -0,0 +1,79 @@
+package com.i2i.user_management.integration.client.impl;
+
+import com.i2i.user_management.Constants.UMSConstants;
+import com.i2i.user_management.Exception.ApplicationException;
+import com.i2i.user_management.Exception.ExternalServiceException;
+import com.i2i.user_management.Integration.Client.Impl.OfflineExchangeRateClientImpl;
+import com.i2i.user_management.util.TestConstants;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OfflineExchangeRateClientImplTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void getRatesToInr_ShouldServeRatesFromJsonSnapshot() throws Exception {
+        //arrange
+        Path snapshot = Files.writeString(tempDir.resolve("rates.json"),
+                "{\"rates\":{\"USD\":83.25,\"EUR\":90.5},\"currencies\":{\"USD\":\"US Dollar\"}}");
+        OfflineExchangeRateClientImpl client = new OfflineExchangeRateClientImpl(snapshot, 0, 0, 0);
+
+        //act
+        Map<String, BigDecimal> rates = client.getRatesToInr(
+                Set.of("usd", TestConstants.CURRENCY_EUR, UMSConstants.INR, "GBP"));
+
+        //assert
+        assertEquals(Map.of(TestConstants.CURRENCY_USD, new BigDecimal("83.25"),
+                TestConstants.CURRENCY_EUR, new BigDecimal("90.5"),
+                UMSConstants.INR, BigDecimal.ONE), rates);
+        assertEquals("US Dollar", client.getAllCurrencies().get(TestConstants.CURRENCY_USD));
+        assertEquals(TestConstants.CURRENCY_EUR, client.getAllCurrencies().get(TestConstants.CURRENCY_EUR));
+    }
+
+    @Test
+    void reloadIfChanged_ShouldPickUpModifiedCsvSnapshot() throws Exception {
+        //arrange
+        Path snapshot = Files.writeString(tempDir.resolve("rates.csv"), "code,rate,name\nUSD,83.25,US Dollar\n");
+        OfflineExchangeRateClientImpl client = new OfflineExchangeRateClientImpl(snapshot, 0, 0, 0);
+        Files.writeString(snapshot, "code,rate,name\nUSD,84.10,US Dollar\n");
+        Files.setLastModifiedTime(snapshot, FileTime.from(Instant.now().plusSeconds(60)));
+
+        //act
+        BigDecimal before = client.getRateToInr(TestConstants.CURRENCY_USD);
+        client.reloadIfChanged();
+        BigDecimal after = client.getRateToInr(TestConstants.CURRENCY_USD);
+
+        //assert
+        assertEquals(new BigDecimal("83.25"), before);
+        assertEquals(new BigDecimal("84.10"), after);
+    }
+
+    @Test
+    void getRateToInr_ShouldFail_WhenFailureIsInjected() throws Exception {
+        //arrange
+        Path snapshot = Files.writeString(tempDir.resolve("rates.csv"), "USD,83.25\n");
+        OfflineExchangeRateClientImpl client = new OfflineExchangeRateClientImpl(snapshot, 0, 0, 1);
+
+        //act & assert
+        assertThrows(ExternalServiceException.class, () -> client.getRateToInr(TestConstants.CURRENCY_USD));
+    }
+
+    @Test
+    void constructor_ShouldThrow_WhenSnapshotIsMissing() {
+        assertThrows(ApplicationException.class,
+                () -> new OfflineExchangeRateClientImpl(tempDir.resolve("missing.json"), 0, 0, 0));
+    }
+}
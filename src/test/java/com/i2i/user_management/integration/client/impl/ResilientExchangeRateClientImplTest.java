@@ -0,0 +1,131 @@
+package com.i2i.user_management.integration.client.impl;
+
+import com.i2i.user_management.Exception.ExternalServiceException;
+import com.i2i.user_management.Integration.Client.ExchangeRateClient;
+import com.i2i.user_management.Integration.Client.Impl.ResilientExchangeRateClientImpl;
+import com.i2i.user_management.util.TestConstants;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ResilientExchangeRateClientImplTest {
+
+    @Mock
+    private ExchangeRateClient delegate;
+
+    private CircuitBreaker circuitBreaker;
+
+    private ResilientExchangeRateClientImpl resilientClient;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = CircuitBreaker.of("test", CircuitBreakerConfig.custom()
+                .slidingWindowSize(2)
+                .minimumNumberOfCalls(2)
+                .failureRateThreshold(50)
+                .build());
+        resilientClient = new ResilientExchangeRateClientImpl(delegate, circuitBreaker, Bulkhead.ofDefaults("test"));
+    }
+
+    @Test
+    void getRateToInr_ShouldServeLastKnownRate_WhenProviderFails() {
+        //arrange
+        when(delegate.getRateToInr(TestConstants.CURRENCY_USD))
+                .thenReturn(TestConstants.RATE)
+                .thenThrow(new RuntimeException("Rate API down"));
+
+        //act
+        BigDecimal fresh = resilientClient.getRateToInr(TestConstants.CURRENCY_USD);
+        boolean staleAfterSuccess = resilientClient.isStale(TestConstants.CURRENCY_USD);
+        BigDecimal fallback = resilientClient.getRateToInr(TestConstants.CURRENCY_USD);
+
+        //assert
+        assertEquals(TestConstants.RATE, fresh);
+        assertFalse(staleAfterSuccess);
+        assertEquals(TestConstants.RATE, fallback);
+        assertTrue(resilientClient.isStale(TestConstants.CURRENCY_USD));
+    }
+
+    @Test
+    void getAllRatesToInr_ShouldServeLastKnownTable_WhenProviderFails() {
+        //arrange
+        Map<String, BigDecimal> table = Map.of(TestConstants.CURRENCY_USD, TestConstants.RATE,
+                TestConstants.CURRENCY_EUR, BigDecimal.valueOf(90));
+        when(delegate.getAllRatesToInr())
+                .thenReturn(table)
+                .thenThrow(new RuntimeException("Rate API down"));
+
+        //act
+        resilientClient.getAllRatesToInr();
+        Map<String, BigDecimal> fallback = resilientClient.getAllRatesToInr();
+
+        //assert
+        assertEquals(table, fallback);
+        assertTrue(resilientClient.isStale(TestConstants.CURRENCY_USD));
+        assertTrue(resilientClient.isStale(TestConstants.CURRENCY_EUR));
+    }
+
+    @Test
+    void getRateToInr_ShouldThrow_WhenProviderFailsWithoutKnownRate() {
+        //arrange
+        when(delegate.getRateToInr(anyString())).thenThrow(new RuntimeException("Rate API down"));
+
+        //act & assert
+        assertThrows(ExternalServiceException.class,
+                () -> resilientClient.getRateToInr(TestConstants.CURRENCY_USD));
+    }
+
+    @Test
+    void getRateToInr_ShouldNotCallProvider_WhenCircuitIsOpen() {
+        //arrange
+        when(delegate.getRateToInr(TestConstants.CURRENCY_USD))
+                .thenReturn(TestConstants.RATE)
+                .thenThrow(new RuntimeException("Rate API down"));
+        resilientClient.getRateToInr(TestConstants.CURRENCY_USD);
+        resilientClient.getRateToInr(TestConstants.CURRENCY_USD);
+
+        //act
+        BigDecimal rate = resilientClient.getRateToInr(TestConstants.CURRENCY_USD);
+
+        //assert
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertEquals(TestConstants.RATE, rate);
+        verify(delegate, times(2)).getRateToInr(TestConstants.CURRENCY_USD);
+    }
+
+    @Test
+    void getRatesToInr_ShouldServeKnownSubset_WhenProviderFails() {
+        //arrange
+        Set<String> currencies = Set.of(TestConstants.CURRENCY_USD, TestConstants.CURRENCY_EUR);
+        when(delegate.getRateToInr(TestConstants.CURRENCY_USD)).thenReturn(TestConstants.RATE);
+        when(delegate.getRatesToInr(currencies)).thenThrow(new RuntimeException("Rate API down"));
+        resilientClient.getRateToInr(TestConstants.CURRENCY_USD);
+
+        //act
+        Map<String, BigDecimal> rates = resilientClient.getRatesToInr(currencies);
+
+        //assert
+        assertEquals(Map.of(TestConstants.CURRENCY_USD, TestConstants.RATE), rates);
+        assertTrue(resilientClient.isStale(TestConstants.CURRENCY_USD));
+        assertFalse(resilientClient.isStale(TestConstants.CURRENCY_EUR));
+    }
+}
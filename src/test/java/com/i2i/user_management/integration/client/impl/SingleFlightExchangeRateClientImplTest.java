@@ -0,0 +1,94 @@
+package com.i2i.user_management.integration.client.impl;
+
+import com.i2i.user_management.Integration.Client.ExchangeRateClient;
+import com.i2i.user_management.Integration.Client.Impl.SingleFlightExchangeRateClientImpl;
+import com.i2i.user_management.util.TestConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SingleFlightExchangeRateClientImplTest {
+
+    private static final int CALLERS = 8;
+
+    @Mock
+    private ExchangeRateClient delegate;
+
+    private SingleFlightExchangeRateClientImpl singleFlightClient;
+
+    @BeforeEach
+    void setUp() {
+        singleFlightClient = new SingleFlightExchangeRateClientImpl(delegate);
+    }
+
+    @Test
+    void getRateToInr_ShouldShareOneProviderCall_ForConcurrentLookups() throws Exception {
+        //arrange
+        CountDownLatch providerCalled = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getRateToInr(TestConstants.CURRENCY_USD)).thenAnswer(invocation -> {
+            providerCalled.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return TestConstants.RATE;
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+        //act
+        List<Future<BigDecimal>> results = new ArrayList<>();
+        try {
+            results.add(executor.submit(() -> singleFlightClient.getRateToInr(TestConstants.CURRENCY_USD)));
+            providerCalled.await(5, TimeUnit.SECONDS);
+            for (int i = 1; i < CALLERS; i++) {
+                results.add(executor.submit(() -> singleFlightClient.getRateToInr("usd")));
+            }
+            while (singleFlightClient.getCoalescedCalls() < CALLERS - 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+            for (Future<BigDecimal> result : results) {
+                assertEquals(TestConstants.RATE, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        //assert
+        verify(delegate, times(1)).getRateToInr(TestConstants.CURRENCY_USD);
+        assertEquals(CALLERS - 1, singleFlightClient.getCoalescedCalls());
+    }
+
+    @Test
+    void getRateToInr_ShouldCallProviderAgain_AfterFailedCall() {
+        //arrange
+        when(delegate.getRateToInr(TestConstants.CURRENCY_USD))
+                .thenThrow(new RuntimeException("Rate API down"))
+                .thenReturn(TestConstants.RATE);
+
+        //act
+        assertThrows(RuntimeException.class, () -> singleFlightClient.getRateToInr(TestConstants.CURRENCY_USD));
+        BigDecimal rate = singleFlightClient.getRateToInr(TestConstants.CURRENCY_USD);
+
+        //assert
+        assertEquals(TestConstants.RATE, rate);
+        verify(delegate, times(2)).getRateToInr(TestConstants.CURRENCY_USD);
+        assertEquals(0, singleFlightClient.getCoalescedCalls());
+    }
+}
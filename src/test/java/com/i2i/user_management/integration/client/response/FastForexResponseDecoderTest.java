@@ -0,0 +1,78 @@
+package com.i2i.user_management.integration.client.response;
+
+import com.i2i.user_management.Integration.Client.Response.CurrenciesResponse;
+import com.i2i.user_management.Integration.Client.Response.FastForexResponseDecoder;
+import com.i2i.user_management.Integration.Client.Response.RateTable;
+import com.i2i.user_management.Integration.Client.Response.RatesResponse;
+import com.i2i.user_management.util.TestConstants;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FastForexResponseDecoderTest {
+
+    private static InputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void decodeRates_ShouldReadExactDecimals_AndSkipUnknownFields() throws IOException {
+        //act
+        RatesResponse response = FastForexResponseDecoder.decodeRates(body(
+                "{\"base\":\"USD\",\"result\":{\"INR\":83.123456789012345678},"
+                        + "\"updated\":\"2025-01-01 00:00:00\",\"meta\":{\"x\":[1,2]},\"ms\":3}"), false);
+
+        //assert
+        assertEquals("USD", response.base());
+        assertEquals(new BigDecimal("83.123456789012345678"), response.rates().get("INR"));
+    }
+
+    @Test
+    void decodeRates_ShouldInvertRates_IntoSortedTable() throws IOException {
+        //act
+        RatesResponse response = FastForexResponseDecoder.decodeRates(body(
+                "{\"base\":\"INR\",\"results\":{\"USD\":0.0125,\"EUR\":0.01,\"XXX\":0}}"), true);
+
+        //assert
+        RateTable rates = response.rates();
+        assertEquals(2, rates.size());
+        assertEquals(List.of(TestConstants.CURRENCY_EUR, TestConstants.CURRENCY_USD), List.copyOf(rates.keySet()));
+        assertEquals(0, new BigDecimal("80").compareTo(rates.get(TestConstants.CURRENCY_USD)));
+        assertEquals(0, new BigDecimal("100").compareTo(rates.get(TestConstants.CURRENCY_EUR)));
+    }
+
+    @Test
+    void decodeRates_ShouldLeaveRatesNull_WhenResponseHasNoResult() throws IOException {
+        //act
+        RatesResponse response = FastForexResponseDecoder.decodeRates(body("{\"error\":\"Invalid key\"}"), false);
+
+        //assert
+        assertNull(response.rates());
+    }
+
+    @Test
+    void decodeRates_ShouldThrow_WhenBodyIsNotAnObject() {
+        assertThrows(IOException.class, () -> FastForexResponseDecoder.decodeRates(body("[1,2]"), false));
+    }
+
+    @Test
+    void decodeCurrencies_ShouldReadCurrencyNames() throws IOException {
+        //act
+        CurrenciesResponse response = FastForexResponseDecoder.decodeCurrencies(body(
+                "{\"currencies\":{\"EUR\":\"Euro\",\"USD\":\"U.S. Dollar\"},\"ms\":1}"));
+
+        //assert
+        assertEquals(Map.of(TestConstants.CURRENCY_EUR, "Euro", TestConstants.CURRENCY_USD, "U.S. Dollar"),
+                response.currencies());
+    }
+}
@@ -0,0 +1,49 @@
+package com.i2i.user_management.integration.client.response;
+
+import com.i2i.user_management.Integration.Client.Response.RateTable;
+import com.i2i.user_management.util.TestConstants;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RateTableTest {
+
+    @Test
+    void builder_ShouldSortAndReplaceDuplicates() {
+        //act
+        RateTable table = RateTable.builder(1)
+                .put(TestConstants.CURRENCY_USD, BigDecimal.ONE)
+                .put(TestConstants.CURRENCY_EUR, BigDecimal.TEN)
+                .put("AED", BigDecimal.TWO)
+                .put(TestConstants.CURRENCY_USD, TestConstants.RATE)
+                .build();
+
+        //assert
+        assertEquals(Map.of("AED", BigDecimal.TWO, TestConstants.CURRENCY_EUR, BigDecimal.TEN,
+                TestConstants.CURRENCY_USD, TestConstants.RATE), table);
+        assertEquals("AED", table.keySet().iterator().next());
+        assertNull(table.get("GBP"));
+        assertFalse(table.containsKey(42));
+    }
+
+    @Test
+    void with_ShouldReturnCopy_AndLeaveTableUnchanged() {
+        //arrange
+        RateTable table = RateTable.builder(1).put(TestConstants.CURRENCY_USD, TestConstants.RATE).build();
+
+        //act
+        RateTable extended = table.with("INR", BigDecimal.ONE);
+
+        //assert
+        assertEquals(1, table.size());
+        assertEquals(2, extended.size());
+        assertEquals(BigDecimal.ONE, extended.get("INR"));
+        assertThrows(UnsupportedOperationException.class, () -> table.put("GBP", BigDecimal.ONE));
+    }
+}
@@ -0,0 +1,97 @@
+package com.i2i.user_management.integration.rate;
+
+import com.i2i.user_management.Constants.UMSConstants;
+import com.i2i.user_management.Exception.ExternalServiceException;
+import com.i2i.user_management.Integration.Client.ExchangeRateClient;
+import com.i2i.user_management.Integration.Client.Impl.CachingExchangeRateClientImpl;
+import com.i2i.user_management.Integration.Rate.CrossRateEngine;
+import com.i2i.user_management.util.TestConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.anySet;
+import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CrossRateEngineTest {
+
+    @Mock
+    private ExchangeRateClient exchangeRateClient;
+
+    private CrossRateEngine crossRateEngine;
+
+    @BeforeEach
+    void setUp() {
+        crossRateEngine = new CrossRateEngine(exchangeRateClient);
+    }
+
+    @Test
+    void getRates_ShouldDeriveEveryPair_FromOneBulkLookup() {
+        //arrange
+        when(exchangeRateClient.getRatesToInr(Set.of(TestConstants.CURRENCY_USD, TestConstants.CURRENCY_EUR)))
+                .thenReturn(Map.of(TestConstants.CURRENCY_USD, new BigDecimal("80"),
+                        TestConstants.CURRENCY_EUR, new BigDecimal("100")));
+
+        //act
+        Map<String, BigDecimal> rates = crossRateEngine.getRates(
+                Set.of(TestConstants.CURRENCY_USD, TestConstants.CURRENCY_EUR, UMSConstants.INR),
+                TestConstants.CURRENCY_EUR);
+
+        //assert
+        assertEquals(0, new BigDecimal("0.8").compareTo(rates.get(TestConstants.CURRENCY_USD)));
+        assertEquals(BigDecimal.ONE, rates.get(TestConstants.CURRENCY_EUR));
+        assertEquals(0, new BigDecimal("0.01").compareTo(rates.get(UMSConstants.INR)));
+        verify(exchangeRateClient, times(1)).getRatesToInr(Set.of(TestConstants.CURRENCY_USD, TestConstants.CURRENCY_EUR));
+    }
+
+    @Test
+    void getRates_ShouldServeAnyPair_FromTheCachedTable_WithoutFurtherProviderCalls() {
+        //arrange
+        when(exchangeRateClient.getAllRatesToInr()).thenReturn(Map.of(
+                TestConstants.CURRENCY_USD, new BigDecimal("80"),
+                TestConstants.CURRENCY_EUR, new BigDecimal("100"),
+                "GBP", new BigDecimal("110")));
+        CachingExchangeRateClientImpl cachingClient = new CachingExchangeRateClientImpl(exchangeRateClient,
+                Duration.ofMinutes(60), Duration.ofMinutes(1), Duration.ofMinutes(45), 500);
+        CrossRateEngine tableEngine = new CrossRateEngine(cachingClient);
+        cachingClient.refreshTable();
+
+        //act
+        Map<String, BigDecimal> inEur = tableEngine.getRates(Set.of(TestConstants.CURRENCY_USD, "GBP"),
+                TestConstants.CURRENCY_EUR);
+        BigDecimal usdToGbp = tableEngine.getRate(TestConstants.CURRENCY_USD, "GBP");
+
+        //assert
+        assertEquals(0, new BigDecimal("1.1").compareTo(inEur.get("GBP")));
+        assertEquals(0, new BigDecimal("80").divide(new BigDecimal("110"), MathContext.DECIMAL64)
+                .compareTo(usdToGbp));
+        verify(exchangeRateClient, times(1)).getAllRatesToInr();
+        verify(exchangeRateClient, never()).getRatesToInr(anySet());
+        verify(exchangeRateClient, never()).getRateToInr(anyString());
+    }
+
+    @Test
+    void getRate_ShouldThrow_WhenTargetRateIsUnknown() {
+        //arrange
+        when(exchangeRateClient.getRatesToInr(Set.of(TestConstants.CURRENCY_EUR))).thenReturn(Map.of());
+
+        //act & assert
+        assertThrows(ExternalServiceException.class,
+                () -> crossRateEngine.getRate(UMSConstants.INR, TestConstants.CURRENCY_EUR));
+    }
+}
@@ -0,0 +1,55 @@
+package com.i2i.user_management.integration.rate;
+
+import com.i2i.user_management.Integration.Rate.FixedPointConverter;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FixedPointConverterTest {
+
+    @Test
+    void convert_ShouldApplyExplicitRoundingMode() {
+        // 1.25 * 0.50000000 = 0.625 -> the third decimal decides the rounding
+        long amountMinor = 125;
+        long rateUnits = 50_000_000L;
+
+        assertEquals(63, FixedPointConverter.convert(amountMinor, rateUnits, RoundingMode.HALF_UP));
+        assertEquals(62, FixedPointConverter.convert(amountMinor, rateUnits, RoundingMode.HALF_EVEN));
+        assertEquals(62, FixedPointConverter.convert(amountMinor, rateUnits, RoundingMode.HALF_DOWN));
+        assertEquals(62, FixedPointConverter.convert(amountMinor, rateUnits, RoundingMode.DOWN));
+        assertEquals(-63, FixedPointConverter.convert(-amountMinor, rateUnits, RoundingMode.FLOOR));
+        assertEquals(-62, FixedPointConverter.convert(-amountMinor, rateUnits, RoundingMode.CEILING));
+        assertThrows(ArithmeticException.class,
+                () -> FixedPointConverter.convert(amountMinor, rateUnits, RoundingMode.UNNECESSARY));
+    }
+
+    @Test
+    void convert_ShouldMatchBigDecimalPath_ForRatesWithStoredPrecision() {
+        //arrange
+        BigDecimal amount = new BigDecimal("1234.57");
+        BigDecimal rate = new BigDecimal("83.12345678");
+
+        //act
+        BigDecimal converted = FixedPointConverter.convert(amount, rate);
+
+        //assert
+        assertEquals(amount.multiply(rate).setScale(2, RoundingMode.HALF_UP), converted);
+    }
+
+    @Test
+    void convert_ShouldFallBackToBigDecimal_WhenProductOverflowsLong() {
+        //arrange
+        BigDecimal amount = new BigDecimal("9999999999999999.99");
+        BigDecimal rate = new BigDecimal("300");
+
+        //act
+        BigDecimal converted = FixedPointConverter.convert(amount, rate);
+
+        //assert
+        assertEquals(new BigDecimal("2999999999999999997.00"), converted);
+    }
+}
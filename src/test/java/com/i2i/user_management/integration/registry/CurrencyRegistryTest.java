@@ -0,0 +1,77 @@
+package com.i2i.user_management.integration.registry;
+
+import com.i2i.user_management.Exception.ExternalServiceException;
+import com.i2i.user_management.Integration.Client.ExchangeRateClient;
+import com.i2i.user_management.Integration.Registry.CurrencyRegistry;
+import com.i2i.user_management.util.TestConstants;
+import com.i2i.user_management.util.TestData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CurrencyRegistryTest {
+
+    @Mock
+    private ExchangeRateClient exchangeRateClient;
+
+    @InjectMocks
+    private CurrencyRegistry currencyRegistry;
+
+    @Test
+    void isSupported_ShouldUseIsoSeed_BeforeFirstRefresh() {
+        assertTrue(currencyRegistry.isSupported(TestConstants.CURRENCY_USD));
+        assertTrue(currencyRegistry.isSupported("JPY"));
+        assertFalse(currencyRegistry.isSupported("XYZ"));
+        assertFalse(currencyRegistry.isSupported(null));
+    }
+
+    @Test
+    void refresh_ShouldReplaceSeed_WithProviderCurrencies() {
+        //arrange
+        when(exchangeRateClient.getAllCurrencies()).thenReturn(TestData.getAllCurrenciesApiResponse());
+
+        //act
+        currencyRegistry.refresh();
+
+        //assert
+        assertEquals(4, currencyRegistry.getCurrencies().size());
+        assertTrue(currencyRegistry.isSupported(TestConstants.CURRENCY_EUR));
+        assertFalse(currencyRegistry.isSupported("JPY"));
+    }
+
+    @Test
+    void refresh_ShouldKeepCurrentCurrencies_WhenProviderFails() {
+        //arrange
+        int seeded = currencyRegistry.getCurrencies().size();
+        when(exchangeRateClient.getAllCurrencies()).thenThrow(new ExternalServiceException("Rate API down"));
+
+        //act
+        currencyRegistry.refresh();
+
+        //assert
+        assertEquals(seeded, currencyRegistry.getCurrencies().size());
+    }
+
+    @Test
+    void refresh_ShouldKeepCurrentCurrencies_WhenProviderReturnsEmpty() {
+        //arrange
+        int seeded = currencyRegistry.getCurrencies().size();
+        when(exchangeRateClient.getAllCurrencies()).thenReturn(Collections.emptyMap());
+
+        //act
+        currencyRegistry.refresh();
+
+        //assert
+        assertEquals(seeded, currencyRegistry.getCurrencies().size());
+    }
+}
@@ -0,0 +1,351 @@
+package com.i2i.user_management.repository;
+
+import com.i2i.user_management.Dto.CurrencySummaryDto;
+import com.i2i.user_management.Dto.EmployeeExpenseSummaryDto;
+import com.i2i.user_management.Dto.ExpenseDecision;
+import com.i2i.user_management.Dto.ExpenseListVersion;
+import com.i2i.user_management.Dto.ExpenseResponseDto;
+import com.i2i.user_management.Enum.ExpenseStatus;
+import com.i2i.user_management.Model.Expense;
+import com.i2i.user_management.Model.Role;
+import com.i2i.user_management.Model.User;
+import com.i2i.user_management.Repository.ExpenseRepository;
+import com.i2i.user_management.util.TestData;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the list queries against an in-memory database and counts the statements
+ * Hibernate prepares, so that loading the requester or approver per row shows up
+ * as a failing test.
+ */
+@DataJpaTest(properties = {
+        "spring.application.name=user-service",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.flyway.enabled=false",
+        "expense.export.fetch-size=2",
+        "expense.report.rollups.enabled=false",
+        "logging.level.reactor.netty.http.client=INFO"
+})
+class ExpenseRepositoryTest {
+
+    private static final int EXPENSES = 6;
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    private User approver;
+
+    @BeforeEach
+    void setUp() {
+        Role role = Role.builder().name("EMPLOYEE").build();
+        entityManager.persist(role);
+        approver = persistUser("approver", role);
+        for (int i = 0; i < EXPENSES; i++) {
+            Expense expense = TestData.getExpense(persistUser("employee" + i, role));
+            expense.setId(null);
+            if (i % 2 == 0) {
+                expense.setStatus(ExpenseStatus.APPROVED);
+                expense.setApprovedBy(approver);
+            }
+            entityManager.persist(expense);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findResponsesByFilters_ShouldUseOneQueryAndOneCount_RegardlessOfRows() {
+        //act
+        Page<ExpenseResponseDto> page = expenseRepository.findResponsesByFilters(null, null, null,
+                PageRequest.of(0, EXPENSES - 1, Sort.by("title")));
+
+        //assert
+        assertEquals(EXPENSES, page.getTotalElements());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void findResponsesByFilters_ShouldProjectRequesterAndApproverNames() {
+        //act
+        Page<ExpenseResponseDto> page = expenseRepository.findResponsesByFilters(ExpenseStatus.APPROVED,
+                null, null, PageRequest.of(0, EXPENSES));
+
+        //assert
+        assertEquals(EXPENSES / 2, page.getNumberOfElements());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        page.forEach(dto -> {
+            assertEquals(ExpenseStatus.APPROVED.name(), dto.getStatus());
+            assertEquals("approverLast", dto.getApprovedByName());
+        });
+    }
+
+    @Test
+    void findResponsesByRequestedById_ShouldUseOneQuery_WithoutLoadingUsers() {
+        //arrange
+        User requester = persistUser("requester", entityManager.find(Role.class,
+                approver.getRoles().iterator().next().getId()));
+        for (int i = 0; i < EXPENSES; i++) {
+            Expense expense = TestData.getExpense(requester);
+            expense.setId(null);
+            entityManager.persist(expense);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        //act
+        Page<ExpenseResponseDto> page = expenseRepository.findResponsesByRequestedById(requester.getId(),
+                PageRequest.of(0, EXPENSES * 2));
+
+        //assert
+        assertEquals(EXPENSES, page.getNumberOfElements());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        page.forEach(dto -> {
+            assertEquals("requesterLast", dto.getRequestedBy());
+            assertNull(dto.getApprovedByName());
+        });
+    }
+
+    @Test
+    void findResponsesByFiltersAfter_ShouldVisitEveryRowOnce_AcrossRowsWithTheSameDate() {
+        //arrange
+        Set<UUID> seen = new HashSet<>();
+        LocalDate cursorDate = null;
+        UUID cursorId = null;
+        int pages = 0;
+
+        //act
+        List<ExpenseResponseDto> rows;
+        do {
+            statistics.clear();
+            rows = expenseRepository.findResponsesByFiltersAfter(null, null, null, cursorDate, cursorId,
+                    Limit.of(4));
+            assertEquals(1, statistics.getPrepareStatementCount());
+            rows.forEach(row -> assertTrue(seen.add(row.getId())));
+            if (!rows.isEmpty()) {
+                cursorDate = rows.get(rows.size() - 1).getExpenseDate();
+                cursorId = rows.get(rows.size() - 1).getId();
+            }
+            pages++;
+        } while (rows.size() == 4);
+
+        //assert
+        assertEquals(EXPENSES, seen.size());
+        assertEquals(2, pages);
+    }
+
+    @Test
+    void findResponsesByRequestedByIdAfter_ShouldContinueFromFirstPage_WithoutRepeatingRows() {
+        //arrange
+        User requester = persistUser("requester", entityManager.find(Role.class,
+                approver.getRoles().iterator().next().getId()));
+        for (int i = 0; i < EXPENSES; i++) {
+            Expense expense = TestData.getExpense(requester);
+            expense.setId(null);
+            expense.setExpenseDate(LocalDate.of(2025, 1, 1 + i / 2));
+            entityManager.persist(expense);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        //act
+        List<ExpenseResponseDto> first = expenseRepository.findFirstResponsesByRequestedById(requester.getId(),
+                Limit.of(4));
+        ExpenseResponseDto last = first.get(first.size() - 1);
+        List<ExpenseResponseDto> rest = expenseRepository.findResponsesByRequestedByIdAfter(requester.getId(),
+                last.getExpenseDate(), last.getId(), Limit.of(4));
+
+        //assert
+        Set<UUID> seen = new HashSet<>();
+        first.forEach(row -> assertTrue(seen.add(row.getId())));
+        rest.forEach(row -> assertTrue(seen.add(row.getId())));
+        assertEquals(4, first.size());
+        assertEquals(EXPENSES, seen.size());
+        assertEquals(LocalDate.of(2025, 1, 3), first.get(0).getExpenseDate());
+    }
+
+    @Test
+    void totalByCurrency_ShouldSumApprovedExpenses_ForSuppliedFiltersOnly() {
+        //act
+        List<CurrencySummaryDto> all = expenseRepository.groupByCurrency(null, null);
+        List<CurrencySummaryDto> inRange = expenseRepository.totalByCurrency("USD", LocalDate.now().minusDays(1),
+                LocalDate.now());
+        List<CurrencySummaryDto> outOfRange = expenseRepository.totalByCurrency(null, null,
+                LocalDate.now().minusDays(1));
+
+        //assert
+        assertEquals(1, all.size());
+        assertEquals(0, new BigDecimal(200 * EXPENSES / 2).compareTo(all.get(0).getTotalOriginalAmount()));
+        assertEquals(0, BigDecimal.ZERO.compareTo(all.get(0).getUnconvertedAmount()));
+        assertEquals(1, inRange.size());
+        assertTrue(outOfRange.isEmpty());
+    }
+
+    @Test
+    void totalApprovedPerEmployee_ShouldGroupByEmployeeAndCurrency() {
+        //act
+        List<EmployeeExpenseSummaryDto> summaries = expenseRepository.totalApprovedPerEmployee(null, null);
+
+        //assert
+        assertEquals(EXPENSES / 2, summaries.size());
+        summaries.forEach(summary -> {
+            assertTrue(summary.getEmployeeName().endsWith(" Last"));
+            assertEquals(0, new BigDecimal(200).compareTo(summary.getTotalAmount()));
+        });
+    }
+
+    @Test
+    void streamResponsesByFilters_ShouldStreamAllRows_InOneStatement() {
+        //act
+        List<ExpenseResponseDto> rows;
+        try (Stream<ExpenseResponseDto> stream = expenseRepository.streamResponsesByFilters(null, null, null)) {
+            rows = stream.toList();
+        }
+
+        //assert
+        assertEquals(EXPENSES, rows.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertTrue(expenseRepository.findUnconvertedCurrencies(null, null, null).isEmpty());
+    }
+
+    @Test
+    void findListVersion_ShouldCountVisibleRows_InOneStatement_AndDropSoftDeletedRows() {
+        //arrange
+        UUID deletedId = expenseRepository.findResponsesByFilters(ExpenseStatus.PENDING, null, null,
+                PageRequest.of(0, 1)).getContent().get(0).getId();
+        statistics.clear();
+
+        //act
+        ExpenseListVersion all = expenseRepository.findListVersionByFilters(null, null, null);
+        ExpenseListVersion own = expenseRepository.findListVersionByRequesterEmail("employee1@mail.com");
+        expenseRepository.softDelete(deletedId);
+        ExpenseListVersion pending = expenseRepository.findListVersionByFilters(ExpenseStatus.PENDING, null, null);
+
+        //assert
+        assertEquals(EXPENSES, all.count());
+        assertEquals(0, all.unconvertedCount());
+        assertNotNull(all.lastUpdatedAt());
+        assertEquals(1, own.count());
+        assertEquals(EXPENSES / 2 - 1, pending.count());
+        assertEquals(4, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void decidePending_ShouldDecideOnce_AndNeverForTheRequester() {
+        //arrange
+        ExpenseResponseDto pending = expenseRepository.findResponsesByFilters(ExpenseStatus.PENDING, null, null,
+                PageRequest.of(0, 1)).getContent().get(0);
+        String requesterEmail = expenseRepository.findById(pending.getId()).orElseThrow()
+                .getRequestedBy().getEmail();
+        entityManager.clear();
+        LocalDateTime decidedAt = LocalDateTime.now();
+
+        //act
+        int byRequester = expenseRepository.decidePendingConverted(pending.getId(), ExpenseStatus.APPROVED.name(),
+                null, requesterEmail, decidedAt);
+        int first = expenseRepository.decidePendingConverted(pending.getId(), ExpenseStatus.REJECTED.name(),
+                "Duplicate", approver.getEmail(), decidedAt);
+        int second = expenseRepository.decidePendingConverted(pending.getId(), ExpenseStatus.APPROVED.name(),
+                null, approver.getEmail(), decidedAt);
+
+        //assert
+        assertEquals(0, byRequester);
+        assertEquals(1, first);
+        assertEquals(0, second);
+        entityManager.clear();
+        Expense decided = expenseRepository.findById(pending.getId()).orElseThrow();
+        assertEquals(ExpenseStatus.REJECTED, decided.getStatus());
+        assertEquals("Duplicate", decided.getRejectionReason());
+        assertEquals(approver.getId(), decided.getApprovedBy().getId());
+    }
+
+    @Test
+    void decidePendingBatch_ShouldApplyEveryDecision_InOneBatch() {
+        //arrange
+        List<ExpenseResponseDto> pending = expenseRepository.findResponsesByFilters(ExpenseStatus.PENDING,
+                null, null, PageRequest.of(0, EXPENSES)).getContent();
+        List<ExpenseDecision> decisions = List.of(
+                new ExpenseDecision(pending.get(0).getId(), ExpenseStatus.APPROVED, null),
+                new ExpenseDecision(pending.get(1).getId(), ExpenseStatus.REJECTED, "Duplicate"),
+                new ExpenseDecision(pending.get(0).getId(), ExpenseStatus.REJECTED, "Too late"),
+                new ExpenseDecision(UUID.randomUUID(), ExpenseStatus.APPROVED, null));
+
+        //act
+        int[] updated = expenseRepository.decidePendingBatch(decisions, approver.getId(), LocalDateTime.now());
+
+        //assert
+        assertArrayEquals(new int[]{1, 1, 0, 0}, updated);
+        entityManager.clear();
+        assertEquals(ExpenseStatus.APPROVED, expenseRepository.findById(pending.get(0).getId())
+                .orElseThrow().getStatus());
+        assertEquals("Duplicate", expenseRepository.findById(pending.get(1).getId())
+                .orElseThrow().getRejectionReason());
+    }
+
+    @Test
+    void saveAllAndFlush_ShouldInsertNewExpenses_InOneBatchedStatement() {
+        //arrange
+        List<Expense> expenses = new ArrayList<>();
+        for (int i = 0; i < EXPENSES; i++) {
+            Expense expense = TestData.getExpense(approver);
+            expense.setId(null);
+            expenses.add(expense);
+        }
+
+        //act
+        expenseRepository.saveAllAndFlush(expenses);
+
+        //assert
+        assertEquals(EXPENSES, statistics.getEntityInsertCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private User persistUser(String firstName, Role role) {
+        User user = TestData.getUser();
+        user.setId(null);
+        user.setEmail(firstName + "@mail.com");
+        user.setFirstName(firstName);
+        user.setLastName("Last");
+        user.setRoles(Set.of(role));
+        entityManager.persist(user);
+        return user;
+    }
+}
@@ -0,0 +1,188 @@
+package com.i2i.user_management.repository;
+
+import com.i2i.user_management.Dto.CurrencySummaryDto;
+import com.i2i.user_management.Dto.EmployeeExpenseSummaryDto;
+import com.i2i.user_management.Enum.ExpenseStatus;
+import com.i2i.user_management.Model.Expense;
+import com.i2i.user_management.Model.Role;
+import com.i2i.user_management.Model.User;
+import com.i2i.user_management.Repository.ExpenseRepository;
+import com.i2i.user_management.Repository.Impl.ExpenseQueryRepositoryImpl;
+import com.i2i.user_management.util.TestData;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks the report totals read from the monthly rollups, merged with the partial
+ * months at the edges of the range, against the plain GROUP BY over the expenses.
+ * The rollup tables are created from the V8 definitions and filled with
+ * {@code rebuildRollups}; the approval upserts use PostgreSQL's ON CONFLICT and are
+ * covered by {@link ExpenseRollupUpsertTest}. H2 reserves {@code month}, so the test
+ * connection unreserves it.
+ */
+@DataJpaTest(properties = {
+        "spring.application.name=user-service",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.flyway.enabled=false",
+        "expense.export.fetch-size=2",
+        "expense.report.rollups.enabled=true",
+        "logging.level.reactor.netty.http.client=INFO"
+})
+class ExpenseRollupReportTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 1, 15);
+
+    private static final LocalDate TO = LocalDate.of(2025, 4, 10);
+
+    private static final String ROLLUP_COLUMNS = "month DATE NOT NULL, total_amount DECIMAL(21,2) NOT NULL, "
+            + "total_amount_in_inr DECIMAL(21,2) NOT NULL, unconverted_amount DECIMAL(21,2) NOT NULL, "
+            + "expense_count BIGINT NOT NULL, ";
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private ExpenseQueryRepositoryImpl plainQueries;
+
+    private User alice;
+
+    @BeforeEach
+    void setUp() {
+        entityManager.createNativeQuery("SET NON_KEYWORDS MONTH").executeUpdate();
+        entityManager.createNativeQuery("CREATE TABLE IF NOT EXISTS expense_employee_month_rollups ("
+                + "requested_by UUID NOT NULL, currency VARCHAR(8) NOT NULL, " + ROLLUP_COLUMNS
+                + "PRIMARY KEY (requested_by, currency, month))").executeUpdate();
+        entityManager.createNativeQuery("CREATE TABLE IF NOT EXISTS expense_currency_month_rollups ("
+                + "currency VARCHAR(8) NOT NULL, " + ROLLUP_COLUMNS
+                + "PRIMARY KEY (currency, month))").executeUpdate();
+        plainQueries = new ExpenseQueryRepositoryImpl(2, false);
+        ReflectionTestUtils.setField(plainQueries, "entityManager", entityManager);
+
+        Role role = Role.builder().name("EMPLOYEE").build();
+        entityManager.persist(role);
+        alice = persistUser("alice", role);
+        User bob = persistUser("bob", role);
+        // before the range
+        persistExpense(alice, "USD", "100", "8000", LocalDate.of(2025, 1, 10), ExpenseStatus.APPROVED, false);
+        // partial first month
+        persistExpense(alice, "USD", "200", "16000", LocalDate.of(2025, 1, 20), ExpenseStatus.APPROVED, false);
+        persistExpense(bob, "EUR", "20", null, LocalDate.of(2025, 1, 31), ExpenseStatus.APPROVED, false);
+        // whole months
+        persistExpense(alice, "USD", "300", null, LocalDate.of(2025, 2, 1), ExpenseStatus.APPROVED, false);
+        persistExpense(bob, "EUR", "400", "36000", LocalDate.of(2025, 2, 28), ExpenseStatus.APPROVED, false);
+        persistExpense(bob, "USD", "90", "7200", LocalDate.of(2025, 2, 10), ExpenseStatus.PENDING, false);
+        persistExpense(bob, "USD", "95", "7600", LocalDate.of(2025, 3, 5), ExpenseStatus.APPROVED, true);
+        persistExpense(bob, "EUR", "50", "4500", LocalDate.of(2025, 3, 15), ExpenseStatus.APPROVED, false);
+        persistExpense(alice, "EUR", "60", null, LocalDate.of(2025, 3, 31), ExpenseStatus.APPROVED, false);
+        // partial last month
+        persistExpense(alice, "USD", "70", "5600", LocalDate.of(2025, 4, 1), ExpenseStatus.APPROVED, false);
+        persistExpense(bob, "USD", "75", "6000", LocalDate.of(2025, 4, 10), ExpenseStatus.APPROVED, false);
+        // after the range
+        persistExpense(bob, "USD", "80", "6400", LocalDate.of(2025, 4, 11), ExpenseStatus.APPROVED, false);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void reports_ShouldMatchPlainGroupBy_ForRangeWithPartialMonthsAtBothEnds() {
+        //arrange
+        int employeeRollupRows = expenseRepository.rebuildRollups();
+
+        //act
+        List<EmployeeExpenseSummaryDto> perEmployee = expenseRepository.totalApprovedPerEmployee(FROM, TO);
+        List<CurrencySummaryDto> byCurrency = expenseRepository.groupByCurrency(FROM, TO);
+        List<CurrencySummaryDto> usd = expenseRepository.totalByCurrency("USD", FROM, TO);
+
+        //assert
+        assertEquals(8, employeeRollupRows);
+        assertEquals(employeeTotals(plainQueries.totalApprovedPerEmployee(FROM, TO)), employeeTotals(perEmployee));
+        assertEquals(currencyTotals(plainQueries.groupByCurrency(FROM, TO)), currencyTotals(byCurrency));
+        assertEquals(currencyTotals(plainQueries.totalByCurrency("USD", FROM, TO)), currencyTotals(usd));
+        assertEquals(List.of(amount("570"), amount("21600"), amount("300")),
+                employeeTotals(perEmployee).get("alice|USD"));
+        assertEquals(List.of(amount("470"), amount("40500"), amount("20")),
+                employeeTotals(perEmployee).get("bob|EUR"));
+        assertEquals(List.of(amount("645"), amount("27600"), amount("300")), currencyTotals(usd).get("USD"));
+
+        // H2 commits on TRUNCATE, so the whole-month check shares this test's data
+        entityManager.createQuery("UPDATE Expense e SET e.amount = 999 WHERE e.expenseDate = :date")
+                .setParameter("date", LocalDate.of(2025, 2, 1))
+                .executeUpdate();
+        assertEquals(amount("570"),
+                employeeTotals(expenseRepository.totalApprovedPerEmployee(FROM, TO)).get("alice|USD").get(0));
+        assertEquals(amount("1269"),
+                employeeTotals(plainQueries.totalApprovedPerEmployee(FROM, TO)).get("alice|USD").get(0));
+    }
+
+    private static Map<String, List<BigDecimal>> employeeTotals(List<EmployeeExpenseSummaryDto> summaries) {
+        Map<String, List<BigDecimal>> totals = new TreeMap<>();
+        summaries.forEach(summary -> totals.put(summary.getEmployeeName().split(" ")[0] + "|" + summary.getCurrency(),
+                List.of(amount(summary.getTotalAmount()), amount(summary.getTotalApprovedInInr()),
+                        amount(summary.getUnconvertedAmount()))));
+        return totals;
+    }
+
+    private static Map<String, List<BigDecimal>> currencyTotals(List<CurrencySummaryDto> summaries) {
+        Map<String, List<BigDecimal>> totals = new TreeMap<>();
+        summaries.forEach(summary -> totals.put(summary.getCurrency(),
+                List.of(amount(summary.getTotalOriginalAmount()), amount(summary.getTotalAmountInInr()),
+                        amount(summary.getUnconvertedAmount()))));
+        return totals;
+    }
+
+    /**
+     * Normalizes a total for comparison; a sum over only unconverted rows is null in
+     * the plain query and zero in the rollups, which the reports treat alike.
+     */
+    private static BigDecimal amount(BigDecimal value) {
+        return (value != null ? value : BigDecimal.ZERO).setScale(2, RoundingMode.UNNECESSARY);
+    }
+
+    private static BigDecimal amount(String value) {
+        return amount(new BigDecimal(value));
+    }
+
+    private void persistExpense(User requester, String currency, String amount, String amountInInr,
+                                LocalDate expenseDate, ExpenseStatus status, boolean deleted) {
+        Expense expense = TestData.getExpense(requester);
+        expense.setId(null);
+        expense.setCurrency(currency);
+        expense.setAmount(new BigDecimal(amount));
+        expense.setAmountInInr(amountInInr != null ? new BigDecimal(amountInInr) : null);
+        expense.setExpenseDate(expenseDate);
+        expense.setStatus(status);
+        expense.setIsDeleted(deleted);
+        if (status == ExpenseStatus.APPROVED) {
+            expense.setApprovedBy(alice);
+        }
+        entityManager.persist(expense);
+    }
+
+    private User persistUser(String firstName, Role role) {
+        User user = TestData.getUser();
+        user.setId(null);
+        user.setEmail(firstName + "@mail.com");
+        user.setFirstName(firstName);
+        user.setLastName("Last");
+        user.setRoles(Set.of(role));
+        entityManager.persist(user);
+        return user;
+    }
+}
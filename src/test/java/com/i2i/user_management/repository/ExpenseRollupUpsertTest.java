@@ -0,0 +1,163 @@
+package com.i2i.user_management.repository;
+
+import com.i2i.user_management.Dto.CurrencySummaryDto;
+import com.i2i.user_management.Dto.EmployeeExpenseSummaryDto;
+import com.i2i.user_management.Enum.ExpenseStatus;
+import com.i2i.user_management.Model.Expense;
+import com.i2i.user_management.Model.Role;
+import com.i2i.user_management.Model.User;
+import com.i2i.user_management.Repository.ExpenseRepository;
+import com.i2i.user_management.Repository.Impl.ExpenseQueryRepositoryImpl;
+import com.i2i.user_management.util.TestData;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the approval upserts against PostgreSQL, whose ON CONFLICT they rely on, with
+ * the schema built by the Flyway migrations. Skipped where Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(properties = {
+        "spring.application.name=user-service",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.show-sql=false",
+        "spring.flyway.enabled=true",
+        "spring.flyway.locations=classpath:db/migration",
+        "spring.flyway.baseline-on-migrate=false",
+        "spring.flyway.validate-on-migrate=true",
+        "expense.export.fetch-size=2",
+        "expense.report.rollups.enabled=true",
+        "logging.level.reactor.netty.http.client=INFO"
+})
+class ExpenseRollupUpsertTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final LocalDate FROM = LocalDate.of(2025, 3, 1);
+
+    private static final LocalDate TO = LocalDate.of(2025, 3, 31);
+
+    @Autowired
+    private ExpenseRepository expenseRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private ExpenseQueryRepositoryImpl plainQueries;
+
+    private User alice;
+
+    @BeforeEach
+    void setUp() {
+        plainQueries = new ExpenseQueryRepositoryImpl(2, false);
+        ReflectionTestUtils.setField(plainQueries, "entityManager", entityManager);
+
+        Role role = entityManager.createQuery("SELECT r FROM Role r WHERE r.name = 'EMPLOYEE'", Role.class)
+                .getSingleResult();
+        alice = persistUser("alice", role);
+    }
+
+    @Test
+    void addApprovedToRollups_ShouldAddToExistingMonth_WhenMonthAlreadyHasApprovals() {
+        //arrange
+        UUID first = persistExpense("USD", "100", "8000", LocalDate.of(2025, 3, 3));
+        UUID second = persistExpense("USD", "50", null, LocalDate.of(2025, 3, 20));
+        entityManager.flush();
+        expenseRepository.addApprovedToRollups(List.of(first, second));
+        UUID third = persistExpense("USD", "200", "16000", LocalDate.of(2025, 3, 31));
+        UUID fourth = persistExpense("EUR", "40", "3600", LocalDate.of(2025, 3, 10));
+        entityManager.flush();
+
+        //act
+        expenseRepository.addApprovedToRollups(List.of(third, fourth));
+
+        //assert
+        List<EmployeeExpenseSummaryDto> perEmployee = expenseRepository.totalApprovedPerEmployee(FROM, TO);
+        List<CurrencySummaryDto> byCurrency = expenseRepository.groupByCurrency(FROM, TO);
+        assertEquals(employeeTotals(plainQueries.totalApprovedPerEmployee(FROM, TO)), employeeTotals(perEmployee));
+        assertEquals(currencyTotals(plainQueries.groupByCurrency(FROM, TO)), currencyTotals(byCurrency));
+        assertEquals(List.of(amount("350.00"), amount("24000.00"), amount("50.00"), 3L),
+                rollupRow("SELECT total_amount, total_amount_in_inr, unconverted_amount, expense_count "
+                        + "FROM expense_employee_month_rollups WHERE currency = 'USD' AND month = DATE '2025-03-01'"));
+        assertEquals(List.of(amount("350.00"), amount("24000.00"), amount("50.00"), 3L),
+                rollupRow("SELECT total_amount, total_amount_in_inr, unconverted_amount, expense_count "
+                        + "FROM expense_currency_month_rollups WHERE currency = 'USD' AND month = DATE '2025-03-01'"));
+    }
+
+    private List<Object> rollupRow(String sql) {
+        Object[] row = (Object[]) entityManager.createNativeQuery(sql).getSingleResult();
+        return List.of(amount((BigDecimal) row[0]), amount((BigDecimal) row[1]), amount((BigDecimal) row[2]),
+                ((Number) row[3]).longValue());
+    }
+
+    private static List<List<Object>> employeeTotals(List<EmployeeExpenseSummaryDto> summaries) {
+        return summaries.stream()
+                .map(summary -> List.<Object>of(summary.getEmployeeName(), summary.getCurrency(),
+                        amount(summary.getTotalAmount()), amount(summary.getTotalApprovedInInr()),
+                        amount(summary.getUnconvertedAmount())))
+                .sorted((left, right) -> left.toString().compareTo(right.toString()))
+                .toList();
+    }
+
+    private static List<List<Object>> currencyTotals(List<CurrencySummaryDto> summaries) {
+        return summaries.stream()
+                .map(summary -> List.<Object>of(summary.getCurrency(), amount(summary.getTotalOriginalAmount()),
+                        amount(summary.getTotalAmountInInr()), amount(summary.getUnconvertedAmount())))
+                .sorted((left, right) -> left.toString().compareTo(right.toString()))
+                .toList();
+    }
+
+    private static BigDecimal amount(BigDecimal value) {
+        return (value != null ? value : BigDecimal.ZERO).setScale(2, RoundingMode.UNNECESSARY);
+    }
+
+    private static BigDecimal amount(String value) {
+        return amount(new BigDecimal(value));
+    }
+
+    private UUID persistExpense(String currency, String amount, String amountInInr, LocalDate expenseDate) {
+        Expense expense = TestData.getExpense(alice);
+        expense.setId(null);
+        expense.setCurrency(currency);
+        expense.setAmount(new BigDecimal(amount));
+        expense.setAmountInInr(amountInInr != null ? new BigDecimal(amountInInr) : null);
+        expense.setExpenseDate(expenseDate);
+        expense.setStatus(ExpenseStatus.APPROVED);
+        expense.setIsDeleted(false);
+        expense.setApprovedBy(alice);
+        entityManager.persist(expense);
+        return expense.getId();
+    }
+
+    private User persistUser(String firstName, Role role) {
+        User user = TestData.getUser();
+        user.setId(null);
+        user.setEmail(firstName + "@mail.com");
+        user.setFirstName(firstName);
+        user.setLastName("Last");
+        user.setRoles(Set.of(role));
+        entityManager.persist(user);
+        return user;
+    }
+}
@@ -1,10 +1,19 @@
 package com.i2i.user_management.service.impl;
 
+import com.i2i.user_management.Constants.UMSConstants;
 import com.i2i.user_management.Dto.CurrencySummaryDto;
+import com.i2i.user_management.Dto.CursorPageDto;
 import com.i2i.user_management.Dto.EmployeeExpenseSummaryDto;
+import com.i2i.user_management.Dto.ExpenseActionDto;
+import com.i2i.user_management.Dto.ExpenseActionResultDto;
 import com.i2i.user_management.Dto.ExpenseApprovalDto;
+import com.i2i.user_management.Dto.ExpenseExportSnapshot;
+import com.i2i.user_management.Dto.ExpenseListVersion;
 import com.i2i.user_management.Dto.ExpenseRequestDto;
 import com.i2i.user_management.Dto.ExpenseResponseDto;
+import com.i2i.user_management.Dto.ExpenseSearchHit;
+import com.i2i.user_management.Dto.ExpenseSubmissionResultDto;
+import com.i2i.user_management.Enum.ExpenseActionOutcome;
 import com.i2i.user_management.Enum.ExpenseStatus;
 import com.i2i.user_management.Exception.AuthenticationFailedException;
 import com.i2i.user_management.Exception.BadRequestException;
@@ -13,20 +22,30 @@ import com.i2i.user_management.Exception.DatabaseException;
 import com.i2i.user_management.Exception.ExternalServiceException;
 import com.i2i.user_management.Exception.NotFoundException;
 import com.i2i.user_management.Integration.Client.ExchangeRateClient;
+import com.i2i.user_management.Integration.Rate.CrossRateEngine;
+import com.i2i.user_management.Integration.Registry.CurrencyRegistry;
+import com.i2i.user_management.Mapper.ExpenseMapper;
 import com.i2i.user_management.Model.Expense;
 import com.i2i.user_management.Model.User;
 import com.i2i.user_management.Repository.ExpenseRepository;
 import com.i2i.user_management.Repository.UserRepository;
+import com.i2i.user_management.Service.Impl.ExpenseDetailCache;
 import com.i2i.user_management.Service.Impl.ExpenseServiceImpl;
+import com.i2i.user_management.util.ExpenseCursor;
+import com.i2i.user_management.util.ExpenseSearchCursor;
 import com.i2i.user_management.util.TestConstants;
 import com.i2i.user_management.util.TestData;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -34,18 +53,28 @@ import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.Collections;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.isNull;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -62,6 +91,15 @@ class ExpenseServiceImplTest {
     @Mock
     private ExchangeRateClient exchangeRateClient;
 
+    @Mock
+    private CurrencyRegistry currencyRegistry;
+
+    @Mock
+    private CrossRateEngine crossRateEngine;
+
+    @Spy
+    private ExpenseDetailCache expenseDetailCache = new ExpenseDetailCache(100, 5, 60, new SimpleMeterRegistry());
+
     @InjectMocks
     private ExpenseServiceImpl expenseService;
 
@@ -81,7 +119,7 @@ class ExpenseServiceImplTest {
         ExpenseRequestDto requestDto = TestData.getExpenseRequestDto();
         when(userRepository.findByEmail(TestConstants.EMAIL)).thenReturn(Optional.of(user));
         when(expenseRepository.save(expense)).thenReturn(expense);
-        when(exchangeRateClient.getAllCurrencies()).thenReturn(TestData.getAllCurrenciesApiResponse());
+        when(currencyRegistry.isSupported(TestConstants.CURRENCY_USD)).thenReturn(true);
         when(exchangeRateClient.getRateToInr(TestConstants.CURRENCY_USD)).thenReturn(TestConstants.RATE);
 
         //act
@@ -90,10 +128,95 @@ class ExpenseServiceImplTest {
         //assert
         assertNotNull(response);
         assertEquals(ExpenseStatus.PENDING, expense.getStatus());
-        verify(expenseRepository, times(1)).save(any(Expense.class));
+        ArgumentCaptor<Expense> saved = ArgumentCaptor.forClass(Expense.class);
+        verify(expenseRepository, times(1)).save(saved.capture());
+        assertEquals(new BigDecimal("20000.00"), saved.getValue().getAmountInInr());
+        assertEquals(TestConstants.RATE, saved.getValue().getFxRate());
         verify(exchangeRateClient, times(1)).getRateToInr(requestDto.getCurrency());
     }
 
+    @Test
+    void submitExpense_ShouldKeepExpenseUnconverted_WhenRateIsStale() {
+        //arrange
+        ExpenseRequestDto requestDto = TestData.getExpenseRequestDto();
+        when(userRepository.findByEmail(TestConstants.EMAIL)).thenReturn(Optional.of(user));
+        when(expenseRepository.save(any(Expense.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(currencyRegistry.isSupported(TestConstants.CURRENCY_USD)).thenReturn(true);
+        when(exchangeRateClient.getRateToInr(TestConstants.CURRENCY_USD)).thenReturn(TestConstants.RATE);
+        when(exchangeRateClient.isStale(TestConstants.CURRENCY_USD)).thenReturn(true);
+
+        //act
+        expenseService.submitExpense(requestDto, user.getEmail());
+
+        //assert
+        ArgumentCaptor<Expense> saved = ArgumentCaptor.forClass(Expense.class);
+        verify(expenseRepository, times(1)).save(saved.capture());
+        assertNull(saved.getValue().getAmountInInr());
+        assertNull(saved.getValue().getFxRate());
+        assertNull(saved.getValue().getFxRateAt());
+    }
+
+    @Test
+    void submitExpenses_ShouldInsertValidItems_WithOneRateLookup() {
+        //arrange
+        ExpenseRequestDto valid = TestData.getExpenseRequestDto();
+        ExpenseRequestDto negative = TestData.getExpenseRequestDto();
+        negative.setAmount(BigDecimal.valueOf(-5));
+        ExpenseRequestDto unknownRate = TestData.getExpenseRequestDto();
+        unknownRate.setCurrency(TestConstants.CURRENCY_EUR);
+        when(userRepository.findByEmail(TestConstants.EMAIL)).thenReturn(Optional.of(user));
+        when(currencyRegistry.isSupported(anyString())).thenReturn(true);
+        when(exchangeRateClient.getRatesToInr(Set.of(TestConstants.CURRENCY_USD, TestConstants.CURRENCY_EUR)))
+                .thenReturn(Map.of(TestConstants.CURRENCY_USD, TestConstants.RATE));
+
+        //act
+        List<ExpenseSubmissionResultDto> results = expenseService.submitExpenses(
+                List.of(valid, negative, unknownRate, valid), user.getEmail());
+
+        //assert
+        assertEquals(4, results.size());
+        assertNotNull(results.get(0).expense());
+        assertEquals(new BigDecimal("20000.00"), results.get(0).expense().getAmountInInr());
+        assertEquals("Expense amount must be greater than zero", results.get(1).error());
+        assertNull(results.get(2).expense());
+        assertNotNull(results.get(2).error());
+        assertNotNull(results.get(3).expense());
+        ArgumentCaptor<List<Expense>> saved = ArgumentCaptor.forClass(List.class);
+        verify(expenseRepository).saveAllAndFlush(saved.capture());
+        assertEquals(2, saved.getValue().size());
+        verify(exchangeRateClient, never()).getRateToInr(anyString());
+    }
+
+    @Test
+    void submitExpenses_ShouldReportMissingFields_PerItem() {
+        //arrange
+        ExpenseRequestDto valid = TestData.getExpenseRequestDto();
+        ExpenseRequestDto noTitle = TestData.getExpenseRequestDto();
+        noTitle.setTitle(null);
+        ExpenseRequestDto noReceipt = TestData.getExpenseRequestDto();
+        noReceipt.setReceiptUrl(null);
+        ExpenseRequestDto future = TestData.getExpenseRequestDto();
+        future.setExpenseDate(LocalDate.now().plusDays(1));
+        when(userRepository.findByEmail(TestConstants.EMAIL)).thenReturn(Optional.of(user));
+        when(currencyRegistry.isSupported(TestConstants.CURRENCY_USD)).thenReturn(true);
+        when(exchangeRateClient.getRatesToInr(Set.of(TestConstants.CURRENCY_USD)))
+                .thenReturn(Map.of(TestConstants.CURRENCY_USD, TestConstants.RATE));
+
+        //act
+        List<ExpenseSubmissionResultDto> results = expenseService.submitExpenses(
+                Arrays.asList(valid, noTitle, noReceipt, future, null), user.getEmail());
+
+        //assert
+        assertNotNull(results.get(0).expense());
+        assertEquals("Expense title is required", results.get(1).error());
+        assertEquals("Receipt URL is required", results.get(2).error());
+        assertEquals("Expense date cannot be in the future", results.get(3).error());
+        assertEquals("Expense is required", results.get(4).error());
+        ArgumentCaptor<List<Expense>> saved = ArgumentCaptor.forClass(List.class);
+        verify(expenseRepository).saveAllAndFlush(saved.capture());
+        assertEquals(1, saved.getValue().size());
+    }
+
     @Test
     void submitExpense_ShouldThrow_NotFound_WhenUserNotFound() {
         //arrange
@@ -106,15 +229,17 @@ class ExpenseServiceImplTest {
     }
 
     @Test
-    void submitExpense_ShouldThrow_ExternalServiceException_WhenGetAllCurrenciesFails() {
+    void submitExpense_ShouldThrow_BadRequest_WhenCurrencyNotRegistered() {
         //arrange
         ExpenseRequestDto request = TestData.getExpenseRequestDto();
         when(userRepository.findByEmail(TestConstants.EMAIL)).thenReturn(Optional.of(user));
-        when(exchangeRateClient.getAllCurrencies()).thenThrow(new ExternalServiceException("Rate API down"));
+        when(currencyRegistry.isSupported(TestConstants.CURRENCY_USD)).thenReturn(false);
+        when(currencyRegistry.getCurrencies()).thenReturn(TestData.getAllCurrenciesApiResponse());
 
         //act & assert
-        assertThrows(ExternalServiceException.class,
+        assertThrows(BadRequestException.class,
                 () -> expenseService.submitExpense(request, user.getEmail()));
+        verify(exchangeRateClient, never()).getAllCurrencies();
     }
 
     @Test
@@ -122,46 +247,286 @@ class ExpenseServiceImplTest {
         //arrange
         ExpenseRequestDto request = TestData.getExpenseRequestDto();
         when(userRepository.findByEmail(TestConstants.EMAIL)).thenReturn(Optional.of(user));
-        when(exchangeRateClient.getAllCurrencies()).thenReturn(TestData.getAllCurrenciesApiResponse());
-        when(expenseRepository.save(any())).thenReturn(expense);
+        when(currencyRegistry.isSupported(TestConstants.CURRENCY_USD)).thenReturn(true);
         when(exchangeRateClient.getRateToInr(anyString())).thenThrow(new RuntimeException("Rate API down"));
 
         //act & assert
         assertThrows(ExternalServiceException.class,
                 () -> expenseService.submitExpense(request, user.getEmail()));
+        verify(expenseRepository, never()).save(any());
     }
 
     @Test
     void getExpensesForCurrentUser_Success() {
         //arrange
         Pageable pageable = PageRequest.of(0, 5);
-        Page<Expense> page = new PageImpl<>(List.of(expense));
+        Page<ExpenseResponseDto> page = new PageImpl<>(List.of(expense)).map(ExpenseMapper::toDto);
         when(userRepository.findByEmail(TestConstants.EMAIL)).thenReturn(Optional.of(user));
-        when(expenseRepository.findAllByRequestedByIdAndIsDeletedFalse(eq(user.getId()), eq(pageable)))
+        when(expenseRepository.findResponsesByRequestedById(eq(user.getId()), eq(pageable)))
                 .thenReturn(page);
-        when(exchangeRateClient.getRateToInr(TestConstants.CURRENCY_USD)).thenReturn(TestConstants.RATE);
 
         //act
-        Page<ExpenseResponseDto> result = expenseService.getExpensesForCurrentUser(user.getEmail(), pageable);
+        Page<ExpenseResponseDto> result = expenseService.getExpensesForCurrentUser(user.getEmail(), null, pageable);
 
         //assert
         assertEquals(1, result.getTotalElements());
-        verify(exchangeRateClient, times(1)).getRateToInr(expense.getCurrency());
+        assertEquals(expense.getAmountInInr(), result.getContent().get(0).getAmountInInr());
+        verify(exchangeRateClient, never()).getRatesToInr(any());
+    }
+
+    @Test
+    void getExpensesForCurrentUser_ShouldConvert_ExpensesWithoutStoredInrAmount() {
+        //arrange
+        Pageable pageable = PageRequest.of(0, 5);
+        expense.setAmountInInr(null);
+        Page<ExpenseResponseDto> page = new PageImpl<>(List.of(expense)).map(ExpenseMapper::toDto);
+        when(userRepository.findByEmail(TestConstants.EMAIL)).thenReturn(Optional.of(user));
+        when(expenseRepository.findResponsesByRequestedById(eq(user.getId()), eq(pageable)))
+                .thenReturn(page);
+        when(exchangeRateClient.getRatesToInr(Set.of(TestConstants.CURRENCY_USD)))
+                .thenReturn(Map.of(TestConstants.CURRENCY_USD, TestConstants.RATE));
+
+        //act
+        Page<ExpenseResponseDto> result = expenseService.getExpensesForCurrentUser(user.getEmail(), null, pageable);
+
+        //assert
+        assertEquals(new BigDecimal("40000.00"), result.getContent().get(0).getAmountInInr());
+        verify(exchangeRateClient, times(1)).getRatesToInr(Set.of(expense.getCurrency()));
+    }
+
+    @Test
+    void getExpensesForCurrentUser_ShouldConvertToTargetCurrency_WithOneCrossRate() {
+        //arrange
+        Pageable pageable = PageRequest.of(0, 5);
+        Page<ExpenseResponseDto> page = new PageImpl<>(List.of(expense, TestData.getExpense(user)))
+                .map(ExpenseMapper::toDto);
+        when(currencyRegistry.isSupported(TestConstants.CURRENCY_EUR)).thenReturn(true);
+        when(userRepository.findByEmail(TestConstants.EMAIL)).thenReturn(Optional.of(user));
+        when(expenseRepository.findResponsesByRequestedById(eq(user.getId()), eq(pageable)))
+                .thenReturn(page);
+        when(crossRateEngine.getRate(UMSConstants.INR, TestConstants.CURRENCY_EUR))
+                .thenReturn(new BigDecimal("0.01"));
+
+        //act
+        Page<ExpenseResponseDto> result = expenseService.getExpensesForCurrentUser(user.getEmail(), "eur", pageable);
+
+        //assert
+        ExpenseResponseDto dto = result.getContent().get(0);
+        assertEquals(TestConstants.CURRENCY_EUR, dto.getTargetCurrency());
+        assertEquals(new BigDecimal("400.00"), dto.getAmountInTarget());
+        verify(crossRateEngine, times(1)).getRate(UMSConstants.INR, TestConstants.CURRENCY_EUR);
+        verify(exchangeRateClient, never()).getRatesToInr(any());
+    }
+
+    @Test
+    void getExpensesForCurrentUser_ShouldThrow_WhenTargetCurrencyIsInvalid() {
+        //arrange
+        Pageable pageable = PageRequest.of(0, 5);
+        when(currencyRegistry.isSupported("XYZ")).thenReturn(false);
+        when(currencyRegistry.getCurrencies()).thenReturn(Map.of(TestConstants.CURRENCY_USD, "US Dollar"));
+
+        //act & assert
+        assertThrows(BadRequestException.class,
+                () -> expenseService.getExpensesForCurrentUser(user.getEmail(), "xyz", pageable));
+        verify(expenseRepository, never()).findResponsesByRequestedById(any(), any());
     }
 
     @Test
     void getExpensesForCurrentUser_ShouldThrow_WhenExchangeRateFails() {
         //arrange
         Pageable pageable = PageRequest.of(0, 5);
-        Page<Expense> page = new PageImpl<>(List.of(expense));
+        expense.setAmountInInr(null);
+        Page<ExpenseResponseDto> page = new PageImpl<>(List.of(expense)).map(ExpenseMapper::toDto);
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
+        when(expenseRepository.findResponsesByRequestedById(eq(user.getId()), eq(pageable)))
+                .thenReturn(page);
+        when(exchangeRateClient.getRatesToInr(any())).thenThrow(new RuntimeException("API down"));
+
+        //act & assert
+        assertThrows(ExternalServiceException.class,
+                () -> expenseService.getExpensesForCurrentUser(user.getEmail(), null, pageable));
+    }
+
+    @Test
+    void getExpensesForCurrentUser_ShouldThrow_WhenRateIsMissingFromBulkLookup() {
+        //arrange
+        Pageable pageable = PageRequest.of(0, 5);
+        expense.setAmountInInr(null);
+        Page<ExpenseResponseDto> page = new PageImpl<>(List.of(expense)).map(ExpenseMapper::toDto);
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
-        when(expenseRepository.findAllByRequestedByIdAndIsDeletedFalse(eq(user.getId()), eq(pageable)))
+        when(expenseRepository.findResponsesByRequestedById(eq(user.getId()), eq(pageable)))
                 .thenReturn(page);
-        when(exchangeRateClient.getRateToInr(anyString())).thenThrow(new RuntimeException("API down"));
+        when(exchangeRateClient.getRatesToInr(Set.of(TestConstants.CURRENCY_USD))).thenReturn(Map.of());
 
         //act & assert
         assertThrows(ExternalServiceException.class,
-                () -> expenseService.getExpensesForCurrentUser(user.getEmail(), pageable));
+                () -> expenseService.getExpensesForCurrentUser(user.getEmail(), null, pageable));
+    }
+
+    @Test
+    void getExpensesETagForCurrentUser_ShouldChange_OnlyWhenListedRowsChange() {
+        //arrange
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 10, 0);
+        Pageable pageable = PageRequest.of(0, 10);
+        when(expenseRepository.findListVersionByRequesterEmail(user.getEmail()))
+                .thenReturn(new ExpenseListVersion(updatedAt, 3L, 0L))
+                .thenReturn(new ExpenseListVersion(updatedAt, 3L, 0L))
+                .thenReturn(new ExpenseListVersion(updatedAt, 2L, 0L));
+
+        //act
+        String first = expenseService.getExpensesETagForCurrentUser(user.getEmail(), null, pageable);
+        String same = expenseService.getExpensesETagForCurrentUser(user.getEmail(), null, pageable);
+        String afterDelete = expenseService.getExpensesETagForCurrentUser(user.getEmail(), null, pageable);
+
+        //assert
+        assertEquals(first, same);
+        assertNotEquals(first, afterDelete);
+        verify(exchangeRateClient, never()).getRatesVersion();
+        verify(expenseRepository, never()).findResponsesByRequestedById(any(), any());
+    }
+
+    @Test
+    void getExpensesETagForAdmin_ShouldChange_WhenRatesChange_ForConvertedPages() {
+        //arrange
+        ExpenseListVersion version = new ExpenseListVersion(LocalDateTime.of(2025, 1, 1, 10, 0), 3L, 1L);
+        Pageable pageable = PageRequest.of(0, 10);
+        when(expenseRepository.findListVersionByFilters(ExpenseStatus.PENDING, null, null)).thenReturn(version);
+        when(exchangeRateClient.getRatesVersion()).thenReturn(1L, 1L, 2L);
+
+        //act
+        String first = expenseService.getExpensesETagForAdmin("pending", null, null, null, pageable);
+        String same = expenseService.getExpensesETagForAdmin("PENDING", null, null, null, pageable);
+        String afterRefresh = expenseService.getExpensesETagForAdmin("pending", null, null, null, pageable);
+
+        //assert
+        assertEquals(first, same);
+        assertNotEquals(first, afterRefresh);
+    }
+
+    @Test
+    void getExpensesForCurrentUserByCursor_ShouldReturnNextCursor_WhenMoreRowsExist() {
+        //arrange
+        ExpenseCursor after = new ExpenseCursor(LocalDate.now(), UUID.randomUUID());
+        ExpenseResponseDto first = ExpenseMapper.toDto(expense);
+        ExpenseResponseDto extra = ExpenseMapper.toDto(TestData.getExpense(user));
+        when(userRepository.findByEmail(TestConstants.EMAIL)).thenReturn(Optional.of(user));
+        when(expenseRepository.findResponsesByRequestedByIdAfter(user.getId(), after.expenseDate(), after.id(),
+                Limit.of(2))).thenReturn(List.of(first, extra));
+
+        //act
+        CursorPageDto<ExpenseResponseDto> result = expenseService.getExpensesForCurrentUserByCursor(
+                user.getEmail(), null, after.encode(), 1);
+
+        //assert
+        assertEquals(List.of(first), result.getContent());
+        assertEquals(new ExpenseCursor(first.getExpenseDate(), first.getId()),
+                ExpenseCursor.decode(result.getNextCursor()));
+    }
+
+    @Test
+    void getExpensesForCurrentUserByCursor_ShouldReadFirstPage_WithoutCursorCondition() {
+        //arrange
+        when(userRepository.findByEmail(TestConstants.EMAIL)).thenReturn(Optional.of(user));
+        when(expenseRepository.findFirstResponsesByRequestedById(user.getId(), Limit.of(21)))
+                .thenReturn(List.of(ExpenseMapper.toDto(expense)));
+
+        //act
+        CursorPageDto<ExpenseResponseDto> result = expenseService.getExpensesForCurrentUserByCursor(
+                user.getEmail(), null, null, 20);
+
+        //assert
+        assertEquals(1, result.getSize());
+        assertNull(result.getNextCursor());
+        verify(expenseRepository, never()).findResponsesByRequestedByIdAfter(any(), any(), any(), any());
+    }
+
+    @Test
+    void getExpensesForAdminByCursor_ShouldReturnNoNextCursor_OnLastPage() {
+        //arrange
+        when(expenseRepository.findResponsesByFiltersAfter(ExpenseStatus.PENDING, null, null, null, null,
+                Limit.of(21))).thenReturn(List.of(ExpenseMapper.toDto(expense)));
+
+        //act
+        CursorPageDto<ExpenseResponseDto> result = expenseService.getExpensesForAdminByCursor(
+                "pending", null, null, null, null, 20);
+
+        //assert
+        assertEquals(1, result.getSize());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void getExpensesForCurrentUserByCursor_ShouldThrow_WhenCursorIsMalformed() {
+        //act & assert
+        assertThrows(BadRequestException.class,
+                () -> expenseService.getExpensesForCurrentUserByCursor(user.getEmail(), null, "not-a-cursor", 20));
+        assertThrows(BadRequestException.class,
+                () -> expenseService.getExpensesForCurrentUserByCursor(user.getEmail(), null, null, 0));
+        verify(userRepository, never()).findByEmail(any());
+    }
+
+    @Test
+    void searchExpenses_ShouldReturnRankCursor_WhenMoreHitsExist() {
+        //arrange
+        ExpenseSearchHit best = new ExpenseSearchHit(ExpenseMapper.toDto(expense), 0.9f);
+        ExpenseSearchHit next = new ExpenseSearchHit(ExpenseMapper.toDto(TestData.getExpense(user)), 0.4f);
+        when(expenseRepository.searchResponses("client flight", ExpenseStatus.APPROVED, null, null, null, null,
+                Limit.of(2))).thenReturn(List.of(best, next));
+
+        //act
+        CursorPageDto<ExpenseResponseDto> result = expenseService.searchExpenses(" client flight ", "approved",
+                null, null, null, null, 1);
+
+        //assert
+        assertEquals(List.of(best.expense()), result.getContent());
+        assertEquals(new ExpenseSearchCursor(0.9f, best.expense().getId()),
+                ExpenseSearchCursor.decode(result.getNextCursor()));
+    }
+
+    @Test
+    void searchExpenses_ShouldThrow_WhenQueryIsBlank() {
+        //act & assert
+        assertThrows(BadRequestException.class,
+                () -> expenseService.searchExpenses("  ", null, null, null, null, null, 20));
+        verify(expenseRepository, never()).searchResponses(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void prepareExport_ShouldFetchRatesOnce_ForUnconvertedCurrencies() {
+        //arrange
+        when(expenseRepository.findUnconvertedCurrencies(ExpenseStatus.APPROVED, null, null))
+                .thenReturn(Set.of(TestConstants.CURRENCY_USD));
+        when(exchangeRateClient.getRatesToInr(Set.of(TestConstants.CURRENCY_USD)))
+                .thenReturn(Map.of(TestConstants.CURRENCY_USD, TestConstants.RATE));
+
+        //act
+        ExpenseExportSnapshot snapshot = expenseService.prepareExport("approved", null, null, null);
+
+        //assert
+        assertEquals(ExpenseStatus.APPROVED, snapshot.status());
+        assertEquals(TestConstants.RATE, snapshot.ratesToInr().get(TestConstants.CURRENCY_USD));
+        verify(exchangeRateClient, times(1)).getRatesToInr(any());
+    }
+
+    @Test
+    void exportExpenses_ShouldConvertRows_WithSnapshotRates() {
+        //arrange
+        ExpenseResponseDto stored = ExpenseMapper.toDto(expense);
+        expense.setAmountInInr(null);
+        ExpenseResponseDto unconverted = ExpenseMapper.toDto(expense);
+        ExpenseExportSnapshot snapshot = new ExpenseExportSnapshot(null, null, null, null,
+                Map.of(TestConstants.CURRENCY_USD, TestConstants.RATE), Set.of(), null);
+        when(expenseRepository.streamResponsesByFilters(null, null, null))
+                .thenReturn(Stream.of(stored, unconverted));
+        List<ExpenseResponseDto> written = new ArrayList<>();
+
+        //act
+        expenseService.exportExpenses(snapshot, written::add);
+
+        //assert
+        assertEquals(2, written.size());
+        assertEquals(new BigDecimal("40000.00"), written.get(1).getAmountInInr());
+        verify(exchangeRateClient, never()).getRatesToInr(any());
     }
 
     @Test
@@ -169,7 +534,7 @@ class ExpenseServiceImplTest {
         //arrange
         ExpenseRequestDto updateDto = TestData.getExpenseRequestDto();
         when(expenseRepository.findById(any())).thenReturn(Optional.of(expense));
-        when(exchangeRateClient.getAllCurrencies()).thenReturn(TestData.getAllCurrenciesApiResponse());
+        when(currencyRegistry.isSupported(TestConstants.CURRENCY_USD)).thenReturn(true);
         when(expenseRepository.save(expense)).thenReturn(expense);
         when(exchangeRateClient.getRateToInr(TestConstants.CURRENCY_USD)).thenReturn(TestConstants.RATE);
 
@@ -182,6 +547,25 @@ class ExpenseServiceImplTest {
         verify(expenseRepository, times(1)).save(any(Expense.class));
     }
 
+    @Test
+    void updateExpense_ShouldClearInrAmount_WhenRateIsStale() {
+        //arrange
+        ExpenseRequestDto updateDto = TestData.getExpenseRequestDto();
+        when(expenseRepository.findById(any())).thenReturn(Optional.of(expense));
+        when(currencyRegistry.isSupported(TestConstants.CURRENCY_USD)).thenReturn(true);
+        when(expenseRepository.save(expense)).thenReturn(expense);
+        when(exchangeRateClient.getRateToInr(TestConstants.CURRENCY_USD)).thenReturn(TestConstants.RATE);
+        when(exchangeRateClient.isStale(TestConstants.CURRENCY_USD)).thenReturn(true);
+
+        //act
+        expenseService.updateExpense(expense.getId(), updateDto, user.getEmail());
+
+        //assert
+        assertNull(expense.getAmountInInr());
+        assertNull(expense.getFxRate());
+        assertNull(expense.getFxRateAt());
+    }
+
     @Test
     void updateExpense_ShouldThrow_WhenNotOwner() {
         //arrange
@@ -229,6 +613,41 @@ class ExpenseServiceImplTest {
         verify(expenseRepository, times(1)).softDelete(expense.getId());
     }
 
+    @Test
+    void getExpenseById_ShouldServeRepeatedLookupsFromCache_WithoutSharingTargetAmounts() {
+        //arrange
+        when(expenseRepository.findResponseById(expense.getId())).thenReturn(Optional.of(ExpenseMapper.toDto(expense)));
+        when(currencyRegistry.isSupported(TestConstants.CURRENCY_EUR)).thenReturn(true);
+        when(crossRateEngine.getRate(UMSConstants.INR, TestConstants.CURRENCY_EUR))
+                .thenReturn(new BigDecimal("0.01"));
+
+        //act
+        ExpenseResponseDto inTarget = expenseService.getExpenseById(expense.getId(), user.getEmail(), "eur");
+        ExpenseResponseDto cached = expenseService.getExpenseById(expense.getId(), user.getEmail(), null);
+
+        //assert
+        assertEquals(new BigDecimal("400.00"), inTarget.getAmountInTarget());
+        assertNull(cached.getTargetCurrency());
+        assertNull(cached.getAmountInTarget());
+        verify(expenseRepository, times(1)).findResponseById(expense.getId());
+    }
+
+    @Test
+    void deleteExpense_ShouldEvictCachedDetails() {
+        //arrange
+        when(expenseRepository.findResponseById(expense.getId())).thenReturn(Optional.of(ExpenseMapper.toDto(expense)));
+        when(expenseRepository.findById(expense.getId())).thenReturn(Optional.of(expense));
+        expenseService.getExpenseById(expense.getId(), user.getEmail(), null);
+
+        //act
+        expenseService.deleteExpense(expense.getId());
+        expenseService.getExpenseById(expense.getId(), user.getEmail(), null);
+
+        //assert
+        verify(expenseDetailCache, times(1)).evict(expense.getId());
+        verify(expenseRepository, times(2)).findResponseById(expense.getId());
+    }
+
     @Test
     void deleteExpense_ShouldThrow_WhenAlreadyDeleted() {
         //arrange
@@ -261,67 +680,69 @@ class ExpenseServiceImplTest {
     @Test
     void getAllCurrencies_Success() {
         //arrange
-        when(exchangeRateClient.getAllCurrencies()).thenReturn(TestData.getAllCurrenciesApiResponse());
+        when(currencyRegistry.getCurrencies()).thenReturn(TestData.getAllCurrenciesApiResponse());
 
         //act
         Map<String, String> result = expenseService.getAllCurrencies();
 
         //assert
         assertEquals(4, result.size());
+        verify(exchangeRateClient, never()).getAllCurrencies();
     }
 
     @Test
-    void getAllCurrencies_ShouldThrow_WhenEmpty() {
+    void approveExpense_Success() {
         //arrange
-        when(exchangeRateClient.getAllCurrencies()).thenReturn(Collections.emptyMap());
-
-        //act & assert
-        assertThrows(ExternalServiceException.class, () -> expenseService.getAllCurrencies());
-    }
+        ExpenseApprovalDto dto = TestData.createApprovalDto(String.valueOf(ExpenseStatus.APPROVED));
+        when(expenseRepository.decidePendingConverted(eq(expense.getId()), eq("APPROVED"), isNull(),
+                eq("finance@mail.com"), any())).thenReturn(1);
 
-    @Test
-    void getAllCurrencies_ShouldThrow_WhenNull() {
-        //arrange
-        when(exchangeRateClient.getAllCurrencies()).thenReturn(null);
+        //act
+        expenseService.approveOrRejectExpense(expense.getId(), "finance@mail.com", dto);
 
-        //act & assert
-        assertThrows(ExternalServiceException.class, () -> expenseService.getAllCurrencies());
+        //assert
+        verify(expenseRepository, never()).findById(any());
+        verify(userRepository, never()).findByEmail(anyString());
+        verify(expenseRepository, never()).save(any());
+        verify(expenseRepository).addApprovedToRollups(List.of(expense.getId()));
     }
 
     @Test
-    void approveExpense_Success() {
+    void approveExpense_ShouldStoreInrAmount_WhenExpenseHasNone() {
         //arrange
         ExpenseApprovalDto dto = TestData.createApprovalDto(String.valueOf(ExpenseStatus.APPROVED));
-        when(expenseRepository.findById(any())).thenReturn(Optional.ofNullable(expense));
-        User userToApprove = User.builder()
-                .id(UUID.randomUUID())
-                .email("finance@mail.com")
-                .firstName("paari")
-                .lastName("seerangan")
-                .password("password123")
-                .isActive(true)
-                .isDeleted(false)
-                .build();
-        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(userToApprove));
+        expense.setAmountInInr(null);
+        expense.setFxRate(null);
+        when(expenseRepository.decidePendingConverted(eq(expense.getId()), eq("APPROVED"), isNull(),
+                eq("finance@mail.com"), any())).thenReturn(0);
+        when(expenseRepository.findById(expense.getId())).thenReturn(Optional.of(expense));
+        User approver = TestData.getUser();
+        approver.setEmail("finance@mail.com");
+        when(userRepository.findByEmail("finance@mail.com")).thenReturn(Optional.of(approver));
+        when(exchangeRateClient.getRateToInr(TestConstants.CURRENCY_USD)).thenReturn(TestConstants.RATE);
+        when(expenseRepository.decidePending(eq(expense.getId()), eq("APPROVED"), isNull(),
+                eq("finance@mail.com"), any())).thenReturn(1);
 
         //act
         expenseService.approveOrRejectExpense(expense.getId(), "finance@mail.com", dto);
 
         //assert
-        verify(expenseRepository, times(1)).save(any());
-        assertEquals(ExpenseStatus.APPROVED, expense.getStatus());
+        verify(expenseRepository).storeInrAmount(eq(expense.getId()), eq(new BigDecimal("40000.00")),
+                eq(TestConstants.RATE), any());
     }
 
     @Test
     void approveExpense_WhenApproverAndRequesterAreSame() {
         //arrange
         ExpenseApprovalDto dto = TestData.createApprovalDto(String.valueOf(ExpenseStatus.APPROVED));
+        when(expenseRepository.decidePendingConverted(any(), any(), any(), any(), any())).thenReturn(0);
         when(expenseRepository.findById(any())).thenReturn(Optional.of(expense));
         when(userRepository.findByEmail("finance@mail.com")).thenReturn(Optional.of(user));
 
         //act & assert
         assertThrows(ConflictException.class,
                 () -> expenseService.approveOrRejectExpense(expense.getId(), "finance@mail.com", dto));
+        verify(expenseRepository, never()).decidePending(any(), any(), any(), any(), any());
     }
 
     @Test
@@ -329,6 +750,7 @@ class ExpenseServiceImplTest {
         //arrange
         ExpenseApprovalDto dto = TestData.createApprovalDto(String.valueOf(ExpenseStatus.APPROVED));
         expense.setStatus(ExpenseStatus.APPROVED);
+        when(expenseRepository.decidePendingConverted(any(), any(), any(), any(), any())).thenReturn(0);
         when(expenseRepository.findById(any())).thenReturn(Optional.of(expense));
 
         //act & assert
@@ -340,6 +762,7 @@ class ExpenseServiceImplTest {
     void approveExpense_WhenUSerIsNull() {
         //arrange
         ExpenseApprovalDto dto = TestData.createApprovalDto(String.valueOf(ExpenseStatus.APPROVED));
+        when(expenseRepository.decidePendingConverted(any(), any(), any(), any(), any())).thenReturn(0);
         when(expenseRepository.findById(any())).thenReturn(Optional.of(expense));
         when(userRepository.findByEmail("finance@mail.com")).thenReturn(Optional.empty());
 
@@ -348,28 +771,68 @@ class ExpenseServiceImplTest {
                 () -> expenseService.approveOrRejectExpense(expense.getId(), "finance@mail.com", dto));
     }
 
+    @Test
+    void approveExpense_ShouldThrow_WhenStatusIsInvalid() {
+        //arrange
+        ExpenseApprovalDto dto = TestData.createApprovalDto("PENDING");
+
+        //act & assert
+        assertThrows(ConflictException.class,
+                () -> expenseService.approveOrRejectExpense(expense.getId(), "finance@mail.com", dto));
+        verify(expenseRepository, never()).decidePendingConverted(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void applyExpenseActions_ShouldReportOutcomePerAction_InRequestOrder() {
+        //arrange
+        User approver = TestData.getUser();
+        approver.setEmail("finance@mail.com");
+        Expense own = TestData.getExpense(approver);
+        UUID missingId = UUID.randomUUID();
+        when(userRepository.findByEmail("finance@mail.com")).thenReturn(Optional.of(approver));
+        when(expenseRepository.decidePendingBatch(any(), eq(approver.getId()), any()))
+                .thenReturn(new int[]{1, 0, 0});
+        when(expenseRepository.findAllById(Set.of(own.getId(), missingId))).thenReturn(List.of(own));
+        when(expenseRepository.findByIdInAndAmountInInrIsNull(Set.of(expense.getId()))).thenReturn(List.of());
+
+        //act
+        List<ExpenseActionResultDto> results = expenseService.applyExpenseActions(List.of(
+                action(expense.getId(), "approved"),
+                action(own.getId(), "rejected"),
+                action(missingId, "approved")), "finance@mail.com");
+
+        //assert
+        assertEquals(List.of(ExpenseActionOutcome.APPLIED, ExpenseActionOutcome.CONFLICT,
+                ExpenseActionOutcome.NOT_FOUND), results.stream().map(ExpenseActionResultDto::outcome).toList());
+        assertEquals(own.getId(), results.get(1).id());
+        verify(expenseDetailCache).evict(expense.getId());
+        verify(expenseDetailCache, never()).evict(own.getId());
+        verify(expenseRepository).addApprovedToRollups(List.of(expense.getId()));
+    }
+
+    @Test
+    void applyExpenseActions_ShouldThrow_WhenAnyStatusIsInvalid() {
+        //act & assert
+        assertThrows(ConflictException.class, () -> expenseService.applyExpenseActions(List.of(
+                action(expense.getId(), "approved"),
+                action(UUID.randomUUID(), "pending")), "finance@mail.com"));
+        verify(expenseRepository, never()).decidePendingBatch(any(), any(), any());
+    }
+
     @Test
     void rejectExpense_Success() {
         //arrange
         ExpenseApprovalDto dto = TestData.createApprovalDto(String.valueOf(ExpenseStatus.REJECTED));
-        when(expenseRepository.findById(any())).thenReturn(Optional.ofNullable(expense));
-        User userToApprove = User.builder()
-                .id(UUID.randomUUID())
-                .email("finance@mail.com")
-                .firstName("paari")
-                .lastName("seerangan")
-                .password("password123")
-                .isActive(true)
-                .isDeleted(false)
-                .build();
-        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(userToApprove));
+        when(expenseRepository.decidePendingConverted(eq(expense.getId()), eq("REJECTED"), eq("Invalid receipt"),
+                eq("finance@mail.com"), any())).thenReturn(1);
 
         //act
         expenseService.approveOrRejectExpense(expense.getId(), "finance@mail.com", dto);
 
         //assert
-        verify(expenseRepository, times(1)).save(any());
-        assertEquals(ExpenseStatus.REJECTED, expense.getStatus());
+        verify(expenseRepository, never()).findById(any());
+        verify(expenseRepository, never()).addApprovedToRollups(any());
+        verify(expenseDetailCache).evict(expense.getId());
     }
 
     @Test
@@ -377,12 +840,15 @@ class ExpenseServiceImplTest {
         //arrange
         LocalDate from = LocalDate.of(2025, 1, 1);
         LocalDate to = LocalDate.of(2025, 12, 31);
-        when(expenseRepository.totalApprovedPerEmployee(from, to)).thenReturn(TestData.getEmployeeExpenseSummaries());
-        when(exchangeRateClient.getRateToInr(TestConstants.CURRENCY_USD)).thenReturn(TestConstants.RATE);
-        when(exchangeRateClient.getRateToInr(TestConstants.CURRENCY_EUR)).thenReturn(TestConstants.RATE);
+        List<EmployeeExpenseSummaryDto> summaries = TestData.getEmployeeExpenseSummaries();
+        summaries.get(1).setTotalApprovedInInr(BigDecimal.valueOf(20000));
+        summaries.get(1).setUnconvertedAmount(BigDecimal.valueOf(100));
+        when(expenseRepository.totalApprovedPerEmployee(from, to)).thenReturn(summaries);
+        when(exchangeRateClient.getRatesToInr(Set.of(TestConstants.CURRENCY_EUR)))
+                .thenReturn(Map.of(TestConstants.CURRENCY_EUR, TestConstants.RATE));
 
         //act
-        List<EmployeeExpenseSummaryDto> result = expenseService.reportTotalApprovedPerEmployee(from, to);
+        List<EmployeeExpenseSummaryDto> result = expenseService.reportTotalApprovedPerEmployee(from, to, null);
 
         //assert
         assertNotNull(result);
@@ -392,30 +858,61 @@ class ExpenseServiceImplTest {
         assertEquals(BigDecimal.valueOf(20000), test1.getTotalApprovedInInr());
 
         EmployeeExpenseSummaryDto test2 = result.get(1);
-        assertEquals(BigDecimal.valueOf(40000), test2.getTotalApprovedInInr());
+        assertEquals(new BigDecimal("40000.00"), test2.getTotalApprovedInInr());
 
         verify(expenseRepository, times(1)).totalApprovedPerEmployee(from, to);
-        verify(exchangeRateClient, times(1)).getRateToInr(TestConstants.CURRENCY_USD);
-        verify(exchangeRateClient, times(1)).getRateToInr(TestConstants.CURRENCY_EUR);
+        verify(exchangeRateClient, times(1)).getRatesToInr(Set.of(TestConstants.CURRENCY_EUR));
     }
 
 
     @Test
-    void reportTotalApprovedPerEmployee_ShouldThrow_WhenExchangeRateFails() {
+    void reportTotalApprovedPerEmployee_ShouldMarkRowsPartial_WhenExchangeRateFails() {
         //arrange
         LocalDate from = LocalDate.of(2025, 1, 1);
         LocalDate to = LocalDate.of(2025, 12, 31);
 
-        when(expenseRepository.totalApprovedPerEmployee(from, to)).thenReturn(TestData.getEmployeeExpenseSummaries());
-        when(exchangeRateClient.getRateToInr(TestConstants.CURRENCY_USD))
+        List<EmployeeExpenseSummaryDto> summaries = TestData.getEmployeeExpenseSummaries();
+        summaries.get(0).setUnconvertedAmount(BigDecimal.valueOf(100));
+        when(expenseRepository.totalApprovedPerEmployee(from, to)).thenReturn(summaries);
+        when(exchangeRateClient.getRatesToInr(any()))
                 .thenThrow(new RuntimeException("Rate API down"));
 
-        //act & assert
-        assertThrows(ExternalServiceException.class,
-                () -> expenseService.reportTotalApprovedPerEmployee(from, to));
+        //act
+        List<EmployeeExpenseSummaryDto> result = expenseService.reportTotalApprovedPerEmployee(from, to, null);
 
-        verify(expenseRepository, times(1)).totalApprovedPerEmployee(from, to);
-        verify(exchangeRateClient, times(1)).getRateToInr(TestConstants.CURRENCY_USD);
+        //assert
+        assertTrue(result.get(0).isPartial());
+        assertEquals(BigDecimal.valueOf(20000), result.get(0).getTotalApprovedInInr());
+        assertFalse(result.get(1).isPartial());
+        verify(exchangeRateClient, times(1)).getRatesToInr(any());
+    }
+
+    @Test
+    void reportTotalApprovedPerEmployee_ShouldConvertLargeReports_FromOneRateSnapshot() {
+        //arrange
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 12, 31);
+        List<EmployeeExpenseSummaryDto> summaries = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            String currency = i % 2 == 0 ? TestConstants.CURRENCY_USD : TestConstants.CURRENCY_EUR;
+            summaries.add(new EmployeeExpenseSummaryDto("EMP" + i, "Employee " + i, currency,
+                    BigDecimal.valueOf(100), null, BigDecimal.valueOf(100)));
+        }
+        when(expenseRepository.totalApprovedPerEmployee(from, to)).thenReturn(summaries);
+        when(exchangeRateClient.getRatesToInr(Set.of(TestConstants.CURRENCY_USD, TestConstants.CURRENCY_EUR)))
+                .thenReturn(Map.of(TestConstants.CURRENCY_USD, TestConstants.RATE));
+
+        //act
+        List<EmployeeExpenseSummaryDto> result = expenseService.reportTotalApprovedPerEmployee(from, to, null);
+
+        //assert
+        assertEquals(2000, result.size());
+        assertEquals("EMP1999", result.get(1999).getEmployeeId());
+        assertEquals(new BigDecimal("20000.00"), result.get(0).getTotalApprovedInInr());
+        assertTrue(result.get(1).isPartial());
+        assertEquals(1000, result.stream().filter(EmployeeExpenseSummaryDto::isPartial).count());
+        verify(exchangeRateClient, times(1)).getRatesToInr(any());
+        verify(exchangeRateClient, never()).getRateToInr(any());
     }
 
     @Test
@@ -429,7 +926,7 @@ class ExpenseServiceImplTest {
 
         //act & assert
         assertThrows(DatabaseException.class,
-                () -> expenseService.reportTotalApprovedPerEmployee(from, to));
+                () -> expenseService.reportTotalApprovedPerEmployee(from, to, null));
     }
 
     @Test
@@ -440,13 +937,11 @@ class ExpenseServiceImplTest {
         LocalDate to = LocalDate.of(2025, 12, 31);
         List<CurrencySummaryDto> summaries = TestData.getCurrencySummaries();
 
-        when(exchangeRateClient.getAllCurrencies()).thenReturn(TestData.getAllCurrenciesApiResponse());
+        when(currencyRegistry.isSupported(TestConstants.CURRENCY_USD)).thenReturn(true);
         when(expenseRepository.totalByCurrency(currency, from, to)).thenReturn(summaries);
-        when(exchangeRateClient.getRateToInr(TestConstants.CURRENCY_USD)).thenReturn(BigDecimal.valueOf(80));
-        when(exchangeRateClient.getRateToInr(TestConstants.CURRENCY_EUR)).thenReturn(BigDecimal.valueOf(90));
 
         //act
-        List<CurrencySummaryDto> result = expenseService.reportTotalByCurrency(currency, from, to);
+        List<CurrencySummaryDto> result = expenseService.reportTotalByCurrency(currency, from, to, null);
 
         //assert
         assertNotNull(result);
@@ -456,6 +951,7 @@ class ExpenseServiceImplTest {
 
         verify(expenseRepository, times(1))
                 .totalByCurrency(currency.toUpperCase(), from, to);
+        verify(exchangeRateClient, never()).getRatesToInr(any());
     }
 
     @Test
@@ -465,13 +961,14 @@ class ExpenseServiceImplTest {
         LocalDate from = LocalDate.of(2025, 1, 1);
         LocalDate to = LocalDate.of(2025, 12, 31);
 
-        when(exchangeRateClient.getAllCurrencies()).thenReturn(TestData.getAllCurrenciesApiResponse());
+        when(currencyRegistry.isSupported(invalidCurrency)).thenReturn(false);
+        when(currencyRegistry.getCurrencies()).thenReturn(TestData.getAllCurrenciesApiResponse());
 
         //act & assert
         assertThrows(BadRequestException.class,
-                () -> expenseService.reportTotalByCurrency(invalidCurrency, from, to));
+                () -> expenseService.reportTotalByCurrency(invalidCurrency, from, to, null));
 
-        verify(exchangeRateClient, times(1)).getAllCurrencies();
+        verify(currencyRegistry, times(1)).isSupported(invalidCurrency);
     }
 
     @Test
@@ -481,32 +978,43 @@ class ExpenseServiceImplTest {
         LocalDate from = LocalDate.of(2025, 1, 1);
         LocalDate to = LocalDate.of(2025, 12, 31);
 
-        when(exchangeRateClient.getAllCurrencies()).thenReturn(TestData.getAllCurrenciesApiResponse());
+        when(currencyRegistry.isSupported(TestConstants.CURRENCY_USD)).thenReturn(true);
         when(expenseRepository.totalByCurrency(currency, from, to))
                 .thenThrow(new RuntimeException("Failed to fetch data"));
 
         //act & assert
         assertThrows(DatabaseException.class,
-                () -> expenseService.reportTotalByCurrency(currency, from, to));
+                () -> expenseService.reportTotalByCurrency(currency, from, to, null));
     }
 
     @Test
-    void reportTotalByCurrency_ShouldThrow_WhenGetRateToInrFails() {
+    void reportTotalByCurrency_ShouldMarkRowsPartial_WhenGetRateToInrFails() {
         //arrange
         String currency = TestConstants.CURRENCY_USD;
         LocalDate from = LocalDate.of(2025, 1, 1);
         LocalDate to = LocalDate.of(2025, 12, 31);
         List<CurrencySummaryDto> summaries = TestData.getCurrencySummaries();
+        summaries.get(0).setUnconvertedAmount(BigDecimal.valueOf(100));
 
-        when(exchangeRateClient.getAllCurrencies()).thenReturn(TestData.getAllCurrenciesApiResponse());
+        when(currencyRegistry.isSupported(TestConstants.CURRENCY_USD)).thenReturn(true);
         when(expenseRepository.totalByCurrency(currency, from, to)).thenReturn(summaries);
-        when(exchangeRateClient.getRateToInr(TestConstants.CURRENCY_USD))
+        when(exchangeRateClient.getRatesToInr(any()))
                 .thenThrow(new RuntimeException("Failed to get rate"));
 
-        //act & assert
-        assertThrows(ExternalServiceException.class,
-                () -> expenseService.reportTotalByCurrency(currency, from, to));
+        //act
+        List<CurrencySummaryDto> result = expenseService.reportTotalByCurrency(currency, from, to, null);
+
+        //assert
+        assertTrue(result.get(0).isPartial());
+        assertEquals(BigDecimal.valueOf(16000), result.get(0).getTotalAmountInInr());
+        assertFalse(result.get(1).isPartial());
         verify(expenseRepository, times(1)).totalByCurrency(currency, from, to);
     }
 
+    private static ExpenseActionDto action(UUID id, String status) {
+        ExpenseActionDto action = new ExpenseActionDto();
+        action.setId(id);
+        action.setStatus(status);
+        return action;
+    }
 }
@@ -0,0 +1,164 @@
+package com.i2i.user_management.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.i2i.user_management.Dto.ReportJobDto;
+import com.i2i.user_management.Dto.ReportJobRequestDto;
+import com.i2i.user_management.Enum.ReportJobStatus;
+import com.i2i.user_management.Enum.ReportType;
+import com.i2i.user_management.Exception.BadRequestException;
+import com.i2i.user_management.Exception.ConflictException;
+import com.i2i.user_management.Model.ReportJob;
+import com.i2i.user_management.Repository.ReportJobRepository;
+import com.i2i.user_management.Service.ExpenseService;
+import com.i2i.user_management.Service.Impl.ReportJobServiceImpl;
+import com.i2i.user_management.util.TestConstants;
+import com.i2i.user_management.util.TestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReportJobServiceImplTest {
+
+    private static final String ADMIN_EMAIL = "finance@mail.com";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Mock
+    private ReportJobRepository reportJobRepository;
+
+    @Mock
+    private ExpenseService expenseService;
+
+    private ReportJobServiceImpl reportJobService;
+
+    @BeforeEach
+    void setUp() {
+        reportJobService = new ReportJobServiceImpl(reportJobRepository, expenseService, objectMapper, 1, 2, 60);
+    }
+
+    @Test
+    void submitReportJob_ShouldStoreGzippedRows_WhenReportCompletes() throws IOException {
+        //arrange
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 12, 31);
+        when(expenseService.reportTotalByCurrency(TestConstants.CURRENCY_USD, from, to, null))
+                .thenReturn(TestData.getCurrencySummaries());
+
+        //act
+        ReportJobDto job = reportJobService.submitReportJob(request(ReportType.BY_CURRENCY, from, to, "usd"),
+                ADMIN_EMAIL);
+
+        //assert
+        assertEquals(ReportJobStatus.QUEUED, job.status());
+        ArgumentCaptor<byte[]> result = ArgumentCaptor.forClass(byte[].class);
+        verify(reportJobRepository, timeout(2000)).markCompleted(eq(job.id()), result.capture(), eq(2), any(),
+                any());
+        verify(reportJobRepository).markRunning(eq(job.id()), any());
+        JsonNode rows = objectMapper.readTree(new GZIPInputStream(new ByteArrayInputStream(result.getValue())));
+        assertEquals(2, rows.size());
+        assertEquals(TestConstants.CURRENCY_USD, rows.get(0).get("currency").asText());
+    }
+
+    @Test
+    void submitReportJob_ShouldJoinInFlightJob_ForSameSpec() throws InterruptedException {
+        //arrange
+        CountDownLatch release = new CountDownLatch(1);
+        when(expenseService.reportTotalApprovedPerEmployee(null, null, "EUR")).thenAnswer(invocation -> {
+            release.await();
+            return TestData.getEmployeeExpenseSummaries();
+        });
+        ReportJobDto first = reportJobService.submitReportJob(
+                request(ReportType.APPROVED_PER_EMPLOYEE, null, null, null), ADMIN_EMAIL);
+        when(reportJobRepository.findStatusById(eq(first.id()), any())).thenReturn(Optional.of(first));
+
+        //act
+        ReportJobDto second = reportJobService.submitReportJob(
+                request(ReportType.APPROVED_PER_EMPLOYEE, null, null, "usd"), "other@mail.com");
+        release.countDown();
+
+        //assert
+        assertEquals(first.id(), second.id());
+        verify(reportJobRepository, times(1)).save(any(ReportJob.class));
+        verify(reportJobRepository, timeout(2000)).markCompleted(eq(first.id()), any(), eq(2), any(), any());
+        verify(expenseService, times(1)).reportTotalApprovedPerEmployee(null, null, "EUR");
+    }
+
+    @Test
+    void submitReportJob_ShouldMarkJobFailed_WhenReportIsRejected() {
+        //arrange
+        when(expenseService.reportTotalByCurrency(null, null, null, null))
+                .thenThrow(new BadRequestException("Invalid currency code: XYZ"));
+
+        //act
+        ReportJobDto job = reportJobService.submitReportJob(request(ReportType.BY_CURRENCY, null, null, null),
+                ADMIN_EMAIL);
+
+        //assert
+        verify(reportJobRepository, timeout(2000)).markFailed(eq(job.id()), eq("Invalid currency code: XYZ"),
+                any(), any());
+        verify(reportJobRepository, never()).markCompleted(any(), any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void submitReportJob_ShouldThrow_WhenDateRangeIsReversed() {
+        //act & assert
+        assertThrows(BadRequestException.class, () -> reportJobService.submitReportJob(
+                request(ReportType.BY_CURRENCY, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 1), null),
+                ADMIN_EMAIL));
+        verifyNoInteractions(reportJobRepository, expenseService);
+    }
+
+    @Test
+    void getReportJobResult_ShouldThrow_WhenJobHasNotCompleted() {
+        //arrange
+        UUID id = UUID.randomUUID();
+        when(reportJobRepository.findById(id)).thenReturn(Optional.of(ReportJob.builder()
+                .id(id)
+                .status(ReportJobStatus.RUNNING)
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .build()));
+
+        //act & assert
+        assertThrows(ConflictException.class, () -> reportJobService.getReportJobResult(id));
+    }
+
+    private static ReportJobRequestDto request(ReportType type, LocalDate from, LocalDate to, String currency) {
+        ReportJobRequestDto request = new ReportJobRequestDto();
+        request.setType(type);
+        request.setFrom(from);
+        request.setTo(to);
+        if (type == ReportType.BY_CURRENCY) {
+            request.setCurrency(currency);
+        } else {
+            request.setTargetCurrency("eur");
+        }
+        return request;
+    }
+}
@@ -0,0 +1,63 @@
+package com.i2i.user_management.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.i2i.user_management.Dto.ExpenseResponseDto;
+import com.i2i.user_management.Enum.ExportFormat;
+import com.i2i.user_management.Mapper.ExpenseMapper;
+import com.i2i.user_management.Model.Expense;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExpenseExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    void write_ShouldWriteOneJsonObjectPerLine_ForNdjson() throws IOException {
+        //arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExpenseResponseDto dto = ExpenseMapper.toDto(TestData.getExpense(TestData.getUser()));
+
+        //act
+        try (ExpenseExportWriter writer = ExpenseExportWriter.open(out, ExportFormat.NDJSON, objectMapper)) {
+            writer.write(dto);
+            writer.write(dto);
+        }
+
+        //assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        JsonNode row = objectMapper.readTree(lines[1]);
+        assertEquals(dto.getId().toString(), row.get("id").asText());
+        assertEquals(0, dto.getAmountInInr().compareTo(row.get("amountInInr").decimalValue()));
+    }
+
+    @Test
+    void write_ShouldQuoteCsvValues_ContainingSeparatorsOrQuotes() throws IOException {
+        //arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Expense expense = TestData.getExpense(TestData.getUser());
+        expense.setTitle("Taxi, airport");
+        expense.setDescription("Said \"urgent\"");
+        ExpenseResponseDto dto = ExpenseMapper.toDto(expense);
+
+        //act
+        try (ExpenseExportWriter writer = ExpenseExportWriter.open(out, ExportFormat.CSV, objectMapper)) {
+            writer.write(dto);
+        }
+
+        //assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("id,title,description,"));
+        assertTrue(lines[1].startsWith(dto.getId() + ",\"Taxi, airport\",\"Said \"\"urgent\"\"\","));
+    }
+}
@@ -0,0 +1,62 @@
+package com.i2i.user_management.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RollupPeriodTest {
+
+    @Test
+    void of_ShouldSplitPartialMonths_AtBothEnds() {
+        //act
+        RollupPeriod period = RollupPeriod.of(LocalDate.of(2025, 1, 15), LocalDate.of(2025, 4, 10));
+
+        //assert
+        assertTrue(period.hasWholeMonths());
+        assertEquals(LocalDate.of(2025, 2, 1), period.firstMonth());
+        assertEquals(LocalDate.of(2025, 3, 1), period.lastMonth());
+        assertEquals(List.of(
+                new RollupPeriod.DateRange(LocalDate.of(2025, 1, 15), LocalDate.of(2025, 1, 31)),
+                new RollupPeriod.DateRange(LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 10))),
+                period.partialRanges());
+    }
+
+    @Test
+    void of_ShouldUseOnlyRollups_ForOpenOrMonthAlignedRanges() {
+        //act
+        RollupPeriod open = RollupPeriod.of(null, null);
+        RollupPeriod aligned = RollupPeriod.of(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29));
+
+        //assert
+        assertTrue(open.hasWholeMonths());
+        assertNull(open.firstMonth());
+        assertNull(open.lastMonth());
+        assertTrue(open.partialRanges().isEmpty());
+        assertEquals(LocalDate.of(2024, 2, 1), aligned.firstMonth());
+        assertEquals(LocalDate.of(2024, 2, 1), aligned.lastMonth());
+        assertTrue(aligned.partialRanges().isEmpty());
+    }
+
+    @Test
+    void of_ShouldKeepWholeRange_WhenNoMonthIsCovered() {
+        //arrange
+        LocalDate from = LocalDate.of(2025, 1, 15);
+        LocalDate to = LocalDate.of(2025, 2, 10);
+
+        //act
+        RollupPeriod period = RollupPeriod.of(from, to);
+        RollupPeriod reversed = RollupPeriod.of(to, from);
+
+        //assert
+        assertFalse(period.hasWholeMonths());
+        assertEquals(List.of(new RollupPeriod.DateRange(from, to)), period.partialRanges());
+        assertFalse(reversed.hasWholeMonths());
+        assertTrue(reversed.partialRanges().isEmpty());
+    }
+}
@@ -17,6 +17,7 @@ import com.i2i.user_management.Model.User;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -87,6 +88,9 @@ public class TestData {
                 .expenseDate(LocalDate.now())
                 .amount(BigDecimal.valueOf(200))
                 .currency("USD")
+                .amountInInr(BigDecimal.valueOf(40000))
+                .fxRate(TestConstants.RATE)
+                .fxRateAt(LocalDateTime.now())
                 .status(ExpenseStatus.PENDING)
                 .requestedBy(user)
                 .isDeleted(false)
@@ -118,19 +122,25 @@ public class TestData {
         s1.setEmployeeName("Test name 1");
         s1.setCurrency("USD");
         s1.setTotalAmount(BigDecimal.valueOf(100));
+        s1.setTotalApprovedInInr(BigDecimal.valueOf(20000));
+        s1.setUnconvertedAmount(BigDecimal.ZERO);
 
         EmployeeExpenseSummaryDto s2 = new EmployeeExpenseSummaryDto();
         s2.setEmployeeName("Test name 2");
         s2.setCurrency("EUR");
         s2.setTotalAmount(BigDecimal.valueOf(200));
+        s2.setTotalApprovedInInr(BigDecimal.valueOf(40000));
+        s2.setUnconvertedAmount(BigDecimal.ZERO);
 
         return List.of(s1, s2);
     }
 
     public static List<CurrencySummaryDto> getCurrencySummaries() {
-        CurrencySummaryDto s1 = new CurrencySummaryDto(TestConstants.CURRENCY_USD, TestConstants.RATE);
+        CurrencySummaryDto s1 = new CurrencySummaryDto(TestConstants.CURRENCY_USD, TestConstants.RATE,
+                BigDecimal.valueOf(16000), BigDecimal.ZERO);
 
-        CurrencySummaryDto s2 = new CurrencySummaryDto(TestConstants.CURRENCY_EUR, TestConstants.RATE);
+        CurrencySummaryDto s2 = new CurrencySummaryDto(TestConstants.CURRENCY_EUR, TestConstants.RATE,
+                BigDecimal.valueOf(18000), BigDecimal.ZERO);
 
         return List.of(s1, s2);
     }